@@ -4,9 +4,8 @@ import com.opencsv.enums.CSVReaderNullFieldIndicator;
 import org.apache.commons.lang3.StringUtils;
 
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.regex.Pattern;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 /**
  * The purpose of the AbstractCSVParser is to consolidate the duplicate code amongst the
@@ -57,6 +56,19 @@ public abstract class AbstractCSVParser implements ICSVParser {
      */
     protected String pending;
 
+    /**
+     * Whether a subclass of {@link CSVParser} or {@link RFC4180Parser}
+     * overrides {@link #convertToCsvValue(String, boolean)}, which the fast
+     * path of these parsers would otherwise skip.
+     */
+    final boolean convertToCsvValueOverridden;
+
+    /**
+     * Whether a subclass of {@link CSVParser} or {@link RFC4180Parser}
+     * overrides {@link #isSurroundWithQuotes(String, boolean)}.
+     */
+    final boolean isSurroundWithQuotesOverridden;
+
     /**
      * Common constructor.
      *
@@ -74,6 +86,23 @@ public abstract class AbstractCSVParser implements ICSVParser {
         this.quoteMatcherPattern = Pattern.compile(quotecharAsString);
 
         this.nullFieldIndicator = nullFieldIndicator;
+
+        this.convertToCsvValueOverridden = overrides("convertToCsvValue", String.class, boolean.class);
+        this.isSurroundWithQuotesOverridden = overrides("isSurroundWithQuotes", String.class, boolean.class);
+    }
+
+    private boolean overrides(String name, Class<?>... parameterTypes) {
+        for (Class<?> type = getClass();
+             type != CSVParser.class && type != RFC4180Parser.class && type != AbstractCSVParser.class;
+             type = type.getSuperclass()) {
+            try {
+                type.getDeclaredMethod(name, parameterTypes);
+                return true;
+            } catch (NoSuchMethodException e) {
+                // Not declared in this class, so look further up.
+            }
+        }
+        return false;
     }
 
     @Override
@@ -118,9 +147,14 @@ public abstract class AbstractCSVParser implements ICSVParser {
 
     @Override
     public String parseToLine(String[] values, boolean applyQuotesToAll) {
-        return Stream.of(values)
-                .map(v -> convertToCsvValue(v, applyQuotesToAll))
-                .collect(Collectors.joining(getSeparatorAsString()));
+        StringBuilder builder = new StringBuilder(INITIAL_READ_SIZE);
+        try {
+            parseToLine(values, applyQuotesToAll, builder);
+        } catch (IOException e) {
+            // A StringBuilder does not throw IOExceptions.
+            throw new UncheckedIOException(e);
+        }
+        return builder.toString();
     }
 
     @Override
@@ -139,6 +173,11 @@ public abstract class AbstractCSVParser implements ICSVParser {
     /**
      * Used when reverse parsing an array of strings to a single string.  Handles the application of quotes around
      * the string and handling any quotes within the string.
+     * <p>
+     * As of 5.8, {@link CSVParser} and {@link RFC4180Parser} implement this with
+     * {@link #convertToCsvValue(String, boolean, Appendable)} rather than the other way round. Both variants of
+     * {@link #parseToLine(String[], boolean)} still call this method for every value if a subclass of these parsers
+     * overrides it, though without the benefit of appending the value directly.
      *
      * @param value            String to be converted
      * @param applyQuotestoAll All values should be surrounded with quotes
@@ -163,6 +202,9 @@ public abstract class AbstractCSVParser implements ICSVParser {
 
     /**
      * Used by reverse parsing to determine if a value should be surrounded by quote characters.
+     * <p>
+     * {@link CSVParser} and {@link RFC4180Parser} only call this if a subclass overrides it. Otherwise they decide
+     * the same from the scan of the value they make anyway.
      *
      * @param value         String to be tested
      * @param forceSurround If the value is not {@code null} it will be surrounded with quotes
@@ -178,6 +220,69 @@ public abstract class AbstractCSVParser implements ICSVParser {
         return forceSurround || value.contains(getSeparatorAsString()) || value.contains(NEWLINE);
     }
 
+    /**
+     * Decides whether a value is surrounded by quote characters, given the
+     * results of a scan of the value that has already been made. This is
+     * equivalent to {@link #isSurroundWithQuotes(String, boolean)} without
+     * scanning the value again, unless a subclass overrides that method, in
+     * which case it is called.
+     *
+     * @param value                      String to be tested
+     * @param applyQuotesToAll           All values should be surrounded with quotes
+     * @param forceSurround              Passed on to {@link #isSurroundWithQuotes(String, boolean)}
+     * @param containsSeparatorOrNewline Whether the value contains the
+     *                                   separator or a newline
+     * @return True if the string should be surrounded with quotes, false otherwise
+     */
+    boolean isSurroundWithQuotesAfterScan(String value, boolean applyQuotesToAll, boolean forceSurround,
+                                          boolean containsSeparatorOrNewline) {
+        if (applyQuotesToAll) {
+            return true;
+        }
+        if (isSurroundWithQuotesOverridden) {
+            return isSurroundWithQuotes(value, forceSurround);
+        }
+        if (value == null) {
+            return nullFieldIndicator.equals(CSVReaderNullFieldIndicator.EMPTY_QUOTES);
+        } else if (value.isEmpty() && nullFieldIndicator.equals(CSVReaderNullFieldIndicator.EMPTY_SEPARATORS)) {
+            return true;
+        }
+        return forceSurround || containsSeparatorOrNewline;
+    }
+
+    /**
+     * Converts a value in the form {@link #appendCsvValue(String, boolean, Appendable)}
+     * would append it.
+     *
+     * @param value            String to be converted
+     * @param applyQuotesToAll All values should be surrounded with quotes
+     * @return String that will go into the CSV string
+     */
+    String convertToCsvValueThroughAppendable(String value, boolean applyQuotesToAll) {
+        StringBuilder builder = new StringBuilder(value == null ? MAX_SIZE_FOR_EMPTY_FIELD : value.length() + 2);
+        try {
+            appendCsvValue(value, applyQuotesToAll, builder);
+        } catch (IOException e) {
+            // A StringBuilder does not throw IOExceptions.
+            throw new UncheckedIOException(e);
+        }
+        return builder.toString();
+    }
+
+    /**
+     * Appends a value as the parser encodes it by itself, without calling
+     * {@link #convertToCsvValue(String, boolean)}, so that an overriding
+     * method may call the inherited one.
+     *
+     * @param value            String to be converted
+     * @param applyQuotesToAll All values should be surrounded with quotes
+     * @param appendable       Appendable object that the converted value is added to
+     * @throws IOException If the appendable throws it
+     */
+    void appendCsvValue(String value, boolean applyQuotesToAll, Appendable appendable) throws IOException {
+        convertToCsvValue(value, applyQuotesToAll, appendable);
+    }
+
     /**
      * Parses an incoming {@link java.lang.String} and returns an array of elements.
      *
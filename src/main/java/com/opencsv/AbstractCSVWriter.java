@@ -2,9 +2,16 @@ package com.opencsv;
 
 import java.io.IOException;
 import java.io.PrintWriter;
+import java.io.UncheckedIOException;
 import java.io.Writer;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Spliterator;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ForkJoinPool;
 
 /**
  * The AbstractCSVWriter was created to prevent duplication of code between the CSVWriter and the
@@ -14,6 +21,9 @@ import java.sql.SQLException;
  */
 public abstract class AbstractCSVWriter implements ICSVWriter {
 
+    /** The number of lines encoded together by {@link #writeAllParallel(Spliterator, boolean)}. */
+    private static final int PARALLEL_CHUNK_SIZE = 512;
+
     protected final Writer writer;
     protected String lineEnd;
     protected ResultSetHelper resultService;
@@ -43,6 +53,118 @@ public abstract class AbstractCSVWriter implements ICSVWriter {
         }
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>Lines are taken from the spliterator in chunks, each chunk is
+     * encoded by {@link #appendLine(String[], boolean, Appendable)} in the
+     * common {@link ForkJoinPool}, and the encoded chunks are written in
+     * their original order by the calling thread. No more than a few chunks
+     * per available thread are held in memory at any time.</p>
+     * <p>Only the writers supplied with opencsv are known to encode lines
+     * without side effects. Subclasses, which may override
+     * {@link #writeNext(String[], boolean, Appendable)}, and a
+     * {@link CSVParserWriter} with a parser other than {@link CSVParser} or
+     * {@link RFC4180Parser} write the lines one after the other, as does any
+     * writer that does not support
+     * {@link #appendLine(String[], boolean, Appendable)}.</p>
+     */
+    @Override
+    public void writeAllParallel(Spliterator<String[]> allLines, boolean applyQuotesToAll) {
+        int maxPending = 2 * Math.max(ForkJoinPool.getCommonPoolParallelism(), 1);
+        Deque<CompletableFuture<StringBuilder>> pending = new ArrayDeque<>(maxPending);
+        char[] chars = new char[0];
+        try {
+            if (!encodesLinesInParallel() || !appendLine(null, applyQuotesToAll, new StringBuilder(0))) {
+                ICSVWriter.super.writeAllParallel(allLines, applyQuotesToAll);
+                return;
+            }
+
+            boolean more = true;
+            while (more || !pending.isEmpty()) {
+                if (more) {
+                    String[][] chunk = new String[PARALLEL_CHUNK_SIZE][];
+                    int[] size = {0};
+                    while (size[0] < chunk.length && allLines.tryAdvance(line -> chunk[size[0]++] = line)) {
+                        // Filled by tryAdvance
+                    }
+                    more = size[0] == chunk.length;
+                    if (size[0] > 0) {
+                        pending.add(CompletableFuture.supplyAsync(
+                                () -> appendChunk(chunk, size[0], applyQuotesToAll)));
+                    }
+                }
+                if (!pending.isEmpty() && (!more || pending.size() >= maxPending)) {
+                    StringBuilder encoded = pending.remove().join();
+                    if (chars.length < encoded.length()) {
+                        chars = new char[encoded.length()];
+                    }
+                    encoded.getChars(0, encoded.length(), chars, 0);
+                    writeEncoded(chars, 0, encoded.length());
+                }
+            }
+        } catch (IOException e) {
+            exception = e;
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof UncheckedIOException) {
+                exception = ((UncheckedIOException) e.getCause()).getCause();
+            } else if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            } else {
+                throw e;
+            }
+        } finally {
+            pending.forEach(f -> f.cancel(false));
+        }
+    }
+
+    private StringBuilder appendChunk(String[][] chunk, int size, boolean applyQuotesToAll) {
+        StringBuilder sb = new StringBuilder(INITIAL_STRING_SIZE * 4);
+        try {
+            for (int i = 0; i < size; i++) {
+                appendLine(chunk[i], applyQuotesToAll, sb);
+            }
+        } catch (IOException e) {
+            // A StringBuilder does not throw, but a subclass might.
+            throw new UncheckedIOException(e);
+        }
+        return sb;
+    }
+
+    /**
+     * Converts a line into CSV text, including the line end, without
+     * writing it.
+     * <p>This is what allows {@link #writeAllParallel(Spliterator, boolean)}
+     * to encode lines on several threads, so implementations must not change
+     * the state of the writer. A {@code null} line produces no text.</p>
+     * <p>The default implementation does nothing and returns {@code false},
+     * which means that lines cannot be encoded separately from being
+     * written.</p>
+     *
+     * @param nextLine         The line to be encoded, or {@code null}
+     * @param applyQuotesToAll True if all values are to be quoted
+     * @param appendable       The text of the line is appended here
+     * @return Whether this writer supports encoding lines separately
+     * @throws IOException If the appendable throws it
+     * @since 5.8
+     */
+    protected boolean appendLine(String[] nextLine, boolean applyQuotesToAll, Appendable appendable) throws IOException {
+        return false;
+    }
+
+    /**
+     * Writes text produced by
+     * {@link #appendLine(String[], boolean, Appendable)} to the output.
+     *
+     * @param chars  The encoded lines
+     * @param offset The position of the first character to be written
+     * @param length The number of characters to be written
+     * @throws IOException If the output cannot be written
+     * @since 5.8
+     */
+    protected void writeEncoded(char[] chars, int offset, int length) throws IOException {
+        writer.write(chars, offset, length);
+    }
+
     /**
      * Writes the column names.
      *
@@ -63,14 +185,55 @@ public abstract class AbstractCSVWriter implements ICSVWriter {
             linesWritten++;
         }
 
-        while (rs.next()) {
-            writeNext(resultService().getColumnValues(rs, trim), applyQuotesToAll);
-            linesWritten++;
+        ResultSetHelper helper = resultService();
+        if (helper.getClass() == ResultSetHelperService.class && isSuppliedWriter()) {
+            // Every line is written before the next is read, so one array will do.
+            ResultSetHelperService service = (ResultSetHelperService) helper;
+            String[] row = null;
+            while (rs.next()) {
+                row = service.getColumnValues(rs, trim, row);
+                writeNext(row, applyQuotesToAll);
+                linesWritten++;
+            }
+        } else {
+            while (rs.next()) {
+                writeNext(helper.getColumnValues(rs, trim), applyQuotesToAll);
+                linesWritten++;
+            }
         }
 
         return linesWritten;
     }
 
+    /**
+     * Whether this is exactly one of the writers supplied with opencsv, and
+     * not a subclass. Only these are known to be done with a line when
+     * {@link #writeNext(String[], boolean)} returns, so that the array may be
+     * reused, and to encode lines in
+     * {@link #appendLine(String[], boolean, Appendable)} just as
+     * {@link #writeNext(String[], boolean, Appendable)} would.
+     */
+    private boolean isSuppliedWriter() {
+        Class<?> type = getClass();
+        return type == CSVWriter.class || type == BufferedCSVWriter.class || type == Utf8CSVWriter.class
+                || type == CSVParserWriter.class;
+    }
+
+    /**
+     * Whether lines may be encoded on several threads at once. This also
+     * needs a parser that is known to allow it.
+     */
+    private boolean encodesLinesInParallel() {
+        if (!isSuppliedWriter()) {
+            return false;
+        }
+        if (this instanceof CSVParserWriter) {
+            Class<?> parser = ((CSVParserWriter) this).parser.getClass();
+            return parser == CSVParser.class || parser == RFC4180Parser.class;
+        }
+        return true;
+    }
+
     @Override
     public void writeNext(String[] nextLine, boolean applyQuotesToAll) {
         try {
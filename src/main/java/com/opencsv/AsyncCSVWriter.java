@@ -0,0 +1,446 @@
+package com.opencsv;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.ResourceBundle;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * An {@link ICSVWriter} that passes lines on to another writer on a
+ * background thread, so that the thread producing the lines does not wait
+ * for the output.
+ * <p>Lines are collected in a buffer of a fixed number of lines. When the
+ * buffer is full, it is handed to the background thread, which writes its
+ * lines to the wrapped writer while the producer fills the next buffer.
+ * Buffers are reused once they have been written. The number of full
+ * buffers that may wait to be written is limited by the queue depth; a
+ * producer that gets that far ahead of the output waits until a buffer is
+ * free again. A queue depth of one is classic double buffering.</p>
+ * <p>The wrapped writer is used by one thread at a time, almost always the
+ * background thread, so it need not be thread-safe. The quickest
+ * combination is usually a {@link BufferedCSVWriter}, as created by
+ * {@link CSVWriterBuilder#withBufferSize(int)}, so that the lines are also
+ * encoded on the background thread.</p>
+ * <p>{@link #flush()} hands over the lines collected so far and waits until
+ * they have been written and the wrapped writer has been flushed. If a flush
+ * interval is given, the background thread also does this by itself
+ * whenever no lines have arrived for that long, so that a slow trickle of
+ * lines does not stay in memory indefinitely. {@link #close()} writes all
+ * remaining lines, closes the wrapped writer and stops the background
+ * thread; it must always be called.</p>
+ * <p>Errors of the wrapped writer are recorded and reported by
+ * {@link #checkError()} and {@link #getException()}, as for every
+ * {@link ICSVWriter}. Since lines are written later, an error may be
+ * reported some lines after the one that caused it.</p>
+ * <p>The lines passed to {@link #writeNext(String[], boolean)} are written
+ * as they are at the time the background thread gets to them, so arrays
+ * must not be modified after they have been passed in. All methods may be
+ * called from several threads.</p>
+ * <pre>
+ * {@code
+ * try (ICSVWriter writer = new AsyncCSVWriter(new CSVWriterBuilder(fileWriter).withBufferSize(1 << 16).build())) {
+ *     new StatefulBeanToCsvBuilder<Trade>(writer).build().write(trades);
+ * }
+ * }
+ * </pre>
+ *
+ * @since 5.8
+ */
+public class AsyncCSVWriter implements ICSVWriter {
+
+    /** The number of lines in a buffer if none is given. */
+    public static final int DEFAULT_BATCH_SIZE = 1024;
+
+    /** The number of full buffers that may wait to be written if none is given. */
+    public static final int DEFAULT_QUEUE_DEPTH = 2;
+
+    /** A buffer of lines, with instructions for the background thread. */
+    private static final class Batch {
+        private final String[][] lines;
+        private final boolean[] applyQuotesToAll;
+        private int size;
+        private boolean flush;
+        private boolean close;
+
+        private Batch(int capacity) {
+            lines = new String[capacity][];
+            applyQuotesToAll = new boolean[capacity];
+        }
+
+        private boolean isFull() {
+            return size == lines.length;
+        }
+
+        private void clear() {
+            Arrays.fill(lines, 0, size, null);
+            size = 0;
+            flush = false;
+        }
+    }
+
+    private final ICSVWriter writer;
+    private final long flushIntervalMillis;
+    private final BlockingQueue<Batch> full;
+    private final BlockingQueue<Batch> free;
+    private final Thread thread;
+
+    /**
+     * Guards the state of the producers. The background thread only ever
+     * tries to acquire it, so that a producer holding it while it waits for
+     * the background thread cannot block that thread.
+     */
+    private final ReentrantLock lock = new ReentrantLock();
+
+    /** The buffer being filled. Guarded by {@link #lock}. */
+    private Batch current;
+
+    /** The number of buffers handed to the background thread. Guarded by {@link #lock}. */
+    private long handedOver;
+
+    /** The number of buffers written by the background thread. Guarded by {@link #progress}. */
+    private long completed;
+    private final Object progress = new Object();
+
+    private boolean closed;
+    private volatile IOException exception;
+
+    /** An exception from the last flush or close requested by a producer. */
+    private volatile IOException flushException;
+
+    private ResultSetHelper resultService;
+
+    /**
+     * Creates an asynchronous writer with the default buffer size and queue
+     * depth and without periodic flushing.
+     *
+     * @param writer The writer the lines are passed on to
+     */
+    public AsyncCSVWriter(ICSVWriter writer) {
+        this(writer, DEFAULT_BATCH_SIZE, DEFAULT_QUEUE_DEPTH, 0);
+    }
+
+    /**
+     * Creates an asynchronous writer.
+     *
+     * @param writer              The writer the lines are passed on to
+     * @param batchSize           The number of lines collected before they are
+     *                            handed to the background thread
+     * @param queueDepth          The number of full buffers that may wait to
+     *                            be written
+     * @param flushIntervalMillis If positive, the time in milliseconds
+     *                            without new lines after which everything
+     *                            collected so far is written and flushed
+     * @throws IllegalArgumentException If the batch size or the queue depth
+     *   is not positive
+     */
+    public AsyncCSVWriter(ICSVWriter writer, int batchSize, int queueDepth, long flushIntervalMillis) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException(Integer.toString(batchSize));
+        }
+        if (queueDepth <= 0) {
+            throw new IllegalArgumentException(Integer.toString(queueDepth));
+        }
+        this.writer = writer;
+        this.flushIntervalMillis = flushIntervalMillis;
+        full = new ArrayBlockingQueue<>(queueDepth + 1);
+        free = new ArrayBlockingQueue<>(queueDepth + 1);
+        for (int i = 0; i < queueDepth; i++) {
+            free.add(new Batch(batchSize));
+        }
+        current = new Batch(batchSize);
+        thread = new Thread(this::run, "opencsv-async-writer");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    @Override
+    public void writeNext(String[] nextLine, boolean applyQuotesToAll) {
+        lock.lock();
+        try {
+            if (closed) {
+                exception = new IOException(ResourceBundle.getBundle(ICSVParser.DEFAULT_BUNDLE_NAME)
+                        .getString("writer.closed"));
+                return;
+            }
+            current.lines[current.size] = nextLine;
+            current.applyQuotesToAll[current.size++] = applyQuotesToAll;
+            if (current.isFull()) {
+                handOver();
+            }
+        } catch (InterruptedIOException e) {
+            exception = e;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void writeAll(Iterable<String[]> allLines, boolean applyQuotesToAll) {
+        for (String[] line : allLines) {
+            writeNext(line, applyQuotesToAll);
+        }
+    }
+
+    @Override
+    public int writeAll(ResultSet rs, boolean includeColumnNames, boolean trim, boolean applyQuotesToAll) throws SQLException, IOException {
+        int linesWritten = 0;
+        ResultSetHelper helper = resultService();
+        if (includeColumnNames) {
+            writeNext(helper.getColumnNames(rs), applyQuotesToAll);
+            linesWritten++;
+        }
+        while (rs.next()) {
+            writeNext(helper.getColumnValues(rs, trim), applyQuotesToAll);
+            linesWritten++;
+        }
+        return linesWritten;
+    }
+
+    private ResultSetHelper resultService() {
+        lock.lock();
+        try {
+            if (resultService == null) {
+                resultService = new ResultSetHelperService();
+            }
+            return resultService;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void setResultService(ResultSetHelper resultService) {
+        lock.lock();
+        try {
+            this.resultService = resultService;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Hands the current buffer to the background thread and takes a free one.
+     * Must be called while holding {@link #lock}.
+     */
+    private void handOver() throws InterruptedIOException {
+        try {
+            full.put(current);
+            handedOver++;
+            current = free.take();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException(e.getLocalizedMessage());
+        }
+    }
+
+    /**
+     * Hands over the current buffer with an instruction for the background
+     * thread and waits until it has been carried out.
+     */
+    private void handOverAndWait(boolean close) throws IOException {
+        current.flush = true;
+        current.close = close;
+        flushException = null;
+        Batch last = current;
+        if (close) {
+            try {
+                full.put(last);
+                handedOver++;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException(e.getLocalizedMessage());
+            }
+        } else {
+            handOver();
+        }
+        long target = handedOver;
+        synchronized (progress) {
+            while (completed < target && thread.isAlive()) {
+                try {
+                    progress.wait();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new InterruptedIOException(e.getLocalizedMessage());
+                }
+            }
+        }
+        IOException e = flushException;
+        if (e != null) {
+            throw e;
+        }
+    }
+
+    /**
+     * Writes all lines collected so far and flushes the wrapped writer,
+     * waiting until both are done.
+     *
+     * @throws IOException If the wrapped writer cannot be flushed
+     */
+    @Override
+    public void flush() throws IOException {
+        lock.lock();
+        try {
+            if (!closed) {
+                handOverAndWait(false);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Writes all remaining lines, closes the wrapped writer and stops the
+     * background thread.
+     *
+     * @throws IOException If the wrapped writer cannot be flushed or closed
+     */
+    @Override
+    public void close() throws IOException {
+        lock.lock();
+        try {
+            if (!closed) {
+                closed = true;
+                handOverAndWait(true);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Writes all lines collected so far and checks whether an error has
+     * occurred.
+     *
+     * @return Whether the wrapped writer has encountered an error
+     */
+    @Override
+    public boolean checkError() {
+        lock.lock();
+        try {
+            if (!closed) {
+                try {
+                    handOverAndWait(false);
+                } catch (IOException e) {
+                    // Recorded in exception
+                }
+                synchronized (writer) {
+                    if (writer.checkError() && exception == null) {
+                        exception = writer.getException();
+                    }
+                }
+            }
+            return exception != null;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public IOException getException() {
+        return exception;
+    }
+
+    @Override
+    public void resetError() {
+        lock.lock();
+        try {
+            exception = null;
+            synchronized (writer) {
+                writer.resetError();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /** The loop of the background thread. */
+    private void run() {
+        try {
+            writeBatches();
+        } finally {
+            synchronized (progress) {
+                progress.notifyAll();
+            }
+        }
+    }
+
+    private void writeBatches() {
+        boolean dirty = false;
+        while (true) {
+            Batch batch;
+            try {
+                batch = flushIntervalMillis > 0
+                        ? full.poll(flushIntervalMillis, TimeUnit.MILLISECONDS)
+                        : full.take();
+            } catch (InterruptedException e) {
+                exception = new InterruptedIOException(e.getLocalizedMessage());
+                return;
+            }
+
+            if (batch == null) {
+                // Nothing new for a whole interval, so write what is there.
+                // A producer holding the lock is busy itself, and may be
+                // waiting for this thread, so the interval is skipped.
+                if (!lock.tryLock()) {
+                    continue;
+                }
+                try {
+                    if (closed || !full.isEmpty() || (current.size == 0 && !dirty)) {
+                        continue;
+                    }
+                    batch = current;
+                    batch.flush = true;
+                    current = free.poll();
+                    handedOver++;
+                } finally {
+                    lock.unlock();
+                }
+            }
+
+            write(batch);
+            dirty = !batch.flush;
+            boolean close = batch.close;
+            batch.clear();
+            synchronized (progress) {
+                completed++;
+                progress.notifyAll();
+            }
+            if (close) {
+                return;
+            }
+            free.add(batch);
+        }
+    }
+
+    /** Passes the lines of a buffer on and carries out its instructions. */
+    private void write(Batch batch) {
+        synchronized (writer) {
+            try {
+                for (int i = 0; i < batch.size; i++) {
+                    writer.writeNext(batch.lines[i], batch.applyQuotesToAll[i]);
+                }
+                if (batch.close) {
+                    writer.close();
+                } else if (batch.flush) {
+                    writer.flush();
+                }
+            } catch (IOException | RuntimeException e) {
+                IOException ioe = e instanceof IOException ? (IOException) e : new IOException(e);
+                exception = ioe;
+                if (batch.flush) {
+                    flushException = ioe;
+                }
+            }
+            IOException e = writer.getException();
+            if (e != null && exception == null) {
+                exception = e;
+            }
+        }
+    }
+}
@@ -0,0 +1,583 @@
+package com.opencsv;
+
+import org.apache.commons.lang3.StringUtils;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.sql.Clob;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+
+/**
+ * A {@link CSVWriter} that encodes lines directly into a buffer of its own.
+ * <p>The output is identical to that of {@link CSVWriter} with the same
+ * configuration. The difference is in how it is produced: instead of
+ * assembling every line in a {@link StringBuilder} and handing the writer a
+ * new String, each field is scanned once for characters that require
+ * quoting, copied into a large character buffer in bulk, and the buffer is
+ * passed to the underlying {@link Writer} only when it is full or when the
+ * writer is flushed. This makes the underlying writer's own buffering
+ * unnecessary.</p>
+ * <p>Since output is held back until the buffer is full, {@link #flush()}
+ * or {@link #close()} must be called to make sure everything is written.
+ * The methods {@link #stringContainsSpecialCharacters(String)},
+ * {@link #processLine(String, Appendable)} and
+ * {@link #processCharacter(Appendable, char)} are not used.</p>
+ * <p>When a {@link ResultSet} is written with the default
+ * {@link ResultSetHelperService}, CLOB and NCLOB values longer than the
+ * buffer are not read into a String, but streamed from
+ * {@link Clob#getCharacterStream()} into the buffer in chunks, and escaped
+ * on the way. Since their content is not known in advance, such values are
+ * always quoted if there is a quote character. If a row cannot be read
+ * completely, the part of it still in the buffer is discarded before the
+ * exception is thrown; if part of it has already been passed on, which is
+ * likely for a streamed value, the output ends with that incomplete record
+ * and should not be used.</p>
+ *
+ * @see CSVWriterBuilder#withBufferSize(int)
+ * @since 5.8
+ */
+public class BufferedCSVWriter extends CSVWriter {
+
+    /** The buffer size used if none is given. */
+    public static final int DEFAULT_BUFFER_SIZE = 1 << 16;
+
+    private final char[] buffer;
+    private int position;
+
+    /** Counts how often characters have been passed on to the output. */
+    private long passedOn;
+
+    /**
+     * For every character below the length of the table, whether its
+     * presence forces a field to be quoted.
+     */
+    private final boolean[] special;
+
+    /**
+     * For every character below the length of the table, whether it must be
+     * preceded by the escape character in a field that contains special
+     * characters.
+     */
+    private final boolean[] escaped;
+
+    private final char[] lineEndChars;
+
+    /** The chunk large objects are read into, created when first needed. */
+    private char[] streamChunk;
+
+    /**
+     * Constructs a BufferedCSVWriter with supplied separator, quote char,
+     * escape char, line ending and buffer size.
+     *
+     * @param writer     The writer to an underlying CSV source.
+     * @param separator  The delimiter to use for separating entries
+     * @param quotechar  The character to use for quoted elements
+     * @param escapechar The character to use for escaping quotechars or escapechars
+     * @param lineEnd    The line feed terminator to use
+     * @param bufferSize The number of characters collected before they are
+     *                   passed to {@code writer}
+     * @throws IllegalArgumentException If the buffer size is not positive
+     */
+    public BufferedCSVWriter(Writer writer, char separator, char quotechar, char escapechar, String lineEnd,
+                             int bufferSize) {
+        super(writer, separator, quotechar, escapechar, lineEnd);
+        if (bufferSize <= 0) {
+            throw new IllegalArgumentException(Integer.toString(bufferSize));
+        }
+        buffer = new char[bufferSize];
+        lineEndChars = lineEnd.toCharArray();
+
+        char[] specialChars = {quotechar, escapechar, separator, '\n', '\r'};
+        special = tableOf(specialChars);
+        if (escapechar == NO_ESCAPE_CHARACTER) {
+            escaped = new boolean[0];
+        } else if (quotechar == NO_QUOTE_CHARACTER) {
+            escaped = tableOf(new char[]{quotechar, escapechar, separator, '\n'});
+        } else {
+            escaped = tableOf(new char[]{quotechar, escapechar});
+        }
+    }
+
+    private static boolean[] tableOf(char[] chars) {
+        int max = 0;
+        for (char c : chars) {
+            max = Math.max(max, c);
+        }
+        boolean[] table = new boolean[max + 1];
+        for (char c : chars) {
+            table[c] = true;
+        }
+        return table;
+    }
+
+    @Override
+    public void writeAll(Iterable<String[]> allLines, boolean applyQuotesToAll) {
+        try {
+            for (String[] line : allLines) {
+                writeNext(line, applyQuotesToAll, null);
+            }
+        } catch (IOException e) {
+            exception = e;
+        }
+    }
+
+    @Override
+    public int writeAll(ResultSet rs, boolean includeColumnNames, boolean trim, boolean applyQuotesToAll)
+            throws SQLException, IOException {
+        ResultSetHelper helper = resultService();
+        if (helper.getClass() != ResultSetHelperService.class) {
+            return super.writeAll(rs, includeColumnNames, trim, applyQuotesToAll);
+        }
+        ResultSetHelperService service = (ResultSetHelperService) helper;
+        int[] types = service.getColumnTypes(rs);
+        boolean characterObjects = false;
+        for (int type : types) {
+            characterObjects |= ResultSetHelperService.isCharacterObject(type);
+        }
+        if (!characterObjects) {
+            return super.writeAll(rs, includeColumnNames, trim, applyQuotesToAll);
+        }
+
+        int linesWritten = 0;
+        if (includeColumnNames) {
+            writeColumnNames(rs, applyQuotesToAll);
+            linesWritten++;
+        }
+        boolean quoteAll = applyQuotesToAll && quotechar != NO_QUOTE_CHARACTER;
+        while (rs.next()) {
+            int rowStart = position;
+            long passedOnBefore = passedOn;
+            try {
+                putRow(rs, service, types, trim, quoteAll);
+            } catch (UncheckedIOException e) {
+                // Reading a large object failed, as opposed to writing.
+                discardRow(rowStart, passedOnBefore);
+                throw e.getCause();
+            } catch (SQLException e) {
+                discardRow(rowStart, passedOnBefore);
+                throw e;
+            } catch (IOException e) {
+                exception = e;
+            }
+            linesWritten++;
+        }
+        return linesWritten;
+    }
+
+    /**
+     * Removes the part of a row that could not be read completely from the
+     * buffer. What has already been passed on cannot be taken back.
+     */
+    private void discardRow(int rowStart, long passedOnBefore) {
+        position = passedOn == passedOnBefore ? rowStart : 0;
+    }
+
+    /**
+     * Writes the current row of a result set, reading the columns in order,
+     * as some drivers require.
+     */
+    private void putRow(ResultSet rs, ResultSetHelperService service, int[] types, boolean trim, boolean quoteAll)
+            throws SQLException, IOException {
+        for (int i = 0; i < types.length; i++) {
+            if (i != 0) {
+                put(separator);
+            }
+            if (!ResultSetHelperService.isCharacterObject(types[i])) {
+                putField(service.getColumnValue(rs, i + 1, trim), quoteAll);
+                continue;
+            }
+            Clob clob = types[i] == Types.NCLOB ? rs.getNClob(i + 1) : rs.getClob(i + 1);
+            if (clob == null) {
+                putField(StringUtils.EMPTY, quoteAll);
+            } else if (clob.length() <= buffer.length) {
+                putField(clob.getSubString(1, (int) clob.length()), quoteAll);
+            } else {
+                putStreamedField(clob, quotechar != NO_QUOTE_CHARACTER);
+            }
+        }
+        put(lineEndChars);
+    }
+
+    /**
+     * Writes a large object chunk by chunk, escaping as necessary. Errors
+     * reading or closing the object are thrown as
+     * {@link UncheckedIOException}.
+     */
+    private void putStreamedField(Clob clob, boolean quote) throws SQLException, IOException {
+        if (streamChunk == null) {
+            streamChunk = new char[Math.min(buffer.length, ResultSetHelperService.CLOBBUFFERSIZE)];
+        }
+        char[] chunk = streamChunk;
+        boolean[] table = escaped;
+        if (quote) {
+            put(quotechar);
+        }
+        Reader reader = clob.getCharacterStream();
+        boolean complete = false;
+        try {
+            int length;
+            while ((length = read(reader, chunk)) != -1) {
+                int start = 0;
+                for (int i = 0; i < length; i++) {
+                    char c = chunk[i];
+                    if (c < table.length && table[c]) {
+                        put(chunk, start, i);
+                        put(escapechar);
+                        start = i;
+                    }
+                }
+                put(chunk, start, length);
+            }
+            complete = true;
+        } finally {
+            try {
+                reader.close();
+            } catch (IOException e) {
+                // An error while the value was being written takes precedence.
+                if (complete) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+        }
+        if (quote) {
+            put(quotechar);
+        }
+    }
+
+    private static int read(Reader reader, char[] chunk) {
+        try {
+            return reader.read(chunk, 0, chunk.length);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void writeNext(String[] nextLine, boolean applyQuotesToAll) {
+        try {
+            writeNext(nextLine, applyQuotesToAll, null);
+        } catch (IOException e) {
+            exception = e;
+        }
+    }
+
+    /**
+     * Writes the next line into the buffer.
+     *
+     * @param nextLine         a string array with each comma-separated element as a separate
+     *                         entry.
+     * @param applyQuotesToAll true if all values are to be quoted.  false applies quotes only
+     *                         to values which contain the separator, escape, quote or new line characters.
+     * @param appendable       Ignored. The line is written to the buffer of
+     *                         this writer.
+     * @throws IOException Exceptions thrown by the writer supplied to BufferedCSVWriter.
+     */
+    @Override
+    protected void writeNext(String[] nextLine, boolean applyQuotesToAll, Appendable appendable) throws IOException {
+        if (nextLine == null) {
+            return;
+        }
+
+        boolean quoteAll = applyQuotesToAll && quotechar != NO_QUOTE_CHARACTER;
+        for (int i = 0; i < nextLine.length; i++) {
+            if (i != 0) {
+                put(separator);
+            }
+
+            String nextElement = nextLine[i];
+            if (nextElement != null) {
+                putField(nextElement, quoteAll);
+            }
+        }
+        put(lineEndChars);
+    }
+
+    /**
+     * Encodes a line exactly as it would be written to the buffer, for
+     * {@link #writeAllParallel(java.util.Spliterator, boolean)}.
+     */
+    @Override
+    protected boolean appendLine(String[] nextLine, boolean applyQuotesToAll, Appendable appendable) throws IOException {
+        if (nextLine == null) {
+            return true;
+        }
+
+        boolean quoteAll = applyQuotesToAll && quotechar != NO_QUOTE_CHARACTER;
+        for (int i = 0; i < nextLine.length; i++) {
+            if (i != 0) {
+                appendable.append(separator);
+            }
+
+            String field = nextLine[i];
+            if (field == null) {
+                continue;
+            }
+            int length = field.length();
+            int firstSpecial = firstSpecial(field, length);
+            boolean quote = quoteAll || (firstSpecial < length && quotechar != NO_QUOTE_CHARACTER);
+            if (quote) {
+                appendable.append(quotechar);
+            }
+            int start = 0;
+            boolean[] table = escaped;
+            for (int j = firstSpecial; j < length; j++) {
+                char c = field.charAt(j);
+                if (c < table.length && table[c]) {
+                    appendable.append(field, start, j);
+                    appendable.append(escapechar);
+                    start = j;
+                }
+            }
+            appendable.append(field, start, length);
+            if (quote) {
+                appendable.append(quotechar);
+            }
+        }
+        appendable.append(lineEnd);
+        return true;
+    }
+
+    /**
+     * Writes one field, quoted and escaped as necessary.
+     *
+     * @param field    The field
+     * @param quoteAll Whether the field is to be quoted regardless of its
+     *                 content. Must be false if there is no quote character.
+     * @throws IOException If the output cannot be written
+     */
+    void putField(CharSequence field, boolean quoteAll) throws IOException {
+        int length = field.length();
+        int firstSpecial = firstSpecial(field, length);
+        boolean quote = quoteAll || (firstSpecial < length && quotechar != NO_QUOTE_CHARACTER);
+        if (quote) {
+            put(quotechar);
+        }
+        if (firstSpecial == length) {
+            put(field, 0, length);
+        } else {
+            putEscaped(field, firstSpecial, length);
+        }
+        if (quote) {
+            put(quotechar);
+        }
+    }
+
+    /**
+     * Writes one field, quoted and escaped as necessary.
+     *
+     * @param chars    The characters of the field
+     * @param offset   The position of the first character of the field
+     * @param length   The number of characters in the field
+     * @param quoteAll Whether the field is to be quoted regardless of its
+     *                 content. Must be false if there is no quote character.
+     * @throws IOException If the output cannot be written
+     */
+    void putField(char[] chars, int offset, int length, boolean quoteAll) throws IOException {
+        int end = offset + length;
+        int firstSpecial = end;
+        boolean[] table = special;
+        for (int i = offset; i < end; i++) {
+            char c = chars[i];
+            if (c < table.length && table[c]) {
+                firstSpecial = i;
+                break;
+            }
+        }
+        boolean quote = quoteAll || (firstSpecial < end && quotechar != NO_QUOTE_CHARACTER);
+        if (quote) {
+            put(quotechar);
+        }
+        int start = offset;
+        table = escaped;
+        for (int i = firstSpecial; i < end; i++) {
+            char c = chars[i];
+            if (c < table.length && table[c]) {
+                put(chars, start, i);
+                put(escapechar);
+                start = i;
+            }
+        }
+        put(chars, start, end);
+        if (quote) {
+            put(quotechar);
+        }
+    }
+
+    /**
+     * Writes characters that are known to need neither quoting nor escaping,
+     * quoted only if all fields are to be quoted.
+     *
+     * @param chars    The characters of the field
+     * @param from     The position of the first character of the field
+     * @param to       The position after the last character of the field
+     * @param quoteAll Whether the field is to be quoted. Must be false if
+     *                 there is no quote character.
+     * @throws IOException If the output cannot be written
+     */
+    void putPlainField(char[] chars, int from, int to, boolean quoteAll) throws IOException {
+        if (quoteAll) {
+            put(quotechar);
+        }
+        put(chars, from, to);
+        if (quoteAll) {
+            put(quotechar);
+        }
+    }
+
+    /**
+     * @throws IOException If the output cannot be written
+     */
+    void putSeparator() throws IOException {
+        put(separator);
+    }
+
+    /**
+     * @throws IOException If the output cannot be written
+     */
+    void putLineEnd() throws IOException {
+        put(lineEndChars);
+    }
+
+    /**
+     * @param c A character
+     * @return Whether a field containing the character must be quoted
+     */
+    boolean isSpecial(char c) {
+        return c < special.length && special[c];
+    }
+
+    private int firstSpecial(CharSequence element, int length) {
+        boolean[] table = special;
+        for (int i = 0; i < length; i++) {
+            char c = element.charAt(i);
+            if (c < table.length && table[c]) {
+                return i;
+            }
+        }
+        return length;
+    }
+
+    /**
+     * Writes a field containing special characters, copying everything
+     * between two characters to be escaped in one go.
+     */
+    private void putEscaped(CharSequence element, int from, int length) throws IOException {
+        boolean[] table = escaped;
+        int start = 0;
+        for (int i = from; i < length; i++) {
+            char c = element.charAt(i);
+            if (c < table.length && table[c]) {
+                put(element, start, i);
+                put(escapechar);
+                start = i;
+            }
+        }
+        put(element, start, length);
+    }
+
+    private void put(char c) throws IOException {
+        if (position == buffer.length) {
+            flushBuffer();
+        }
+        buffer[position++] = c;
+    }
+
+    private void put(char[] chars) throws IOException {
+        if (chars.length > buffer.length - position) {
+            flushBuffer();
+            if (chars.length > buffer.length) {
+                writeChars(chars, 0, chars.length);
+                passedOn++;
+                return;
+            }
+        }
+        System.arraycopy(chars, 0, buffer, position, chars.length);
+        position += chars.length;
+    }
+
+    private void put(CharSequence s, int from, int to) throws IOException {
+        while (from < to) {
+            if (position == buffer.length) {
+                flushBuffer();
+            }
+            int end = Math.min(to, from + buffer.length - position);
+            if (s instanceof String) {
+                ((String) s).getChars(from, end, buffer, position);
+            } else if (s instanceof StringBuilder) {
+                ((StringBuilder) s).getChars(from, end, buffer, position);
+            } else {
+                for (int i = from, p = position; i < end; i++, p++) {
+                    buffer[p] = s.charAt(i);
+                }
+            }
+            position += end - from;
+            from = end;
+        }
+    }
+
+    private void put(char[] chars, int from, int to) throws IOException {
+        while (from < to) {
+            if (position == buffer.length) {
+                flushBuffer();
+            }
+            int end = Math.min(to, from + buffer.length - position);
+            System.arraycopy(chars, from, buffer, position, end - from);
+            position += end - from;
+            from = end;
+        }
+    }
+
+    @Override
+    protected void writeEncoded(char[] chars, int offset, int length) throws IOException {
+        put(chars, offset, offset + length);
+    }
+
+    /**
+     * Passes all characters in the buffer on to
+     * {@link #writeChars(char[], int, int)} without flushing the output.
+     *
+     * @throws IOException If the output cannot be written
+     */
+    protected void flushBuffer() throws IOException {
+        if (position > 0) {
+            writeChars(buffer, 0, position);
+            passedOn++;
+            position = 0;
+        }
+    }
+
+    /**
+     * Passes encoded characters on to the output. This is called whenever
+     * the buffer is full or the writer is flushed.
+     *
+     * @param chars  The characters to be written
+     * @param offset The position of the first character to be written
+     * @param length The number of characters to be written
+     * @throws IOException If the output cannot be written
+     */
+    protected void writeChars(char[] chars, int offset, int length) throws IOException {
+        writer.write(chars, offset, length);
+    }
+
+    @Override
+    public void flush() throws IOException {
+        flushBuffer();
+        super.flush();
+    }
+
+    @Override
+    public boolean checkError() {
+        try {
+            flushBuffer();
+        } catch (IOException e) {
+            if (exception == null) {
+                exception = e;
+            }
+        }
+        return super.checkError();
+    }
+}
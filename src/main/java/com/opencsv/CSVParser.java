@@ -50,16 +50,6 @@ public class CSVParser extends AbstractCSVParser {
      */
     private final char escape;
 
-    /**
-     * String of escape character - optimization for replaceAll
-     */
-    private final String escapeAsString;
-
-    /**
-     * String escapeAsString+escapeAsString - optimization for replaceAll
-     */
-    private final String escapeDoubleAsString;
-
     /**
      * Determines if the field is between quotes (true) or between separators (false).
      */
@@ -115,8 +105,6 @@ public class CSVParser extends AbstractCSVParser {
             throw new UnsupportedOperationException(ResourceBundle.getBundle(DEFAULT_BUNDLE_NAME, this.errorLocale).getString("define.separator"));
         }
         this.escape = escape;
-        this.escapeAsString = Character.toString(escape);
-        this.escapeDoubleAsString = escapeAsString + escapeAsString;
         this.strictQuotes = strictQuotes;
         this.ignoreLeadingWhiteSpace = ignoreLeadingWhiteSpace;
         this.ignoreQuotations = ignoreQuotations;
@@ -176,27 +164,66 @@ public class CSVParser extends AbstractCSVParser {
 
     @Override
     protected String convertToCsvValue(String value, boolean applyQuotestoAll) {
-        String testValue = (value == null && !nullFieldIndicator.equals(CSVReaderNullFieldIndicator.NEITHER)) ? "" : value;
-        StringBuilder builder = new StringBuilder(testValue == null ? MAX_SIZE_FOR_EMPTY_FIELD : (testValue.length() * 2));
-        boolean containsQuoteChar = StringUtils.contains(testValue, getQuotechar());
-        boolean containsEscapeChar = StringUtils.contains(testValue, getEscape());
-        boolean containsSeparatorChar = StringUtils.contains(testValue, getSeparator());
-        boolean surroundWithQuotes = applyQuotestoAll || isSurroundWithQuotes(value, containsSeparatorChar);
+        return convertToCsvValueThroughAppendable(value, applyQuotestoAll);
+    }
+
+    @Override
+    protected void convertToCsvValue(String value, boolean applyQuotesToAll, Appendable appendable) throws IOException {
+        if (convertToCsvValueOverridden) {
+            appendable.append(convertToCsvValue(value, applyQuotesToAll));
+        } else {
+            appendCsvValue(value, applyQuotesToAll, appendable);
+        }
+    }
 
-        String convertedString = !containsQuoteChar ? testValue : quoteMatcherPattern.matcher(testValue).replaceAll(quoteDoubledAsString);
-        convertedString = !containsEscapeChar ? convertedString : convertedString.replace(escapeAsString, escapeDoubleAsString);
+    @Override
+    void appendCsvValue(String value, boolean applyQuotesToAll, Appendable appendable) throws IOException {
+        // With the null field indicator NEITHER, null is written as "null".
+        String testValue = String.valueOf(
+                (value == null && !nullFieldIndicator.equals(CSVReaderNullFieldIndicator.NEITHER)) ? "" : value);
+
+        // One scan decides both quoting and escaping.
+        int length = testValue.length();
+        boolean containsQuoteOrEscapeChar = false;
+        boolean containsSeparatorChar = false;
+        boolean containsNewline = false;
+        for (int i = 0; i < length; i++) {
+            char c = testValue.charAt(i);
+            containsQuoteOrEscapeChar |= c == quotechar || c == escape;
+            containsSeparatorChar |= c == separator;
+            containsNewline |= c == '\n';
+        }
+        boolean surroundWithQuotes = isSurroundWithQuotesAfterScan(value, applyQuotesToAll, containsSeparatorChar,
+                containsSeparatorChar || containsNewline);
 
         if (surroundWithQuotes) {
-            builder.append(getQuotechar());
+            appendable.append(quotechar);
         }
 
-        builder.append(convertedString);
+        if (!containsQuoteOrEscapeChar) {
+            appendable.append(testValue);
+        } else {
+            // Quote and escape characters are doubled. The two can only be
+            // the same if both are the null character, in which case the
+            // doubled quote character is doubled again as escape character.
+            int start = 0;
+            for (int i = 0; i < length; i++) {
+                char c = testValue.charAt(i);
+                if (c == quotechar || c == escape) {
+                    appendable.append(testValue, start, i + 1);
+                    appendable.append(c);
+                    if (c == quotechar && quotechar == escape) {
+                        appendable.append(c).append(c);
+                    }
+                    start = i + 1;
+                }
+            }
+            appendable.append(testValue, start, length);
+        }
 
         if (surroundWithQuotes) {
-            builder.append(getQuotechar());
+            appendable.append(quotechar);
         }
-
-        return builder.toString();
     }
 
     @Override
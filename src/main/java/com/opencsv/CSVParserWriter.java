@@ -44,8 +44,23 @@ public class CSVParserWriter extends AbstractCSVWriter {
 
     @Override
     protected void writeNext(String[] nextLine, boolean applyQuotesToAll, Appendable appendable) throws IOException {
-        appendable.append(parser.parseToLine(nextLine, applyQuotesToAll));
-        appendable.append(lineEnd);
+        appendLine(nextLine, applyQuotesToAll, appendable);
         writer.write(appendable.toString());
     }
+
+    /**
+     * {@inheritDoc}
+     * <p>The parser is called from several threads at once by
+     * {@link #writeAllParallel(java.util.Spliterator, boolean)} only if it
+     * is a {@link CSVParser} or an {@link RFC4180Parser}. Other parsers are
+     * called from one thread at a time.</p>
+     */
+    @Override
+    protected boolean appendLine(String[] nextLine, boolean applyQuotesToAll, Appendable appendable) throws IOException {
+        if (nextLine != null) {
+            parser.parseToLine(nextLine, applyQuotesToAll, appendable);
+            appendable.append(lineEnd);
+        }
+        return true;
+    }
 }
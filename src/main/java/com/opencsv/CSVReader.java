@@ -192,6 +192,29 @@ public class CSVReader implements Closeable, Iterable<String[]> {
 
     }
 
+    /**
+     * Reads the entire file into a compact table.
+     * Unlike {@link #readAll()}, this does not keep an array and a String for
+     * every field, but stores the characters of all fields together. This
+     * needs a fraction of the memory for large files, at the cost of
+     * creating a String every time a field is accessed.
+     *
+     * @return A table with every line of the file
+     * @throws IOException  If bad things happen during the read
+     * @throws CsvException If there is a failed validator
+     * @since 5.8
+     */
+    public CsvTable readAllCompact() throws IOException, CsvException {
+        CsvTable table = new CsvTable();
+        while (hasNext) {
+            String[] nextLineAsTokens = readNext();
+            if (nextLineAsTokens != null) {
+                table.addRow(nextLineAsTokens);
+            }
+        }
+        return table.trimToSize();
+    }
+
     /**
      * Reads the next line from the buffer and converts to a string array.
      *
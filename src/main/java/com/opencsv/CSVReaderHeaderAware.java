@@ -7,7 +7,6 @@ import com.opencsv.validators.RowValidatorAggregator;
 
 import java.io.IOException;
 import java.io.Reader;
-import java.util.HashMap;
 import java.util.Locale;
 import java.util.Map;
 import java.util.ResourceBundle;
@@ -21,7 +20,8 @@ import java.util.ResourceBundle;
  */
 public class CSVReaderHeaderAware extends CSVReader {
 
-    private final Map<String, Integer> headerIndex = new HashMap<>();
+    private Map<String, Integer> headerIndex;
+    private CsvRecord.Header header;
 
     /**
      * Constructor with supplied reader.
@@ -77,12 +77,7 @@ public class CSVReaderHeaderAware extends CSVReader {
             return null;
         }
 
-        if (strings.length != headerIndex.size()) {
-            throw new IOException(String.format(
-                    ResourceBundle.getBundle(ICSVParser.DEFAULT_BUNDLE_NAME, errorLocale)
-                            .getString("header.data.mismatch.with.line.number"),
-                    getRecordsRead(), headerIndex.size(), strings.length));
-        }
+        verifyLineLength(strings);
 
         String[] response = new String[headerNames.length];
 
@@ -102,6 +97,71 @@ public class CSVReaderHeaderAware extends CSVReader {
         return response;
     }
 
+    /**
+     * Resolves header names to columns once, for use with
+     * {@link #readNext(Projection)} on every line.
+     * <p>This is the efficient alternative to {@link #readNext(String...)}
+     * when the same columns are read from every line: unknown header names
+     * are reported here instead of on every line, and reading does not look
+     * up any names.</p>
+     *
+     * @param headerNames Names of the header elements whose data are to be
+     *                    read, in the order in which they are to be returned
+     * @return A projection that can be used with this reader only
+     * @throws IllegalArgumentException If a header name does not exist
+     * @since 5.8
+     */
+    public Projection prepare(String... headerNames) {
+        int[] indices = new int[headerNames.length];
+        for (int i = 0; i < headerNames.length; i++) {
+            Integer index = headerIndex.get(headerNames[i]);
+            if (index == null) {
+                throw new IllegalArgumentException(String.format(
+                        ResourceBundle.getBundle(ICSVParser.DEFAULT_BUNDLE_NAME, errorLocale)
+                                .getString("header.nonexistant"),
+                        headerNames[i]));
+            }
+            indices[i] = index;
+        }
+        return new Projection(header, indices);
+    }
+
+    /**
+     * Reads the next line and returns the data elements of the columns
+     * selected by a projection.
+     *
+     * @param projection The columns to be returned, as prepared by
+     *                   {@link #prepare(String...)}
+     * @return The data elements in the order of the header names given to
+     *   {@link #prepare(String...)}, or null if the end of the input has
+     *   been reached
+     * @throws IOException An error occurred during the read or there is a
+     *                     mismatch in the number of data items in a row and
+     *                     the number of header items
+     * @throws IllegalArgumentException If the projection was prepared by a
+     *                                  different reader
+     * @throws CsvValidationException If a custom defined validator fails.
+     * @since 5.8
+     */
+    public String[] readNext(Projection projection) throws IOException, CsvValidationException {
+        if (projection.header != header) {
+            throw new IllegalArgumentException(ResourceBundle.getBundle(ICSVParser.DEFAULT_BUNDLE_NAME, errorLocale)
+                    .getString("projection.foreign"));
+        }
+        String[] strings = readNext();
+        if (strings == null) {
+            return null;
+        }
+        verifyLineLength(strings);
+
+        int[] indices = projection.indices;
+        String[] response = new String[indices.length];
+        for (int i = 0; i < indices.length; i++) {
+            response[i] = strings[indices[i]];
+        }
+        return response;
+    }
+
     /**
      * Reads the next line and returns a map of header values and data values.
      *
@@ -111,35 +171,70 @@ public class CSVReaderHeaderAware extends CSVReader {
      * @throws CsvValidationException If a custom defined validator fails.
      */
     public Map<String, String> readMap() throws IOException, CsvValidationException {
+        CsvRecord record = readRecord();
+        return record == null ? null : record.toMap();
+    }
+
+    /**
+     * Reads the next line and returns an immutable view of it as a map of
+     * header values and data values.
+     * <p>Unlike {@link #readMap()}, this does not copy the line into a new
+     * map. The record shares the mapping of header names to columns with all
+     * other records of this reader, so it is considerably cheaper for wide
+     * input. Use {@link CsvRecord#toMap()} if a mutable map is needed.</p>
+     *
+     * @return A record whose keys are the header row of the data file and
+     *   whose values are the data values, or null if the end of the input
+     *   has been reached
+     * @throws IOException An error occurred during the read or there is a mismatch in the number of data items in a row
+     *                     and the number of header items.
+     * @throws CsvValidationException If a custom defined validator fails.
+     * @since 5.8
+     */
+    public CsvRecord readRecord() throws IOException, CsvValidationException {
         String[] strings = readNext();
         if (strings == null) {
             return null;
         }
-        if (strings.length != headerIndex.size()) {
+        verifyLineLength(strings);
+        return new CsvRecord(header, strings);
+    }
+
+    private void verifyLineLength(String[] strings) throws IOException {
+        if (strings.length != header.getColumnCount()) {
             throw new IOException(String.format(
                     ResourceBundle.getBundle(ICSVParser.DEFAULT_BUNDLE_NAME, errorLocale)
                             .getString("header.data.mismatch.with.line.number"),
-                    getRecordsRead(), headerIndex.size(), strings.length));
-        }
-
-        // This code cannot be done with a stream and Collectors.toMap()
-        // because Map.merge() does not play well with null values. Some
-        // implementations throw a NullPointerException, others simply remove
-        // the key from the map.
-        Map<String, String> resultMap = new HashMap<>(headerIndex.size()*2);
-        for(Map.Entry<String, Integer> entry : headerIndex.entrySet()) {
-            if(entry.getValue() < strings.length) {
-                resultMap.put(entry.getKey(), strings[entry.getValue()]);
-            }
+                    getRecordsRead(), header.getColumnCount(), strings.length));
         }
-        return resultMap;
     }
 
     private void initializeHeader() throws IOException {
-        String[] headers = super.readNextSilently();
-        for (int i = 0; i < headers.length; i++) {
-            headerIndex.put(headers[i], i);
-        }
+        header = new CsvRecord.Header(super.readNextSilently());
+        headerIndex = header.getIndex();
     }
 
+    /**
+     * A selection of columns resolved against the header of one
+     * {@link CSVReaderHeaderAware}.
+     *
+     * @see #prepare(String...)
+     * @since 5.8
+     */
+    public static final class Projection {
+        private final CsvRecord.Header header;
+        private final int[] indices;
+
+        private Projection(CsvRecord.Header header, int[] indices) {
+            this.header = header;
+            this.indices = indices;
+        }
+
+        /**
+         * @return The number of columns selected
+         */
+        public int size() {
+            return indices.length;
+        }
+    }
 }
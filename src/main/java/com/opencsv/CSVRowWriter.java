@@ -0,0 +1,254 @@
+package com.opencsv;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.ResourceBundle;
+
+/**
+ * Writes lines field by field, with primitive values, instead of as arrays
+ * of strings.
+ * <pre>
+ * {@code
+ * CSVRowWriter rows = new CSVRowWriter(new CSVWriterBuilder(writer).withBufferSize(1 << 16).build());
+ * for (Trade trade : trades) {
+ *     rows.beginRow();
+ *     rows.field(trade.getId());
+ *     rows.field(trade.getPrice());
+ *     rows.field(trade.getSymbol());
+ *     rows.endRow();
+ * }
+ * rows.getWriter().flush();
+ * }
+ * </pre>
+ * <p>If the underlying writer is a {@link BufferedCSVWriter}, as created by
+ * {@link CSVWriterBuilder#withBufferSize(int)}, every field goes directly
+ * into its buffer: {@code long} values and integral {@code double} values
+ * are formatted in place without creating a String, and character sequences
+ * and arrays are copied without being converted to a String first. For any
+ * other writer the fields are collected and passed to
+ * {@link ICSVWriter#writeNext(String[], boolean)} when the line ends.</p>
+ * <p>Either way, the output is the same as that of
+ * {@link ICSVWriter#writeNext(String[], boolean)} called with the string
+ * values of the fields. As with that method, errors are not thrown but
+ * recorded; see {@link ICSVWriter#checkError()}.</p>
+ * <p>Instances are not thread-safe.</p>
+ *
+ * @since 5.8
+ */
+public class CSVRowWriter {
+
+    /** Every character that can occur in the string value of a number. */
+    private static final String NUMBER_CHARACTERS = "0123456789-.EINafinty";
+
+    /** Integral doubles below this are printed by {@link Double#toString(double)} without an exponent. */
+    private static final double PLAIN_DOUBLE_LIMIT = 1e7;
+
+    private final ICSVWriter writer;
+    private final boolean applyQuotesToAll;
+
+    /** The underlying writer if it is buffered, otherwise {@code null}. */
+    private final BufferedCSVWriter buffered;
+    private final boolean quoteAll;
+
+    /** Whether numbers can be written without checking for special characters. */
+    private final boolean numbersArePlain;
+
+    /** The fields of the current line if the underlying writer is not buffered. */
+    private final List<String> fields;
+
+    private final char[] digits = new char[20];
+    private int fieldCount;
+
+    /**
+     * Creates a row writer that quotes all fields, as
+     * {@link ICSVWriter#writeNext(String[])} does.
+     *
+     * @param writer The writer the lines are written to
+     */
+    public CSVRowWriter(ICSVWriter writer) {
+        this(writer, true);
+    }
+
+    /**
+     * @param writer           The writer the lines are written to
+     * @param applyQuotesToAll Whether all fields are to be quoted, as in
+     *                         {@link ICSVWriter#writeNext(String[], boolean)}
+     */
+    public CSVRowWriter(ICSVWriter writer, boolean applyQuotesToAll) {
+        this.writer = writer;
+        this.applyQuotesToAll = applyQuotesToAll;
+        if (writer instanceof BufferedCSVWriter) {
+            buffered = (BufferedCSVWriter) writer;
+            quoteAll = applyQuotesToAll && buffered.quotechar != ICSVWriter.NO_QUOTE_CHARACTER;
+            boolean plain = true;
+            for (int i = 0; i < NUMBER_CHARACTERS.length(); i++) {
+                plain &= !buffered.isSpecial(NUMBER_CHARACTERS.charAt(i));
+            }
+            numbersArePlain = plain;
+            fields = null;
+        } else {
+            buffered = null;
+            quoteAll = false;
+            numbersArePlain = false;
+            fields = new ArrayList<>();
+        }
+    }
+
+    /**
+     * @return The writer the lines are written to
+     */
+    public ICSVWriter getWriter() {
+        return writer;
+    }
+
+    /**
+     * Starts a new line. Calling this method is optional, since the first
+     * field written after {@link #endRow()} starts a new line anyway, but it
+     * catches lines that were not ended.
+     *
+     * @throws IllegalStateException If fields have been written to the
+     *   current line
+     */
+    public void beginRow() {
+        if (fieldCount > 0) {
+            throw new IllegalStateException(ResourceBundle.getBundle(ICSVParser.DEFAULT_BUNDLE_NAME)
+                    .getString("row.in.progress"));
+        }
+    }
+
+    /**
+     * Writes a field with a whole number.
+     *
+     * @param value The value
+     */
+    public void field(long value) {
+        if (buffered == null || !numbersArePlain || value == Long.MIN_VALUE) {
+            field(String.valueOf(value));
+            return;
+        }
+        try {
+            nextField();
+            int start = formatDigits(value < 0 ? -value : value, digits.length);
+            if (value < 0) {
+                digits[--start] = '-';
+            }
+            buffered.putPlainField(digits, start, digits.length, quoteAll);
+        } catch (IOException e) {
+            buffered.exception = e;
+        }
+    }
+
+    /**
+     * Writes a field with a floating point number, formatted as by
+     * {@link Double#toString(double)}. Whole numbers of moderate size are
+     * formatted without creating a String.
+     *
+     * @param value The value
+     */
+    public void field(double value) {
+        if (buffered == null || !numbersArePlain || value != Math.rint(value)
+                || Math.abs(value) >= PLAIN_DOUBLE_LIMIT || (value == 0 && 1 / value < 0)) {
+            field(Double.toString(value));
+            return;
+        }
+        try {
+            nextField();
+            long whole = (long) value;
+            digits[digits.length - 1] = '0';
+            digits[digits.length - 2] = '.';
+            int start = formatDigits(whole < 0 ? -whole : whole, digits.length - 2);
+            if (whole < 0) {
+                digits[--start] = '-';
+            }
+            buffered.putPlainField(digits, start, digits.length, quoteAll);
+        } catch (IOException e) {
+            buffered.exception = e;
+        }
+    }
+
+    /**
+     * Writes a field with text. {@code null} writes an empty field without
+     * quotes, as in {@link ICSVWriter#writeNext(String[], boolean)}.
+     *
+     * @param value The value
+     */
+    public void field(CharSequence value) {
+        if (buffered == null) {
+            fields.add(value == null ? null : value.toString());
+            fieldCount++;
+            return;
+        }
+        try {
+            nextField();
+            if (value != null) {
+                buffered.putField(value, quoteAll);
+            }
+        } catch (IOException e) {
+            buffered.exception = e;
+        }
+    }
+
+    /**
+     * Writes a field with text taken from part of a character array.
+     *
+     * @param chars  The characters
+     * @param offset The position of the first character of the field
+     * @param length The number of characters in the field
+     * @throws IndexOutOfBoundsException If the part is not within the array
+     */
+    public void field(char[] chars, int offset, int length) {
+        if (offset < 0 || length < 0 || offset > chars.length - length) {
+            throw new IndexOutOfBoundsException(offset + ", " + length);
+        }
+        if (buffered == null) {
+            fields.add(new String(chars, offset, length));
+            fieldCount++;
+            return;
+        }
+        try {
+            nextField();
+            buffered.putField(chars, offset, length, quoteAll);
+        } catch (IOException e) {
+            buffered.exception = e;
+        }
+    }
+
+    /**
+     * Ends the current line. If no fields have been written, this writes an
+     * empty line.
+     */
+    public void endRow() {
+        if (buffered == null) {
+            writer.writeNext(fields.toArray(new String[0]), applyQuotesToAll);
+            fields.clear();
+        } else {
+            try {
+                buffered.putLineEnd();
+            } catch (IOException e) {
+                buffered.exception = e;
+            }
+        }
+        fieldCount = 0;
+    }
+
+    private void nextField() throws IOException {
+        if (fieldCount++ > 0) {
+            buffered.putSeparator();
+        }
+    }
+
+    /**
+     * Formats a non-negative number right-aligned into {@link #digits}.
+     *
+     * @return The position of the first digit
+     */
+    private int formatDigits(long value, int end) {
+        int position = end;
+        do {
+            digits[--position] = (char) ('0' + value % 10);
+            value /= 10;
+        } while (value != 0);
+        return position;
+    }
+}
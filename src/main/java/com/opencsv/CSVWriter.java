@@ -62,6 +62,16 @@ public class CSVWriter extends AbstractCSVWriter {
          return;
       }
 
+      appendLine(nextLine, applyQuotesToAll, appendable);
+      writer.write(appendable.toString());
+   }
+
+   @Override
+   protected boolean appendLine(String[] nextLine, boolean applyQuotesToAll, Appendable appendable) throws IOException {
+      if (nextLine == null) {
+         return true;
+      }
+
       for (int i = 0; i < nextLine.length; i++) {
 
          if (i != 0) {
@@ -88,7 +98,7 @@ public class CSVWriter extends AbstractCSVWriter {
       }
 
       appendable.append(lineEnd);
-      writer.write(appendable.toString());
+      return true;
    }
 
    private void appendQuoteCharacterIfNeeded(boolean applyQuotesToAll, Appendable appendable, Boolean stringContainsSpecialCharacters) throws IOException {
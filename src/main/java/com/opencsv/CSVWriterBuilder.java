@@ -1,6 +1,11 @@
 package com.opencsv;
 
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
 import java.io.Writer;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
 
 /**
  * Builder for creating the CSVWriter.
@@ -15,6 +20,9 @@ import java.io.Writer;
  * is true.</p>
  * <br>
  * <p>If nothing is defined then a CSVWriter will be produced with default settings.</p>
+ * <p>A builder created for an {@link OutputStream} or a
+ * {@link WritableByteChannel} writes UTF-8. Without a parser, it produces a
+ * {@link Utf8CSVWriter}, which encodes the output itself.</p>
  * <p>
  * <code>
  * Writer writer = new StringWriter();  // any Writer<br>
@@ -36,12 +44,15 @@ import java.io.Writer;
  */
 public class CSVWriterBuilder {
     private final Writer writer;
+    private final OutputStream outputStream;
+    private final WritableByteChannel channel;
     private ICSVParser parser;
     private Character separator;
     private Character quotechar;
     private Character escapechar;
     private ResultSetHelper resultSetHelper;
     private String lineEnd = ICSVWriter.DEFAULT_LINE_END;
+    private int bufferSize;
 
     /**
      * Constructor taking a writer for the resulting CSV output.  This is because the Writer is required and
@@ -51,6 +62,35 @@ public class CSVWriterBuilder {
      */
     public CSVWriterBuilder(Writer writer) {
         this.writer = writer;
+        this.outputStream = null;
+        this.channel = null;
+    }
+
+    /**
+     * Constructor taking an output stream the resulting CSV output is
+     * written to in UTF-8.
+     *
+     * @param outputStream A stream to write the resulting CSV output to.
+     * @since 5.8
+     */
+    public CSVWriterBuilder(OutputStream outputStream) {
+        this.writer = null;
+        this.outputStream = outputStream;
+        this.channel = null;
+    }
+
+    /**
+     * Constructor taking a channel, such as a
+     * {@link java.nio.channels.FileChannel}, the resulting CSV output is
+     * written to in UTF-8.
+     *
+     * @param channel A channel to write the resulting CSV output to.
+     * @since 5.8
+     */
+    public CSVWriterBuilder(WritableByteChannel channel) {
+        this.writer = null;
+        this.outputStream = null;
+        this.channel = channel;
     }
 
 
@@ -126,6 +166,28 @@ public class CSVWriterBuilder {
         return this;
     }
 
+    /**
+     * Sets the size of the buffer the ICSVWriter writes lines into before
+     * passing them on to the writer. If this is set, a
+     * {@link BufferedCSVWriter} is built, which produces the same output as
+     * a {@link CSVWriter} considerably faster. This has no effect if a parser
+     * has been set.
+     *
+     * @param bufferSize The size of the buffer in characters. Zero means no
+     *                   buffer of its own, or for output streams and
+     *                   channels, {@link BufferedCSVWriter#DEFAULT_BUFFER_SIZE}.
+     * @return The CSVWriterBuilder with the buffer size set.
+     * @throws IllegalArgumentException If the buffer size is negative.
+     * @since 5.8
+     */
+    public CSVWriterBuilder withBufferSize(int bufferSize) {
+        if (bufferSize < 0) {
+            throw new IllegalArgumentException(Integer.toString(bufferSize));
+        }
+        this.bufferSize = bufferSize;
+        return this;
+    }
+
     /**
      * Creates the CSVWriter.
      *
@@ -139,7 +201,13 @@ public class CSVWriterBuilder {
     }
 
     private ICSVWriter createCSVParserWriter() {
-        return new CSVParserWriter(writer, parser, lineEnd);
+        Writer parserWriter = writer;
+        if (outputStream != null) {
+            parserWriter = new OutputStreamWriter(outputStream, StandardCharsets.UTF_8);
+        } else if (channel != null) {
+            parserWriter = Channels.newWriter(channel, StandardCharsets.UTF_8.newEncoder(), -1);
+        }
+        return new CSVParserWriter(parserWriter, parser, lineEnd);
     }
 
     private ICSVWriter createCSVWriter() {
@@ -152,7 +220,17 @@ public class CSVWriterBuilder {
         if (escapechar == null) {
             escapechar = ICSVWriter.DEFAULT_ESCAPE_CHARACTER;
         }
-        ICSVWriter icsvWriter = new CSVWriter(writer, separator, quotechar, escapechar, lineEnd);
+        int size = bufferSize > 0 ? bufferSize : BufferedCSVWriter.DEFAULT_BUFFER_SIZE;
+        ICSVWriter icsvWriter;
+        if (outputStream != null) {
+            icsvWriter = new Utf8CSVWriter(outputStream, separator, quotechar, escapechar, lineEnd, size);
+        } else if (channel != null) {
+            icsvWriter = new Utf8CSVWriter(channel, separator, quotechar, escapechar, lineEnd, size);
+        } else if (bufferSize > 0) {
+            icsvWriter = new BufferedCSVWriter(writer, separator, quotechar, escapechar, lineEnd, bufferSize);
+        } else {
+            icsvWriter = new CSVWriter(writer, separator, quotechar, escapechar, lineEnd);
+        }
 
         if (resultSetHelper != null) {
             icsvWriter.setResultService(resultSetHelper);
@@ -0,0 +1,271 @@
+package com.opencsv;
+
+import com.opencsv.exceptions.CsvDataTypeMismatchException;
+import com.opencsv.exceptions.CsvException;
+import org.apache.commons.lang3.ArrayUtils;
+import org.apache.commons.lang3.ObjectUtils;
+import org.apache.commons.lang3.StringUtils;
+
+import java.io.IOException;
+import java.util.*;
+
+/**
+ * Numeric columns of an input, loaded into primitive arrays.
+ * <p>Every value is parsed directly into an {@code int}, {@code long} or
+ * {@code double} as the input is read. No boxed numbers and no lines are
+ * retained, so the memory needed is that of the primitive arrays and nothing
+ * more.</p>
+ * <p>Empty and blank fields, fields read as {@code null}, and fields missing
+ * because a line is too short are stored as zero and marked as null; see
+ * {@link #isNull(String, int)}.</p>
+ * <p>Instances are created by {@link CsvColumnsBuilder}. The arrays returned
+ * are those held by this object, not copies, and should not be modified.</p>
+ *
+ * @since 5.8
+ */
+public final class CsvColumns {
+
+    private static final int INITIAL_CAPACITY = 1024;
+
+    /** The primitive types a column can be loaded as. */
+    enum Type {
+        INT(int.class), LONG(long.class), DOUBLE(double.class);
+
+        private final Class<?> primitive;
+
+        Type(Class<?> primitive) {
+            this.primitive = primitive;
+        }
+    }
+
+    /** One column to be loaded, and its values once loaded. */
+    static final class Column {
+        private final String header;
+        private int position;
+        private final Type type;
+        private int[] ints;
+        private long[] longs;
+        private double[] doubles;
+        private final BitSet nulls = new BitSet();
+
+        Column(String header, int position, Type type) {
+            this.header = header;
+            this.position = position;
+            this.type = type;
+        }
+
+        /** @return The header name the column is chosen by, or else its position */
+        Object choice() {
+            return header != null ? header : position;
+        }
+    }
+
+    private final Map<String, Column> columnsByHeader = new HashMap<>();
+    private final Map<Integer, Column> columnsByPosition = new HashMap<>();
+    private final Locale errorLocale;
+    private int rowCount;
+
+    /**
+     * Reads the input to the end and loads the given columns.
+     *
+     * @param reader The input
+     * @param specifications The columns to load
+     */
+    CsvColumns(CSVReader reader, List<Column> specifications) throws IOException, CsvException {
+        errorLocale = reader.errorLocale;
+        Column[] columns = new Column[specifications.size()];
+        boolean hasHeader = false;
+        for (int i = 0; i < columns.length; i++) {
+            Column specification = specifications.get(i);
+            columns[i] = new Column(specification.header, specification.position, specification.type);
+            hasHeader |= specification.header != null;
+        }
+
+        if (hasHeader) {
+            String[] header = ObjectUtils.defaultIfNull(reader.readNextSilently(), ArrayUtils.EMPTY_STRING_ARRAY);
+            for (Column column : columns) {
+                if (column.header != null) {
+                    column.position = ArrayUtils.indexOf(header, column.header);
+                    if (column.position < 0) {
+                        throw new IllegalArgumentException(String.format(
+                                ResourceBundle.getBundle(ICSVParser.DEFAULT_BUNDLE_NAME, errorLocale)
+                                        .getString("header.nonexistant"),
+                                column.header));
+                    }
+                    columnsByHeader.put(column.header, column);
+                }
+            }
+        }
+        for (Column column : columns) {
+            if (columnsByPosition.put(column.position, column) != null) {
+                throw new IllegalArgumentException(String.format(
+                        ResourceBundle.getBundle(ICSVParser.DEFAULT_BUNDLE_NAME, errorLocale)
+                                .getString("column.duplicate"),
+                        column.position));
+            }
+        }
+
+        int capacity = 0;
+        for (String[] line = reader.readNext(); line != null; line = reader.readNext()) {
+            if (rowCount == capacity) {
+                capacity = capacity == 0 ? INITIAL_CAPACITY : capacity + (capacity >> 1);
+                for (Column column : columns) {
+                    resize(column, capacity);
+                }
+            }
+            for (Column column : columns) {
+                String value = column.position < line.length ? line[column.position] : null;
+                if (StringUtils.isBlank(value)) {
+                    column.nulls.set(rowCount);
+                } else {
+                    store(column, value.trim(), reader, line);
+                }
+            }
+            rowCount++;
+        }
+        for (Column column : columns) {
+            resize(column, rowCount);
+        }
+    }
+
+    private static void resize(Column column, int capacity) {
+        switch (column.type) {
+            case INT:
+                column.ints = column.ints == null ? new int[capacity] : Arrays.copyOf(column.ints, capacity);
+                break;
+            case LONG:
+                column.longs = column.longs == null ? new long[capacity] : Arrays.copyOf(column.longs, capacity);
+                break;
+            default:
+                column.doubles = column.doubles == null ? new double[capacity] : Arrays.copyOf(column.doubles, capacity);
+        }
+    }
+
+    private void store(Column column, String value, CSVReader reader, String[] line) throws CsvDataTypeMismatchException {
+        try {
+            switch (column.type) {
+                case INT:
+                    column.ints[rowCount] = Integer.parseInt(value);
+                    break;
+                case LONG:
+                    column.longs[rowCount] = Long.parseLong(value);
+                    break;
+                default:
+                    column.doubles[rowCount] = Double.parseDouble(value);
+            }
+        } catch (NumberFormatException e) {
+            CsvDataTypeMismatchException csve = new CsvDataTypeMismatchException(value, column.type.primitive,
+                    String.format(ResourceBundle.getBundle(ICSVParser.DEFAULT_BUNDLE_NAME, errorLocale)
+                                    .getString("conversion.impossible"),
+                            value, column.type.primitive.getName()));
+            csve.initCause(e);
+            csve.setLineNumber(reader.getLinesRead());
+            csve.setLine(line);
+            throw csve;
+        }
+    }
+
+    /**
+     * @return The number of lines loaded, which is the length of every
+     *   array returned
+     */
+    public int getRowCount() {
+        return rowCount;
+    }
+
+    /**
+     * @param header The header name of a column loaded as {@code int}
+     * @return The values of the column, one for every line
+     * @throws IllegalArgumentException If no such column was loaded as
+     *   {@code int}
+     */
+    public int[] getInts(String header) {
+        return column(columnsByHeader.get(header), header, Type.INT).ints;
+    }
+
+    /**
+     * @param position The position of a column loaded as {@code int}
+     * @return The values of the column, one for every line
+     * @throws IllegalArgumentException If no such column was loaded as
+     *   {@code int}
+     */
+    public int[] getInts(int position) {
+        return column(columnsByPosition.get(position), position, Type.INT).ints;
+    }
+
+    /**
+     * @param header The header name of a column loaded as {@code long}
+     * @return The values of the column, one for every line
+     * @throws IllegalArgumentException If no such column was loaded as
+     *   {@code long}
+     */
+    public long[] getLongs(String header) {
+        return column(columnsByHeader.get(header), header, Type.LONG).longs;
+    }
+
+    /**
+     * @param position The position of a column loaded as {@code long}
+     * @return The values of the column, one for every line
+     * @throws IllegalArgumentException If no such column was loaded as
+     *   {@code long}
+     */
+    public long[] getLongs(int position) {
+        return column(columnsByPosition.get(position), position, Type.LONG).longs;
+    }
+
+    /**
+     * @param header The header name of a column loaded as {@code double}
+     * @return The values of the column, one for every line
+     * @throws IllegalArgumentException If no such column was loaded as
+     *   {@code double}
+     */
+    public double[] getDoubles(String header) {
+        return column(columnsByHeader.get(header), header, Type.DOUBLE).doubles;
+    }
+
+    /**
+     * @param position The position of a column loaded as {@code double}
+     * @return The values of the column, one for every line
+     * @throws IllegalArgumentException If no such column was loaded as
+     *   {@code double}
+     */
+    public double[] getDoubles(int position) {
+        return column(columnsByPosition.get(position), position, Type.DOUBLE).doubles;
+    }
+
+    /**
+     * @param header The header name of a loaded column
+     * @param row    The zero-based index of a line
+     * @return Whether the column had no value in that line
+     * @throws IllegalArgumentException If no such column was loaded
+     */
+    public boolean isNull(String header, int row) {
+        return column(columnsByHeader.get(header), header, null).nulls.get(row);
+    }
+
+    /**
+     * @param position The position of a loaded column
+     * @param row      The zero-based index of a line
+     * @return Whether the column had no value in that line
+     * @throws IllegalArgumentException If no such column was loaded
+     */
+    public boolean isNull(int position, int row) {
+        return column(columnsByPosition.get(position), position, null).nulls.get(row);
+    }
+
+    private Column column(Column column, Object key, Type type) {
+        if (column == null) {
+            throw new IllegalArgumentException(String.format(
+                    ResourceBundle.getBundle(ICSVParser.DEFAULT_BUNDLE_NAME, errorLocale)
+                            .getString("column.not.loaded"),
+                    key));
+        }
+        if (type != null && column.type != type) {
+            throw new IllegalArgumentException(String.format(
+                    ResourceBundle.getBundle(ICSVParser.DEFAULT_BUNDLE_NAME, errorLocale)
+                            .getString("column.wrong.type"),
+                    key, column.type.primitive.getName(), type.primitive.getName()));
+        }
+        return column;
+    }
+}
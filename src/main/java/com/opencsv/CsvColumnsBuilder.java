@@ -0,0 +1,137 @@
+package com.opencsv;
+
+import com.opencsv.exceptions.CsvException;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.ResourceBundle;
+
+/**
+ * Builds a {@link CsvColumns} by loading numeric columns of an input into
+ * primitive arrays.
+ * <p>Columns may be chosen by their position or by their header name. If any
+ * column is chosen by name, the first line read is taken to be the header;
+ * otherwise every line is data. Lines to be skipped before the header or
+ * the data can be configured on the reader, for example with
+ * {@link CSVReaderBuilder#withSkipLines(int)}.</p>
+ * <pre>
+ * {@code
+ * CsvColumns columns = new CsvColumnsBuilder(new CSVReader(reader))
+ *         .withIntColumn("id")
+ *         .withDoubleColumn("price")
+ *         .build();
+ * double[] prices = columns.getDoubles("price");
+ * }
+ * </pre>
+ *
+ * @since 5.8
+ */
+public class CsvColumnsBuilder {
+
+    private final CSVReader reader;
+    private final List<CsvColumns.Column> columns = new ArrayList<>();
+
+    /**
+     * @param reader The reader the columns are loaded from. It is read to the
+     *               end, but not closed.
+     * @throws IllegalArgumentException If the reader is null
+     */
+    public CsvColumnsBuilder(CSVReader reader) {
+        if (reader == null) {
+            throw new IllegalArgumentException(ResourceBundle.getBundle(ICSVParser.DEFAULT_BUNDLE_NAME).getString("reader.null"));
+        }
+        this.reader = reader;
+    }
+
+    /**
+     * @param header The header name of a column of {@code int} values
+     * @return {@code this}
+     * @throws IllegalArgumentException If the column has already been chosen
+     */
+    public CsvColumnsBuilder withIntColumn(String header) {
+        add(new CsvColumns.Column(header, -1, CsvColumns.Type.INT));
+        return this;
+    }
+
+    /**
+     * @param position The zero-based position of a column of {@code int}
+     *                 values
+     * @return {@code this}
+     * @throws IllegalArgumentException If the column has already been chosen
+     */
+    public CsvColumnsBuilder withIntColumn(int position) {
+        add(new CsvColumns.Column(null, position, CsvColumns.Type.INT));
+        return this;
+    }
+
+    /**
+     * @param header The header name of a column of {@code long} values
+     * @return {@code this}
+     * @throws IllegalArgumentException If the column has already been chosen
+     */
+    public CsvColumnsBuilder withLongColumn(String header) {
+        add(new CsvColumns.Column(header, -1, CsvColumns.Type.LONG));
+        return this;
+    }
+
+    /**
+     * @param position The zero-based position of a column of {@code long}
+     *                 values
+     * @return {@code this}
+     * @throws IllegalArgumentException If the column has already been chosen
+     */
+    public CsvColumnsBuilder withLongColumn(int position) {
+        add(new CsvColumns.Column(null, position, CsvColumns.Type.LONG));
+        return this;
+    }
+
+    /**
+     * @param header The header name of a column of {@code double} values
+     * @return {@code this}
+     * @throws IllegalArgumentException If the column has already been chosen
+     */
+    public CsvColumnsBuilder withDoubleColumn(String header) {
+        add(new CsvColumns.Column(header, -1, CsvColumns.Type.DOUBLE));
+        return this;
+    }
+
+    /**
+     * @param position The zero-based position of a column of {@code double}
+     *                 values
+     * @return {@code this}
+     * @throws IllegalArgumentException If the column has already been chosen
+     */
+    public CsvColumnsBuilder withDoubleColumn(int position) {
+        add(new CsvColumns.Column(null, position, CsvColumns.Type.DOUBLE));
+        return this;
+    }
+
+    private void add(CsvColumns.Column column) {
+        for (CsvColumns.Column other : columns) {
+            if (column.choice().equals(other.choice())) {
+                throw new IllegalArgumentException(String.format(
+                        ResourceBundle.getBundle(ICSVParser.DEFAULT_BUNDLE_NAME, reader.errorLocale)
+                                .getString("column.duplicate"),
+                        column.choice()));
+            }
+        }
+        columns.add(column);
+    }
+
+    /**
+     * Reads the entire input and loads the chosen columns.
+     *
+     * @return The loaded columns
+     * @throws IOException If bad things happen during the read
+     * @throws IllegalArgumentException If a header name does not exist in the
+     *   header of the input, or names a column that is also chosen by its
+     *   position
+     * @throws CsvException If a validator fails, or if a value cannot be
+     *   converted. In the latter case, the exception is a
+     *   {@link com.opencsv.exceptions.CsvDataTypeMismatchException}.
+     */
+    public CsvColumns build() throws IOException, CsvException {
+        return new CsvColumns(reader, columns);
+    }
+}
@@ -0,0 +1,145 @@
+package com.opencsv;
+
+import java.util.*;
+
+/**
+ * An immutable view of one line of input as a map from header names to
+ * values.
+ * <p>All records read by one {@link CSVReaderHeaderAware} share a single
+ * table that maps the header names to column positions, built once when the
+ * header is read. A record itself holds nothing but that table and the
+ * values of its line, so creating one costs no hashing and no copying, and
+ * {@link #get(Object)} is a lookup in the shared table followed by an array
+ * access.</p>
+ * <p>The entries are iterated in the order of the columns. If a header name
+ * appears more than once, the last column with that name is used, just as
+ * with {@link CSVReaderHeaderAware#readMap()}.</p>
+ * <p>Every attempt to modify a record throws an
+ * {@link UnsupportedOperationException}. {@link #toMap()} provides a mutable
+ * copy.</p>
+ *
+ * @since 5.8
+ */
+public final class CsvRecord extends AbstractMap<String, String> {
+
+    private final Header header;
+    private final String[] values;
+    private Set<Entry<String, String>> entrySet;
+
+    CsvRecord(Header header, String[] values) {
+        this.header = header;
+        this.values = values;
+    }
+
+    @Override
+    public String get(Object key) {
+        Integer index = header.index.get(key);
+        return index == null ? null : values[index];
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return header.index.containsKey(key);
+    }
+
+    @Override
+    public int size() {
+        return header.names.length;
+    }
+
+    @Override
+    public Set<Entry<String, String>> entrySet() {
+        if (entrySet == null) {
+            entrySet = new AbstractSet<Entry<String, String>>() {
+                @Override
+                public Iterator<Entry<String, String>> iterator() {
+                    return new Iterator<Entry<String, String>>() {
+                        private int next = 0;
+
+                        @Override
+                        public boolean hasNext() {
+                            return next < header.names.length;
+                        }
+
+                        @Override
+                        public Entry<String, String> next() {
+                            if (!hasNext()) {
+                                throw new NoSuchElementException();
+                            }
+                            Entry<String, String> entry = new SimpleImmutableEntry<>(
+                                    header.names[next], values[header.positions[next]]);
+                            next++;
+                            return entry;
+                        }
+                    };
+                }
+
+                @Override
+                public int size() {
+                    return header.names.length;
+                }
+            };
+        }
+        return entrySet;
+    }
+
+    /**
+     * @return A new, mutable map with the same entries as this record
+     */
+    public Map<String, String> toMap() {
+        Map<String, String> map = new HashMap<>(header.names.length * 2);
+        for (int i = 0; i < header.names.length; i++) {
+            map.put(header.names[i], values[header.positions[i]]);
+        }
+        return map;
+    }
+
+    /**
+     * The table from header names to column positions shared by all records
+     * of one input.
+     */
+    static final class Header {
+        private final Map<String, Integer> index;
+        private final String[] names;
+        private final int[] positions;
+        private final int columnCount;
+
+        /**
+         * @param headers The header line of the input
+         */
+        Header(String[] headers) {
+            Map<String, Integer> map = new HashMap<>(headers.length * 2);
+            for (int i = 0; i < headers.length; i++) {
+                map.put(headers[i], i);
+            }
+            index = Collections.unmodifiableMap(map);
+
+            // Duplicate names keep only their last column.
+            List<String> distinctNames = new ArrayList<>(map.size());
+            positions = new int[map.size()];
+            for (int i = 0; i < headers.length; i++) {
+                if (map.get(headers[i]) == i) {
+                    positions[distinctNames.size()] = i;
+                    distinctNames.add(headers[i]);
+                }
+            }
+            names = distinctNames.toArray(new String[0]);
+            columnCount = headers.length;
+        }
+
+        /**
+         * @return The mapping from header names to column positions
+         */
+        Map<String, Integer> getIndex() {
+            return index;
+        }
+
+        /**
+         * @return The number of columns in the header line, including those
+         *   with duplicate names
+         */
+        int getColumnCount() {
+            return columnCount;
+        }
+    }
+}
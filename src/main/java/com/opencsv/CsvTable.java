@@ -0,0 +1,223 @@
+package com.opencsv;
+
+import java.util.*;
+
+/**
+ * A compact, read-only table of all lines of an input.
+ * <p>This is the memory-saving alternative to the list returned by
+ * {@link CSVReader#readAll()}. Instead of one array and one {@link String}
+ * per field, all characters are stored in large shared segments, and every
+ * field is described by nothing more than its position and length. Strings
+ * are created only when a field is accessed, and are not retained by the
+ * table. A table typically needs little more memory than the characters of
+ * the input take up, which makes it possible to keep large amounts of
+ * reference data in memory.</p>
+ * <p>Lines may have different numbers of fields. Fields that were read as
+ * {@code null} (see
+ * {@link com.opencsv.enums.CSVReaderNullFieldIndicator}) remain
+ * {@code null}.</p>
+ * <p>Instances are created by {@link CSVReader#readAllCompact()}. They are
+ * never modified after they have been returned, so several threads may read
+ * from the same table once it has been safely published.</p>
+ *
+ * @since 5.8
+ */
+public final class CsvTable implements Iterable<String[]> {
+
+    /** The size of a segment of characters. Longer fields get a segment of their own. */
+    private static final int SEGMENT_SIZE = 1 << 16;
+
+    private static final int NULL_FIELD = -1;
+
+    private final List<char[]> segments = new ArrayList<>();
+    private char[] currentSegment;
+    private int currentSegmentIndex = -1;
+    private int currentSegmentUsed;
+
+    /** Segment index in the upper and offset in the lower half of each entry. */
+    private long[] fieldStarts = new long[1024];
+    private int[] fieldLengths = new int[1024];
+    private int fieldCount;
+
+    /** The index of the first field of each row, plus one final entry for the end. */
+    private int[] rowStarts = new int[16];
+    private int rowCount;
+
+    /** Tables are only created by {@link CSVReader#readAllCompact()}. */
+    CsvTable() {
+    }
+
+    /**
+     * Appends a line to the table while it is being read.
+     *
+     * @param row The fields of the line
+     */
+    void addRow(String[] row) {
+        if (fieldCount + row.length > fieldLengths.length) {
+            int capacity = Math.max(fieldCount + row.length, fieldLengths.length + (fieldLengths.length >> 1));
+            fieldStarts = Arrays.copyOf(fieldStarts, capacity);
+            fieldLengths = Arrays.copyOf(fieldLengths, capacity);
+        }
+        for (String field : row) {
+            addField(field);
+        }
+        if (rowCount + 2 > rowStarts.length) {
+            rowStarts = Arrays.copyOf(rowStarts, rowStarts.length + (rowStarts.length >> 1));
+        }
+        rowStarts[++rowCount] = fieldCount;
+    }
+
+    private void addField(String field) {
+        if (field == null) {
+            fieldLengths[fieldCount++] = NULL_FIELD;
+            return;
+        }
+        int length = field.length();
+        int segmentIndex;
+        int offset;
+        if (length > SEGMENT_SIZE) {
+            segmentIndex = segments.size();
+            offset = 0;
+            segments.add(field.toCharArray());
+        } else {
+            if (currentSegment == null || length > SEGMENT_SIZE - currentSegmentUsed) {
+                currentSegment = new char[SEGMENT_SIZE];
+                currentSegmentIndex = segments.size();
+                currentSegmentUsed = 0;
+                segments.add(currentSegment);
+            }
+            segmentIndex = currentSegmentIndex;
+            offset = currentSegmentUsed;
+            field.getChars(0, length, currentSegment, offset);
+            currentSegmentUsed += length;
+        }
+        fieldStarts[fieldCount] = ((long) segmentIndex << Integer.SIZE) | offset;
+        fieldLengths[fieldCount++] = length;
+    }
+
+    /**
+     * Releases all memory reserved for further lines once reading is
+     * complete.
+     *
+     * @return This table
+     */
+    CsvTable trimToSize() {
+        if (currentSegment != null && currentSegmentUsed < currentSegment.length) {
+            currentSegment = Arrays.copyOf(currentSegment, currentSegmentUsed);
+            segments.set(currentSegmentIndex, currentSegment);
+        }
+        fieldStarts = Arrays.copyOf(fieldStarts, fieldCount);
+        fieldLengths = Arrays.copyOf(fieldLengths, fieldCount);
+        rowStarts = Arrays.copyOf(rowStarts, rowCount + 1);
+        return this;
+    }
+
+    /**
+     * @return The number of lines in the table
+     */
+    public int getRowCount() {
+        return rowCount;
+    }
+
+    /**
+     * @param row The zero-based index of a line
+     * @return The number of fields in the line
+     * @throws IndexOutOfBoundsException If the line does not exist
+     */
+    public int getColumnCount(int row) {
+        if (row < 0 || row >= rowCount) {
+            throw new IndexOutOfBoundsException(Integer.toString(row));
+        }
+        return rowStarts[row + 1] - rowStarts[row];
+    }
+
+    /**
+     * Retrieves a single field.
+     *
+     * @param row    The zero-based index of the line
+     * @param column The zero-based index of the field in the line
+     * @return The field
+     * @throws IndexOutOfBoundsException If the line or the field does not
+     *   exist
+     */
+    public String get(int row, int column) {
+        if (column < 0 || column >= getColumnCount(row)) {
+            throw new IndexOutOfBoundsException(Integer.toString(column));
+        }
+        return field(rowStarts[row] + column);
+    }
+
+    /**
+     * Retrieves a line in the form {@link CSVReader#readNext()} would have
+     * returned it.
+     *
+     * @param row The zero-based index of the line
+     * @return A new array with all fields of the line
+     * @throws IndexOutOfBoundsException If the line does not exist
+     */
+    public String[] getRow(int row) {
+        String[] fields = new String[getColumnCount(row)];
+        int start = rowStarts[row];
+        for (int i = 0; i < fields.length; i++) {
+            fields[i] = field(start + i);
+        }
+        return fields;
+    }
+
+    /**
+     * Provides one column of all lines.
+     *
+     * @param column The zero-based index of the column
+     * @return A read-only list with the field of the column from every line,
+     *   or {@code null} for lines that are too short to have that column.
+     *   The fields are converted to strings when they are accessed.
+     */
+    public List<String> getColumn(int column) {
+        if (column < 0) {
+            throw new IndexOutOfBoundsException(Integer.toString(column));
+        }
+        return new AbstractList<String>() {
+            @Override
+            public String get(int row) {
+                return column < getColumnCount(row) ? field(rowStarts[row] + column) : null;
+            }
+
+            @Override
+            public int size() {
+                return rowCount;
+            }
+        };
+    }
+
+    /**
+     * @return An iterator over all lines, each returned as a new array
+     */
+    @Override
+    public Iterator<String[]> iterator() {
+        return new Iterator<String[]>() {
+            private int next = 0;
+
+            @Override
+            public boolean hasNext() {
+                return next < rowCount;
+            }
+
+            @Override
+            public String[] next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return getRow(next++);
+            }
+        };
+    }
+
+    private String field(int index) {
+        int length = fieldLengths[index];
+        if (length == NULL_FIELD) {
+            return null;
+        }
+        long start = fieldStarts[index];
+        return new String(segments.get((int) (start >>> Integer.SIZE)), (int) start, length);
+    }
+}
@@ -6,6 +6,8 @@ import java.io.IOException;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.List;
+import java.util.Spliterator;
+import java.util.stream.Stream;
 
 /**
  * This interface defines all the behavior of a csv writer class.
@@ -92,6 +94,59 @@ public interface ICSVWriter extends Closeable, Flushable {
         writeAll((Iterable<String[]>) allLines);
     }
 
+    /**
+     * Writes all lines, encoding them on several threads if this writer
+     * supports it.
+     * <p>The output is the same as that of
+     * {@link #writeAll(Iterable, boolean)}: the lines appear in the order in
+     * which the spliterator supplies them. Only the conversion of lines into
+     * CSV text is done in parallel; the lines are still taken from the
+     * spliterator and passed to the output by the calling thread. Writers
+     * that cannot encode lines separately simply write them one after the
+     * other, which is what this default implementation does.</p>
+     * <p>The arrays must not be modified while this method runs.</p>
+     *
+     * @param allLines         The lines to be written
+     * @param applyQuotesToAll True if all values are to be quoted. False if quotes only
+     *                         to be applied to values which contain the separator, escape,
+     *                         quote, or new line characters.
+     * @since 5.8
+     */
+    default void writeAllParallel(Spliterator<String[]> allLines, boolean applyQuotesToAll) {
+        allLines.forEachRemaining(line -> writeNext(line, applyQuotesToAll));
+    }
+
+    /**
+     * Writes all lines of a stream, encoding them on several threads if this
+     * writer supports it. The lines are written in the encounter order of
+     * the stream.
+     *
+     * @param allLines         The lines to be written
+     * @param applyQuotesToAll True if all values are to be quoted. False if quotes only
+     *                         to be applied to values which contain the separator, escape,
+     *                         quote, or new line characters.
+     * @see #writeAllParallel(Spliterator, boolean)
+     * @since 5.8
+     */
+    default void writeAllParallel(Stream<String[]> allLines, boolean applyQuotesToAll) {
+        writeAllParallel(allLines.spliterator(), applyQuotesToAll);
+    }
+
+    /**
+     * Writes all lines of a list or other iterable, encoding them on several
+     * threads if this writer supports it.
+     *
+     * @param allLines         The lines to be written
+     * @param applyQuotesToAll True if all values are to be quoted. False if quotes only
+     *                         to be applied to values which contain the separator, escape,
+     *                         quote, or new line characters.
+     * @see #writeAllParallel(Spliterator, boolean)
+     * @since 5.8
+     */
+    default void writeAllParallel(Iterable<String[]> allLines, boolean applyQuotesToAll) {
+        writeAllParallel(allLines.spliterator(), applyQuotesToAll);
+    }
+
     /**
      * Writes the entire ResultSet to a CSV file.
      * <p>
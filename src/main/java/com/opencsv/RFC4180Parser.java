@@ -55,45 +55,57 @@ public class RFC4180Parser extends AbstractCSVParser {
 
     @Override
     protected void convertToCsvValue(String value, boolean applyQuotesToAll, Appendable appendable) throws IOException {
-
-        String testValue = (value == null && !nullFieldIndicator.equals(CSVReaderNullFieldIndicator.NEITHER)) ? "" : value;
-        boolean containsQuoteChar = testValue != null && testValue.contains(getQuotecharAsString());
-        boolean surroundWithQuotes = applyQuotesToAll || isSurroundWithQuotes(value, containsQuoteChar);
-
-        String convertedString = !containsQuoteChar ? testValue : quoteMatcherPattern.matcher(testValue).replaceAll(quoteDoubledAsString);
-
-        if (surroundWithQuotes) {
-            appendable.append(getQuotechar());
-        }
-
-        appendable.append(convertedString);
-
-        if (surroundWithQuotes) {
-            appendable.append(getQuotechar());
+        if (convertToCsvValueOverridden) {
+            appendable.append(convertToCsvValue(value, applyQuotesToAll));
+        } else {
+            appendCsvValue(value, applyQuotesToAll, appendable);
         }
-
     }
 
     @Override
-    protected String convertToCsvValue(String value, boolean applyQuotesToAll) {
-        String testValue = (value == null && !nullFieldIndicator.equals(CSVReaderNullFieldIndicator.NEITHER)) ? "" : value;
-        StringBuilder builder = new StringBuilder(testValue == null ? MAX_SIZE_FOR_EMPTY_FIELD : (testValue.length() * 2));
-        boolean containsQuoteChar = testValue != null && testValue.contains(getQuotecharAsString());
-        boolean surroundWithQuotes = applyQuotesToAll || isSurroundWithQuotes(value, containsQuoteChar);
-
-        String convertedString = !containsQuoteChar ? testValue : quoteMatcherPattern.matcher(testValue).replaceAll(quoteDoubledAsString);
+    void appendCsvValue(String value, boolean applyQuotesToAll, Appendable appendable) throws IOException {
+        // With the null field indicator NEITHER, null is written as "null".
+        String testValue = String.valueOf(
+                (value == null && !nullFieldIndicator.equals(CSVReaderNullFieldIndicator.NEITHER)) ? "" : value);
+
+        // One scan decides both quoting and escaping.
+        int length = testValue.length();
+        boolean containsQuoteChar = false;
+        boolean containsSeparatorOrNewline = false;
+        for (int i = 0; i < length; i++) {
+            char c = testValue.charAt(i);
+            containsQuoteChar |= c == quotechar;
+            containsSeparatorOrNewline |= c == separator || c == '\n';
+        }
+        boolean surroundWithQuotes = isSurroundWithQuotesAfterScan(value, applyQuotesToAll, containsQuoteChar,
+                containsSeparatorOrNewline);
 
         if (surroundWithQuotes) {
-            builder.append(getQuotechar());
+            appendable.append(quotechar);
         }
 
-        builder.append(convertedString);
+        if (!containsQuoteChar) {
+            appendable.append(testValue);
+        } else {
+            int start = 0;
+            for (int i = 0; i < length; i++) {
+                if (testValue.charAt(i) == quotechar) {
+                    appendable.append(testValue, start, i + 1);
+                    appendable.append(quotechar);
+                    start = i + 1;
+                }
+            }
+            appendable.append(testValue, start, length);
+        }
 
         if (surroundWithQuotes) {
-            builder.append(getQuotechar());
+            appendable.append(quotechar);
         }
+    }
 
-        return builder.toString();
+    @Override
+    protected String convertToCsvValue(String value, boolean applyQuotesToAll) {
+        return convertToCsvValueThroughAppendable(value, applyQuotesToAll);
     }
 
     /**
@@ -0,0 +1,252 @@
+package com.opencsv;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Exports a {@link ResultSet} to an {@link ICSVWriter} in a pipeline of
+ * three stages, so that fetching rows from the database, formatting their
+ * values and writing the output overlap.
+ * <ol>
+ *     <li>The calling thread fetches the rows. It copies the raw values of
+ *     each row out of the result set and collects them in batches, by
+ *     default as many rows as the fetch size of the result set.</li>
+ *     <li>A number of formatting threads turn the batches into lines, as
+ *     {@link ResultSetHelperService} would.</li>
+ *     <li>A writer thread passes the lines to the {@link ICSVWriter}, in the
+ *     order the rows were fetched.</li>
+ * </ol>
+ * <p>The number of batches that have been fetched, but not yet written, is
+ * limited by the queue depth, so a slow output holds up the fetching
+ * instead of filling the memory.</p>
+ * <p>The output is the same as that of
+ * {@link ICSVWriter#writeAll(ResultSet, boolean, boolean, boolean)} with the
+ * same {@link ResultSetHelperService}. Overridden {@code handle} methods of
+ * the helper that take the result set are called on the fetching thread.
+ * The writer must not be used by anyone else during an export. Errors
+ * writing the output are recorded by the writer, as usual, and are reported
+ * by its {@link ICSVWriter#checkError()}.</p>
+ * <pre>
+ * {@code
+ * try (ICSVWriter writer = new CSVWriterBuilder(fileWriter).withBufferSize(1 << 16).build()) {
+ *     new ResultSetExporterBuilder(writer)
+ *             .withFormattingThreads(4)
+ *             .build()
+ *             .export(resultSet, true, false, false);
+ * }
+ * }
+ * </pre>
+ * <p>Instances are created by {@link ResultSetExporterBuilder} and may be
+ * used for any number of exports, though not at the same time.</p>
+ *
+ * @since 5.8
+ */
+public class ResultSetExporter {
+
+    /** The number of rows in a batch if neither a batch size nor a fetch size is given. */
+    public static final int DEFAULT_BATCH_SIZE = 1000;
+
+    /** Marks the end of the batches for the writer thread. */
+    private static final Future<String[][]> END = CompletableFuture.completedFuture(new String[0][]);
+
+    private static final AtomicInteger EXPORTS = new AtomicInteger();
+
+    private final ICSVWriter writer;
+    private final ResultSetHelperService helper;
+    private final int formattingThreads;
+    private final int batchSize;
+    private final int queueDepth;
+
+    /**
+     * Constructs an exporter. Use {@link ResultSetExporterBuilder}.
+     *
+     * @param writer            The writer the lines go to
+     * @param helper            Formats the values
+     * @param formattingThreads The number of threads formatting values
+     * @param batchSize         The number of rows in a batch, or zero for
+     *                          the fetch size of the result set
+     * @param queueDepth        The number of batches that may wait to be
+     *                          written
+     */
+    ResultSetExporter(ICSVWriter writer, ResultSetHelperService helper, int formattingThreads,
+                      int batchSize, int queueDepth) {
+        this.writer = writer;
+        this.helper = helper;
+        this.formattingThreads = formattingThreads;
+        this.batchSize = batchSize;
+        this.queueDepth = queueDepth;
+    }
+
+    /**
+     * Exports all remaining rows of a result set.
+     *
+     * @param rs                 The result set to export
+     * @param includeColumnNames Whether a line with the column names is
+     *                           written first
+     * @param trim               Whether character values should have white
+     *                           space trimmed
+     * @param applyQuotesToAll   Whether all values are to be quoted
+     * @return The number of lines written, including the column names
+     * @throws SQLException If the result set cannot be read
+     * @throws IOException If a CLOB cannot be read, or the calling thread is
+     *   interrupted while it waits for the other stages
+     */
+    public int export(ResultSet rs, boolean includeColumnNames, boolean trim, boolean applyQuotesToAll)
+            throws SQLException, IOException {
+        int[] types = helper.getColumnTypes(rs);
+        int rowsPerBatch = batchSize > 0 ? batchSize : rs.getFetchSize() > 0 ? rs.getFetchSize() : DEFAULT_BATCH_SIZE;
+        int export = EXPORTS.incrementAndGet();
+        AtomicInteger formatters = new AtomicInteger();
+        ExecutorService formatting = Executors.newFixedThreadPool(formattingThreads, r -> {
+            Thread thread = new Thread(r, "opencsv-export-" + export + "-format-" + formatters.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        WriterStage writerStage = new WriterStage(new ArrayBlockingQueue<>(queueDepth), applyQuotesToAll);
+        Thread writerThread = new Thread(writerStage, "opencsv-export-" + export + "-writer");
+        writerThread.setDaemon(true);
+        writerThread.start();
+
+        int linesWritten = 0;
+        boolean complete = false;
+        try {
+            if (includeColumnNames) {
+                writerStage.pending.put(CompletableFuture.completedFuture(new String[][]{helper.getColumnNames(rs)}));
+                linesWritten++;
+            }
+            Object[][] batch = new Object[rowsPerBatch][];
+            int rows = 0;
+            while (writerStage.failure == null && rs.next()) {
+                batch[rows++] = helper.getRawValues(rs, types);
+                if (rows == rowsPerBatch) {
+                    writerStage.pending.put(format(formatting, batch, rows, types, trim));
+                    linesWritten += rows;
+                    batch = new Object[rowsPerBatch][];
+                    rows = 0;
+                }
+            }
+            if (rows > 0) {
+                writerStage.pending.put(format(formatting, batch, rows, types, trim));
+                linesWritten += rows;
+            }
+            writerStage.pending.put(END);
+            complete = true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException();
+        } finally {
+            if (!complete) {
+                // The writer thread is not interrupted, since that would
+                // close an interruptible channel the output goes to.
+                writerStage.cancelled = true;
+                endUninterruptibly(writerStage.pending, writerThread);
+            }
+            joinUninterruptibly(writerThread);
+            formatting.shutdownNow();
+        }
+
+        Throwable failure = writerStage.failure;
+        if (failure instanceof RuntimeException) {
+            throw (RuntimeException) failure;
+        }
+        if (failure instanceof Error) {
+            throw (Error) failure;
+        }
+        if (failure != null) {
+            throw new IOException(failure);
+        }
+        return linesWritten;
+    }
+
+    private Future<String[][]> format(ExecutorService formatting, Object[][] batch, int rows, int[] types,
+                                      boolean trim) {
+        return formatting.submit(() -> helper.formatRawValues(batch, rows, types, trim));
+    }
+
+    /**
+     * Hands the end marker to a writer thread that has been cancelled. It
+     * takes the remaining batches without waiting for them, so there will
+     * soon be room in the queue.
+     */
+    private static void endUninterruptibly(BlockingQueue<Future<String[][]>> pending, Thread writerThread) {
+        boolean interrupted = false;
+        while (writerThread.isAlive()) {
+            try {
+                if (pending.offer(END, 100, TimeUnit.MILLISECONDS)) {
+                    break;
+                }
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void joinUninterruptibly(Thread thread) {
+        boolean interrupted = false;
+        while (thread.isAlive()) {
+            try {
+                thread.join();
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /** Writes the formatted batches in order. */
+    private final class WriterStage implements Runnable {
+        private final BlockingQueue<Future<String[][]>> pending;
+        private final boolean applyQuotesToAll;
+        private volatile Throwable failure;
+        private volatile boolean cancelled;
+
+        private WriterStage(BlockingQueue<Future<String[][]>> pending, boolean applyQuotesToAll) {
+            this.pending = pending;
+            this.applyQuotesToAll = applyQuotesToAll;
+        }
+
+        @Override
+        public void run() {
+            try {
+                Future<String[][]> next;
+                while ((next = pending.take()) != END) {
+                    if (failure != null || cancelled) {
+                        // Keep taking batches, so the fetching thread is
+                        // not blocked, until it has noticed the failure or
+                        // handed over the end marker.
+                        next.cancel(false);
+                        continue;
+                    }
+                    try {
+                        for (String[] line : next.get()) {
+                            writer.writeNext(line, applyQuotesToAll);
+                        }
+                    } catch (ExecutionException e) {
+                        failure = e.getCause();
+                    } catch (RuntimeException | Error e) {
+                        failure = e;
+                    }
+                }
+            } catch (InterruptedException e) {
+                // Someone else has interrupted this thread; stop writing.
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package com.opencsv;
+
+/**
+ * Builds a {@link ResultSetExporter}, which exports a
+ * {@link java.sql.ResultSet} with separate threads for fetching, formatting
+ * and writing.
+ * <pre>
+ * {@code
+ * int lines = new ResultSetExporterBuilder(writer)
+ *         .withFormattingThreads(4)
+ *         .withBatchSize(5000)
+ *         .build()
+ *         .export(resultSet, true, false, false);
+ * }
+ * </pre>
+ *
+ * @since 5.8
+ */
+public class ResultSetExporterBuilder {
+
+    private final ICSVWriter writer;
+    private ResultSetHelperService helper = new ResultSetHelperService();
+    private int formattingThreads = Math.max(1, Runtime.getRuntime().availableProcessors() - 2);
+    private int batchSize;
+    private int queueDepth;
+
+    /**
+     * @param writer The writer the lines are written to
+     * @throws IllegalArgumentException If the writer is null
+     */
+    public ResultSetExporterBuilder(ICSVWriter writer) {
+        if (writer == null) {
+            throw new IllegalArgumentException("The writer must not be null.");
+        }
+        this.writer = writer;
+    }
+
+    /**
+     * Sets how the values are formatted. Date, timestamp and number formats
+     * are set on the helper as usual.
+     *
+     * @param helper The helper used to read and format the values. By
+     *               default, a {@link ResultSetHelperService} with the
+     *               default formats.
+     * @return {@code this}
+     * @throws IllegalArgumentException If the helper is null
+     */
+    public ResultSetExporterBuilder withResultSetHelper(ResultSetHelperService helper) {
+        if (helper == null) {
+            throw new IllegalArgumentException("The result set helper must not be null.");
+        }
+        this.helper = helper;
+        return this;
+    }
+
+    /**
+     * @param formattingThreads The number of threads formatting values.
+     *                          Defaults to the number of processors less
+     *                          the two for fetching and writing, but at
+     *                          least one.
+     * @return {@code this}
+     * @throws IllegalArgumentException If the number is not positive
+     */
+    public ResultSetExporterBuilder withFormattingThreads(int formattingThreads) {
+        if (formattingThreads <= 0) {
+            throw new IllegalArgumentException(Integer.toString(formattingThreads));
+        }
+        this.formattingThreads = formattingThreads;
+        return this;
+    }
+
+    /**
+     * @param batchSize The number of rows formatted together. Zero, the
+     *                  default, means the fetch size of the result set, or
+     *                  {@link ResultSetExporter#DEFAULT_BATCH_SIZE} if it
+     *                  has none.
+     * @return {@code this}
+     * @throws IllegalArgumentException If the number is negative
+     */
+    public ResultSetExporterBuilder withBatchSize(int batchSize) {
+        if (batchSize < 0) {
+            throw new IllegalArgumentException(Integer.toString(batchSize));
+        }
+        this.batchSize = batchSize;
+        return this;
+    }
+
+    /**
+     * @param queueDepth The number of fetched batches that may wait to be
+     *                   written. Defaults to twice the number of formatting
+     *                   threads, so that every thread always has work.
+     * @return {@code this}
+     * @throws IllegalArgumentException If the number is not positive
+     */
+    public ResultSetExporterBuilder withQueueDepth(int queueDepth) {
+        if (queueDepth <= 0) {
+            throw new IllegalArgumentException(Integer.toString(queueDepth));
+        }
+        this.queueDepth = queueDepth;
+        return this;
+    }
+
+    /**
+     * @return A new exporter
+     */
+    public ResultSetExporter build() {
+        return new ResultSetExporter(writer, helper, formattingThreads, batchSize,
+                queueDepth > 0 ? queueDepth : 2 * formattingThreads);
+    }
+}
@@ -19,13 +19,22 @@ import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.text.TextStringBuilder;
 
 import java.io.IOException;
+import java.lang.ref.WeakReference;
 import java.sql.*;
 import java.text.NumberFormat;
 import java.text.SimpleDateFormat;
+import java.util.Locale;
 import java.util.Objects;
+import java.util.TimeZone;
 
 /**
  * Helper class for processing JDBC ResultSet objects.
+ * <p>The metadata of a result set is only read once. From the column types,
+ * a plan with a reader for each column is made, which is then applied to
+ * every row of the same result set object, so a
+ * {@link javax.sql.RowSet} that is executed again with different columns
+ * needs a new helper. Date and timestamp formatters are created once per
+ * thread and format pattern, not once per value.</p>
  */
 public class ResultSetHelperService implements ResultSetHelper {
    protected static final int CLOBBUFFERSIZE = 2048;
@@ -39,12 +48,74 @@ public class ResultSetHelperService implements ResultSetHelper {
    protected NumberFormat integerFormat;
    protected NumberFormat floatingPointFormat;
 
+   /** Reads the value of one column of the current row. */
+   @FunctionalInterface
+   private interface ColumnReader {
+      String read(ResultSet rs, int colIndex, boolean trim, String dateFormatString, String timestampFormatString)
+            throws SQLException, IOException;
+   }
+
+   /**
+    * The column types and readers for a result set. The result set is only
+    * referenced weakly, so that a helper kept for later does not keep it,
+    * and the buffers of its driver, in memory.
+    */
+   private static final class ColumnPlan {
+      private final WeakReference<ResultSet> resultSet;
+      private final int[] types;
+      private final ColumnReader[] readers;
+
+      private ColumnPlan(ResultSet resultSet, int[] types, ColumnReader[] readers) {
+         this.resultSet = new WeakReference<>(resultSet);
+         this.types = types;
+         this.readers = readers;
+      }
+   }
+
+   /** A date formatter together with the settings it was created for. */
+   private static final class CachedFormat {
+      private final String pattern;
+      private final Locale locale;
+      private final TimeZone timeZone;
+      private final SimpleDateFormat format;
+
+      private CachedFormat(String pattern, Locale locale, TimeZone timeZone) {
+         this.pattern = pattern;
+         this.locale = locale;
+         this.timeZone = timeZone;
+         this.format = new SimpleDateFormat(pattern, locale);
+         this.format.setTimeZone(timeZone);
+      }
+   }
+
+   private volatile ColumnPlan plan;
+   private final ThreadLocal<CachedFormat> dateFormatCache = new ThreadLocal<>();
+   private final ThreadLocal<CachedFormat> timestampFormatCache = new ThreadLocal<>();
+
+   /**
+    * Whether a subclass overrides {@link #handleDate(ResultSet, int, String)},
+    * which can then only be called while the result set is on the row.
+    */
+   private final boolean dateHandlerOverridden = overrides("handleDate", ResultSet.class, int.class, String.class);
+
    /**
     * Default constructor.
     */
    public ResultSetHelperService() {
    }
 
+   private boolean overrides(String name, Class<?>... parameterTypes) {
+      for (Class<?> type = getClass(); type != ResultSetHelperService.class; type = type.getSuperclass()) {
+         try {
+            type.getDeclaredMethod(name, parameterTypes);
+            return true;
+         } catch (NoSuchMethodException e) {
+            // Not declared in this class, so look further up.
+         }
+      }
+      return false;
+   }
+
    /**
     * Set a default date format pattern that will be used by the service.
     *
@@ -85,7 +156,7 @@ public class ResultSetHelperService implements ResultSetHelper {
    public String[] getColumnNames(ResultSet rs) throws SQLException {
       ResultSetMetaData metadata = rs.getMetaData();
       String[] nameArray = new String[metadata.getColumnCount()];
-      for (int i = 0; i < metadata.getColumnCount(); i++) {
+      for (int i = 0; i < nameArray.length; i++) {
          nameArray[i] = metadata.getColumnLabel(i+1);
       }
       return nameArray;
@@ -103,15 +174,230 @@ public class ResultSetHelperService implements ResultSetHelper {
 
    @Override
    public String[] getColumnValues(ResultSet rs, boolean trim, String dateFormatString, String timeFormatString) throws SQLException, IOException {
-      ResultSetMetaData metadata = rs.getMetaData();
-      String[] valueArray = new String[metadata.getColumnCount()];
-      for (int i = 1; i <= metadata.getColumnCount(); i++) {
-         valueArray[i-1] = getColumnValue(rs, metadata.getColumnType(i), i,
-               trim, dateFormatString, timeFormatString);
+      return getColumnValues(rs, trim, dateFormatString, timeFormatString, null);
+   }
+
+   /**
+    * Returns the column values from the result set, reusing an array from
+    * the previous row if possible.
+    * <p>This avoids a new array for every row when the caller is done with
+    * the values of one row before it reads the next.</p>
+    *
+    * @param rs   The ResultSet containing the values.
+    * @param trim Values should have white spaces trimmed.
+    * @param row  An array to store the values in, or {@code null}. If it
+    *             does not have exactly one element for every column, a new
+    *             array is used instead.
+    * @return {@code row} or a new array, containing the values
+    * @throws SQLException Thrown by the ResultSet.
+    * @throws IOException Thrown by the ResultSet.
+    * @since 5.8
+    */
+   public String[] getColumnValues(ResultSet rs, boolean trim, String[] row) throws SQLException, IOException {
+      return getColumnValues(rs, trim, dateFormat, dateTimeFormat, row);
+   }
+
+   /**
+    * Returns the value of one column of the current row, as it would be
+    * returned by {@link #getColumnValues(ResultSet, boolean)}. This allows
+    * the columns to be read one after the other, in order, with other work
+    * in between.
+    *
+    * @param rs       The ResultSet containing the value.
+    * @param colIndex The column, counted from one
+    * @param trim     Values should have white spaces trimmed.
+    * @return The value
+    * @throws SQLException Thrown by the ResultSet.
+    * @throws IOException Thrown by the ResultSet.
+    */
+   String getColumnValue(ResultSet rs, int colIndex, boolean trim) throws SQLException, IOException {
+      String value = columnPlan(rs).readers[colIndex - 1].read(rs, colIndex, trim, dateFormat, dateTimeFormat);
+      return rs.wasNull() || value == null ? DEFAULT_VALUE : value;
+   }
+
+   private String[] getColumnValues(ResultSet rs, boolean trim, String dateFormatString, String timeFormatString,
+                                    String[] row) throws SQLException, IOException {
+      ColumnReader[] readers = columnPlan(rs).readers;
+      String[] valueArray = row != null && row.length == readers.length ? row : new String[readers.length];
+      for (int i = 0; i < readers.length; i++) {
+         String value = readers[i].read(rs, i + 1, trim, dateFormatString, timeFormatString);
+         if (rs.wasNull() || value == null) {
+            value = DEFAULT_VALUE;
+         }
+         valueArray[i] = value;
       }
       return valueArray;
    }
 
+   /**
+    * Provides the types and readers for the columns of a result set,
+    * building them from the metadata only if the result set is a different
+    * one than last time.
+    */
+   private ColumnPlan columnPlan(ResultSet rs) throws SQLException {
+      ColumnPlan current = plan;
+      if (current == null || current.resultSet.get() != rs) {
+         ResultSetMetaData metadata = rs.getMetaData();
+         int[] types = new int[metadata.getColumnCount()];
+         ColumnReader[] readers = new ColumnReader[types.length];
+         for (int i = 0; i < readers.length; i++) {
+            types[i] = metadata.getColumnType(i + 1);
+            readers[i] = columnReader(types[i]);
+         }
+         current = new ColumnPlan(rs, types, readers);
+         plan = current;
+      }
+      return current;
+   }
+
+   /**
+    * Reads the types of the columns of a result set.
+    *
+    * @param rs The result set
+    * @return The SQL type of every column, as in {@link Types}
+    * @throws SQLException Thrown by the ResultSet.
+    */
+   int[] getColumnTypes(ResultSet rs) throws SQLException {
+      return columnPlan(rs).types.clone();
+   }
+
+   /**
+    * @param colType A column type, as in {@link Types}
+    * @return Whether the column holds a CLOB or NCLOB
+    */
+   static boolean isCharacterObject(int colType) {
+      return colType == Types.CLOB || colType == Types.NCLOB;
+   }
+
+   /**
+    * Copies the values of the current row out of the result set, so that
+    * they can be formatted later by
+    * {@link #formatRawValues(Object[][], int, int[], boolean)}, possibly on
+    * another thread.
+    * <p>Character data, CLOBs included, is read completely here, and values
+    * of other types than those formatted specially are converted to strings,
+    * since a driver may not allow them to be used any more once the result
+    * set has moved on. Dates are formatted here if a subclass overrides
+    * {@link #handleDate(ResultSet, int, String)}, since it needs the result
+    * set.</p>
+    *
+    * @param rs    The result set, positioned on a row
+    * @param types The column types from {@link #getColumnTypes(ResultSet)}
+    * @return The raw values, with {@code null} for SQL {@code NULL}
+    * @throws SQLException Thrown by the ResultSet.
+    * @throws IOException Thrown by the ResultSet.
+    */
+   Object[] getRawValues(ResultSet rs, int[] types) throws SQLException, IOException {
+      Object[] values = new Object[types.length];
+      for (int i = 0; i < types.length; i++) {
+         Object value = rawValue(rs, i + 1, types[i]);
+         values[i] = rs.wasNull() ? null : value;
+      }
+      return values;
+   }
+
+   private Object rawValue(ResultSet rs, int colIndex, int colType) throws SQLException, IOException {
+      switch (colType) {
+         case Types.BOOLEAN:
+            return rs.getBoolean(colIndex);
+         case Types.NCLOB:
+            return handleNClob(rs, colIndex);
+         case Types.CLOB:
+            return handleClob(rs, colIndex);
+         case Types.BIGINT:
+         case Types.DECIMAL:
+         case Types.REAL:
+         case Types.NUMERIC:
+            return rs.getBigDecimal(colIndex);
+         case Types.DOUBLE:
+            return rs.getDouble(colIndex);
+         case Types.FLOAT:
+            return rs.getFloat(colIndex);
+         case Types.INTEGER:
+         case Types.TINYINT:
+         case Types.SMALLINT:
+            return rs.getInt(colIndex);
+         case Types.DATE:
+            return dateHandlerOverridden ? handleDate(rs, colIndex, dateFormat) : rs.getDate(colIndex);
+         case Types.TIME:
+            return rs.getTime(colIndex);
+         case Types.TIMESTAMP:
+            return rs.getTimestamp(colIndex);
+         case Types.NVARCHAR:
+         case Types.NCHAR:
+         case Types.LONGNVARCHAR:
+            return handleNVarChar(rs, colIndex, false);
+         case Types.LONGVARCHAR:
+         case Types.VARCHAR:
+         case Types.CHAR:
+            return handleVarChar(rs, colIndex, false);
+         default:
+            return Objects.toString(rs.getObject(colIndex), DEFAULT_VALUE);
+      }
+   }
+
+   /**
+    * Formats rows copied by {@link #getRawValues(ResultSet, int[])} exactly
+    * as {@link #getColumnValues(ResultSet, boolean)} would have formatted
+    * them.
+    * <p>May be called from several threads at the same time. The number
+    * formats are copied for every call, since {@link NumberFormat} is not
+    * thread-safe.</p>
+    *
+    * @param rows  The raw values of the rows
+    * @param count The number of rows to format, starting with the first
+    * @param types The column types from {@link #getColumnTypes(ResultSet)}
+    * @param trim  Whether character values should have white space trimmed
+    * @return The formatted rows
+    */
+   String[][] formatRawValues(Object[][] rows, int count, int[] types, boolean trim) {
+      NumberFormat integers = integerFormat == null ? null : (NumberFormat) integerFormat.clone();
+      NumberFormat floatingPoints = floatingPointFormat == null ? null : (NumberFormat) floatingPointFormat.clone();
+      String[][] lines = new String[count][];
+      for (int row = 0; row < count; row++) {
+         Object[] values = rows[row];
+         String[] line = new String[types.length];
+         for (int i = 0; i < types.length; i++) {
+            line[i] = formatRawValue(values[i], types[i], trim, integers, floatingPoints);
+         }
+         lines[row] = line;
+      }
+      return lines;
+   }
+
+   private String formatRawValue(Object value, int colType, boolean trim, NumberFormat integers,
+                                 NumberFormat floatingPoints) {
+      if (value == null) {
+         return DEFAULT_VALUE;
+      }
+      switch (colType) {
+         case Types.BIGINT:
+         case Types.INTEGER:
+         case Types.TINYINT:
+         case Types.SMALLINT:
+            return applyFormatter(integers, (Number) value);
+         case Types.DECIMAL:
+         case Types.REAL:
+         case Types.NUMERIC:
+         case Types.DOUBLE:
+         case Types.FLOAT:
+            return applyFormatter(floatingPoints, (Number) value);
+         case Types.DATE:
+            return value instanceof Date ? format(dateFormatCache, dateFormat).format((Date) value) : value.toString();
+         case Types.TIMESTAMP:
+            return Objects.toString(handleTimestamp((Timestamp) value, dateTimeFormat), DEFAULT_VALUE);
+         case Types.NVARCHAR:
+         case Types.NCHAR:
+         case Types.LONGNVARCHAR:
+         case Types.LONGVARCHAR:
+         case Types.VARCHAR:
+         case Types.CHAR:
+            return trim ? value.toString().trim() : value.toString();
+         default:
+            return value.toString();
+      }
+   }
+
    /**
     * The formatted timestamp.
     * @param timestamp Timestamp read from resultset
@@ -119,75 +405,78 @@ public class ResultSetHelperService implements ResultSetHelper {
     * @return Formatted time stamp.
     */
    protected String handleTimestamp(Timestamp timestamp, String timestampFormatString) {
-      SimpleDateFormat timeFormat = new SimpleDateFormat(timestampFormatString);
-      return timestamp == null ? null : timeFormat.format(timestamp);
+      return timestamp == null ? null : format(timestampFormatCache, timestampFormatString).format(timestamp);
    }
 
-   private String getColumnValue(ResultSet rs, int colType, int colIndex, boolean trim, String dateFormatString, String timestampFormatString)
-         throws SQLException, IOException {
-
-      String value;
+   /**
+    * Provides a formatter for the current thread, creating a new one only if
+    * the pattern or the default locale or time zone has changed.
+    */
+   private static SimpleDateFormat format(ThreadLocal<CachedFormat> cache, String pattern) {
+      CachedFormat cached = cache.get();
+      Locale locale = Locale.getDefault(Locale.Category.FORMAT);
+      TimeZone timeZone = TimeZone.getDefault();
+      if (cached == null || !cached.pattern.equals(pattern) || !cached.locale.equals(locale)
+            || !cached.timeZone.equals(timeZone)) {
+         cached = new CachedFormat(pattern, locale, timeZone);
+         cache.set(cached);
+      }
+      return cached.format;
+   }
 
+   private ColumnReader columnReader(int colType) {
       switch (colType) {
          case Types.BOOLEAN:
-            value = Objects.toString(rs.getBoolean(colIndex));
-            break;
+            return (rs, colIndex, trim, dateFormatString, timestampFormatString) ->
+                  Objects.toString(rs.getBoolean(colIndex));
          case Types.NCLOB:
-            value = handleNClob(rs, colIndex);
-            break;
+            return (rs, colIndex, trim, dateFormatString, timestampFormatString) -> handleNClob(rs, colIndex);
          case Types.CLOB:
-            value = handleClob(rs, colIndex);
-            break;
+            return (rs, colIndex, trim, dateFormatString, timestampFormatString) -> handleClob(rs, colIndex);
          case Types.BIGINT:
-            value = applyFormatter(integerFormat, rs.getBigDecimal(colIndex));
-            break;
+            return (rs, colIndex, trim, dateFormatString, timestampFormatString) ->
+                  applyFormatter(integerFormat, rs.getBigDecimal(colIndex));
          case Types.DECIMAL:
          case Types.REAL:
          case Types.NUMERIC:
-            value = applyFormatter(floatingPointFormat, rs.getBigDecimal(colIndex));
-            break;
+            return (rs, colIndex, trim, dateFormatString, timestampFormatString) ->
+                  applyFormatter(floatingPointFormat, rs.getBigDecimal(colIndex));
          case Types.DOUBLE:
-            value = applyFormatter(floatingPointFormat, rs.getDouble(colIndex));
-            break;
+            return (rs, colIndex, trim, dateFormatString, timestampFormatString) ->
+                  applyFormatter(floatingPointFormat, rs.getDouble(colIndex));
          case Types.FLOAT:
-            value = applyFormatter(floatingPointFormat, rs.getFloat(colIndex));
-            break;
+            return (rs, colIndex, trim, dateFormatString, timestampFormatString) ->
+                  applyFormatter(floatingPointFormat, rs.getFloat(colIndex));
          case Types.INTEGER:
          case Types.TINYINT:
          case Types.SMALLINT:
-            value = applyFormatter(integerFormat, rs.getInt(colIndex));
-            break;
+            return (rs, colIndex, trim, dateFormatString, timestampFormatString) ->
+                  applyFormatter(integerFormat, rs.getInt(colIndex));
          case Types.DATE:
-            value = handleDate(rs, colIndex, dateFormatString);
-            break;
+            return (rs, colIndex, trim, dateFormatString, timestampFormatString) ->
+                  handleDate(rs, colIndex, dateFormatString);
          case Types.TIME:
-            value = Objects.toString(rs.getTime(colIndex), DEFAULT_VALUE);
-            break;
+            return (rs, colIndex, trim, dateFormatString, timestampFormatString) ->
+                  Objects.toString(rs.getTime(colIndex), DEFAULT_VALUE);
          case Types.TIMESTAMP:
-            value = handleTimestamp(rs.getTimestamp(colIndex), timestampFormatString);
-            break;
+            return (rs, colIndex, trim, dateFormatString, timestampFormatString) ->
+                  handleTimestamp(rs.getTimestamp(colIndex), timestampFormatString);
          case Types.NVARCHAR:
          case Types.NCHAR:
          case Types.LONGNVARCHAR:
-            value = handleNVarChar(rs, colIndex, trim);
-            break;
+            return (rs, colIndex, trim, dateFormatString, timestampFormatString) ->
+                  handleNVarChar(rs, colIndex, trim);
          case Types.LONGVARCHAR:
          case Types.VARCHAR:
          case Types.CHAR:
-            value = handleVarChar(rs, colIndex, trim);
-            break;
+            return (rs, colIndex, trim, dateFormatString, timestampFormatString) ->
+                  handleVarChar(rs, colIndex, trim);
          default:
             // This takes care of Types.BIT, Types.JAVA_OBJECT, and anything
             // unknown.
-            value = Objects.toString(rs.getObject(colIndex), DEFAULT_VALUE);
+            return (rs, colIndex, trim, dateFormatString, timestampFormatString) ->
+                  Objects.toString(rs.getObject(colIndex), DEFAULT_VALUE);
       }
-
-
-      if (rs.wasNull() || value == null) {
-         value = DEFAULT_VALUE;
-      }
-
-      return value;
    }
 
    private String applyFormatter(NumberFormat formatter, Number value) {
@@ -250,8 +539,7 @@ public class ResultSetHelperService implements ResultSetHelper {
       String value = DEFAULT_VALUE;
       Date date = rs.getDate(colIndex);
       if (date != null) {
-         SimpleDateFormat df = new SimpleDateFormat(dateFormatString);
-         value = df.format(date);
+         value = format(dateFormatCache, dateFormatString).format(date);
       }
       return value;
    }
@@ -0,0 +1,343 @@
+package com.opencsv;
+
+import java.io.FilterWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ResourceBundle;
+import java.util.function.Function;
+
+/**
+ * An {@link ICSVWriter} that splits its output into several parts, or
+ * shards, each written to a {@link Writer} of its own.
+ * <p>A new shard is begun once the current one has reached a maximum number
+ * of lines or a maximum number of characters. The size of a shard is
+ * measured as the characters passed to its {@link Writer}; for ASCII output
+ * written as UTF-8, this is the number of bytes. The limit is checked after
+ * every line, so a shard ends with the line that reaches it and may exceed
+ * it by up to one line, plus the size of the buffer if the shards are
+ * written by a {@link BufferedCSVWriter}.</p>
+ * <p>If the output has a header, the first line written is taken to be the
+ * header and is repeated at the beginning of every shard. This includes the
+ * header written by {@link com.opencsv.bean.StatefulBeanToCsv}, so beans can
+ * be exported into several files simply by passing this writer to
+ * {@link com.opencsv.bean.StatefulBeanToCsvBuilder#StatefulBeanToCsvBuilder(ICSVWriter)}.</p>
+ * <p>With more than one concurrent shard, that many shards are open at the
+ * same time, and lines are distributed among them in blocks. Each of those
+ * shards is written by an {@link AsyncCSVWriter} with a thread of its own,
+ * so that several files are encoded and written in parallel. The order of
+ * the lines within each shard is preserved, but the lines are no longer in
+ * the order of the shards. Since the lines of these shards are written
+ * later, their size is not measured, but estimated when the lines are
+ * passed in: the length of every field, one character between fields and
+ * for the line end, and two quote characters per field if all fields are
+ * to be quoted.</p>
+ * <p>Instances are created by {@link RollingCSVWriterBuilder}. Shards are
+ * closed as soon as they are complete; {@link #close()} closes those still
+ * open.</p>
+ *
+ * @since 5.8
+ */
+public class RollingCSVWriter implements ICSVWriter {
+
+    /**
+     * Opens the {@link Writer} for a new shard.
+     */
+    @FunctionalInterface
+    public interface ShardOpener {
+
+        /**
+         * @param shard The number of the shard, counted from zero
+         * @return The writer the shard is written to. It is closed once the
+         *   shard is complete.
+         * @throws IOException If the writer cannot be opened
+         */
+        Writer open(int shard) throws IOException;
+    }
+
+    /** The number of lines passed to one concurrent shard before the next one gets its turn. */
+    private static final int LINES_PER_TURN = 1024;
+
+    /** Counts the characters passed on to the writer of a shard. */
+    private static final class CountingWriter extends FilterWriter {
+        private volatile long count;
+
+        private CountingWriter(Writer out) {
+            super(out);
+        }
+
+        @Override
+        public void write(int c) throws IOException {
+            out.write(c);
+            count++;
+        }
+
+        @Override
+        public void write(char[] cbuf, int off, int len) throws IOException {
+            out.write(cbuf, off, len);
+            count += len;
+        }
+
+        @Override
+        public void write(String str, int off, int len) throws IOException {
+            out.write(str, off, len);
+            count += len;
+        }
+    }
+
+    /** An open shard. */
+    private static final class Shard {
+        private final ICSVWriter writer;
+        private final CountingWriter counter;
+        private long lines;
+        private long estimatedCharacters;
+
+        private Shard(ICSVWriter writer, CountingWriter counter) {
+            this.writer = writer;
+            this.counter = counter;
+        }
+    }
+
+    private final ShardOpener opener;
+    private final Function<Writer, ICSVWriter> csvWriterFactory;
+    private final long maxLines;
+    private final long maxCharacters;
+    private final boolean header;
+    private final Shard[] shards;
+
+    private int currentShard;
+    private int linesInTurn;
+    private int shardsOpened;
+    private String[] headerLine;
+    private boolean headerApplyQuotesToAll;
+    private boolean closed;
+    private volatile IOException exception;
+    private ResultSetHelper resultService;
+
+    /**
+     * Constructs a rolling writer. Use {@link RollingCSVWriterBuilder}.
+     *
+     * @param opener            Opens the writers of the shards
+     * @param csvWriterFactory  Creates the {@link ICSVWriter} for the writer
+     *                          of each shard
+     * @param maxLines          The maximum number of lines per shard,
+     *                          excluding the header, or zero for no limit
+     * @param maxCharacters     The size per shard after which a new shard is
+     *                          begun, or zero for no limit
+     * @param header            Whether the first line is a header to be
+     *                          repeated in every shard
+     * @param concurrentShards  The number of shards written at the same time
+     */
+    RollingCSVWriter(ShardOpener opener, Function<Writer, ICSVWriter> csvWriterFactory,
+                     long maxLines, long maxCharacters, boolean header, int concurrentShards) {
+        this.opener = opener;
+        this.csvWriterFactory = csvWriterFactory;
+        this.maxLines = maxLines;
+        this.maxCharacters = maxCharacters;
+        this.header = header;
+        this.shards = new Shard[concurrentShards];
+    }
+
+    @Override
+    public synchronized void writeNext(String[] nextLine, boolean applyQuotesToAll) {
+        if (closed) {
+            exception = new IOException(ResourceBundle.getBundle(ICSVParser.DEFAULT_BUNDLE_NAME)
+                    .getString("writer.closed"));
+            return;
+        }
+        if (header && headerLine == null) {
+            headerLine = nextLine;
+            headerApplyQuotesToAll = applyQuotesToAll;
+            return;
+        }
+
+        Shard shard = shards[currentShard];
+        if (shard == null) {
+            shard = open();
+            if (shard == null) {
+                return;
+            }
+            shards[currentShard] = shard;
+        }
+        shard.writer.writeNext(nextLine, applyQuotesToAll);
+        shard.lines++;
+        long characters;
+        if (shards.length > 1) {
+            shard.estimatedCharacters += estimateLength(nextLine, applyQuotesToAll);
+            characters = shard.estimatedCharacters;
+        } else {
+            characters = shard.counter.count;
+        }
+
+        if ((maxLines > 0 && shard.lines >= maxLines) || (maxCharacters > 0 && characters >= maxCharacters)) {
+            shards[currentShard] = null;
+            close(shard);
+        }
+        if (shards.length > 1 && ++linesInTurn == LINES_PER_TURN) {
+            linesInTurn = 0;
+            currentShard = (currentShard + 1) % shards.length;
+        }
+    }
+
+    /**
+     * Estimates the length of a line as written, for shards whose output
+     * cannot be counted in time.
+     */
+    private static long estimateLength(String[] line, boolean applyQuotesToAll) {
+        if (line == null) {
+            return 0;
+        }
+        long length = Math.max(line.length, 1);
+        for (String field : line) {
+            if (field != null) {
+                length += field.length() + (applyQuotesToAll ? 2 : 0);
+            }
+        }
+        return length;
+    }
+
+    private Shard open() {
+        Writer writer;
+        try {
+            writer = opener.open(shardsOpened++);
+        } catch (IOException e) {
+            exception = e;
+            return null;
+        }
+        CountingWriter counter = new CountingWriter(writer);
+        ICSVWriter csvWriter = csvWriterFactory.apply(counter);
+        if (shards.length > 1) {
+            csvWriter = new AsyncCSVWriter(csvWriter);
+        }
+        if (resultService != null) {
+            csvWriter.setResultService(resultService);
+        }
+        Shard shard = new Shard(csvWriter, counter);
+        if (headerLine != null) {
+            csvWriter.writeNext(headerLine, headerApplyQuotesToAll);
+            shard.estimatedCharacters = estimateLength(headerLine, headerApplyQuotesToAll);
+        }
+        return shard;
+    }
+
+    private void close(Shard shard) {
+        try {
+            shard.writer.close();
+        } catch (IOException e) {
+            exception = e;
+        }
+        IOException e = shard.writer.getException();
+        if (e != null) {
+            exception = e;
+        }
+    }
+
+    /**
+     * @return The number of shards begun so far
+     */
+    public synchronized int getShardCount() {
+        return shardsOpened;
+    }
+
+    @Override
+    public void writeAll(Iterable<String[]> allLines, boolean applyQuotesToAll) {
+        for (String[] line : allLines) {
+            writeNext(line, applyQuotesToAll);
+        }
+    }
+
+    @Override
+    public int writeAll(ResultSet rs, boolean includeColumnNames, boolean trim, boolean applyQuotesToAll) throws SQLException, IOException {
+        int linesWritten = 0;
+        ResultSetHelper helper = resultService();
+        if (includeColumnNames) {
+            writeNext(helper.getColumnNames(rs), applyQuotesToAll);
+            linesWritten++;
+        }
+        while (rs.next()) {
+            writeNext(helper.getColumnValues(rs, trim), applyQuotesToAll);
+            linesWritten++;
+        }
+        return linesWritten;
+    }
+
+    private synchronized ResultSetHelper resultService() {
+        if (resultService == null) {
+            resultService = new ResultSetHelperService();
+        }
+        return resultService;
+    }
+
+    @Override
+    public synchronized void setResultService(ResultSetHelper resultService) {
+        this.resultService = resultService;
+    }
+
+    /**
+     * Flushes all shards that are open.
+     *
+     * @throws IOException If a shard cannot be flushed
+     */
+    @Override
+    public synchronized void flush() throws IOException {
+        for (Shard shard : shards) {
+            if (shard != null) {
+                shard.writer.flush();
+            }
+        }
+    }
+
+    /**
+     * Closes all shards that are open. If a header has been written, but
+     * no other line, a shard with only the header is written, so that the
+     * output is never missing entirely.
+     *
+     * @throws IOException If an error occurred while closing a shard
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        if (shardsOpened == 0 && headerLine != null) {
+            shards[0] = open();
+        }
+        IOException before = exception;
+        for (int i = 0; i < shards.length; i++) {
+            if (shards[i] != null) {
+                close(shards[i]);
+                shards[i] = null;
+            }
+        }
+        if (exception != null && exception != before) {
+            throw exception;
+        }
+    }
+
+    @Override
+    public synchronized boolean checkError() {
+        for (Shard shard : shards) {
+            if (shard != null && shard.writer.checkError() && shard.writer.getException() != null) {
+                exception = shard.writer.getException();
+            }
+        }
+        return exception != null;
+    }
+
+    @Override
+    public IOException getException() {
+        return exception;
+    }
+
+    @Override
+    public synchronized void resetError() {
+        exception = null;
+        for (Shard shard : shards) {
+            if (shard != null) {
+                shard.writer.resetError();
+            }
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package com.opencsv;
+
+import java.io.Writer;
+import java.util.function.Function;
+
+/**
+ * Builds a {@link RollingCSVWriter}, which splits its output into several
+ * shards.
+ * <pre>
+ * {@code
+ * ICSVWriter writer = new RollingCSVWriterBuilder(
+ *             shard -> Files.newBufferedWriter(Paths.get(String.format("part-%05d.csv", shard))))
+ *         .withMaxLines(1_000_000)
+ *         .withHeader(true)
+ *         .build();
+ * }
+ * </pre>
+ *
+ * @since 5.8
+ */
+public class RollingCSVWriterBuilder {
+
+    private final RollingCSVWriter.ShardOpener opener;
+    private Function<Writer, ICSVWriter> csvWriterFactory = w -> new CSVWriterBuilder(w).build();
+    private long maxLines;
+    private long maxCharacters;
+    private boolean header;
+    private int concurrentShards = 1;
+
+    /**
+     * @param opener Opens the writer of each shard
+     * @throws IllegalArgumentException If the opener is null
+     */
+    public RollingCSVWriterBuilder(RollingCSVWriter.ShardOpener opener) {
+        if (opener == null) {
+            throw new IllegalArgumentException("The shard opener must not be null.");
+        }
+        this.opener = opener;
+    }
+
+    /**
+     * Sets how the {@link ICSVWriter} for each shard is created, and thereby
+     * the format of the output. By default, every shard is written by a
+     * {@link CSVWriter} with the default settings.
+     *
+     * @param csvWriterFactory Creates a CSV writer for the writer of a shard,
+     *                         for example with {@link CSVWriterBuilder}
+     * @return {@code this}
+     */
+    public RollingCSVWriterBuilder withCSVWriterFactory(Function<Writer, ICSVWriter> csvWriterFactory) {
+        this.csvWriterFactory = csvWriterFactory;
+        return this;
+    }
+
+    /**
+     * @param maxLines The number of lines, not counting the header, after
+     *                 which a new shard is begun. Zero, the default, means
+     *                 no limit.
+     * @return {@code this}
+     * @throws IllegalArgumentException If the number is negative
+     */
+    public RollingCSVWriterBuilder withMaxLines(long maxLines) {
+        if (maxLines < 0) {
+            throw new IllegalArgumentException(Long.toString(maxLines));
+        }
+        this.maxLines = maxLines;
+        return this;
+    }
+
+    /**
+     * @param maxCharacters The number of characters, including the header,
+     *                      after which a new shard is begun. Zero, the
+     *                      default, means no limit. With concurrent
+     *                      shards, the size is estimated; see
+     *                      {@link RollingCSVWriter}.
+     * @return {@code this}
+     * @throws IllegalArgumentException If the number is negative
+     */
+    public RollingCSVWriterBuilder withMaxCharacters(long maxCharacters) {
+        if (maxCharacters < 0) {
+            throw new IllegalArgumentException(Long.toString(maxCharacters));
+        }
+        this.maxCharacters = maxCharacters;
+        return this;
+    }
+
+    /**
+     * @param header Whether the first line written is a header to be
+     *               repeated at the beginning of every shard. Defaults to
+     *               {@code false}.
+     * @return {@code this}
+     */
+    public RollingCSVWriterBuilder withHeader(boolean header) {
+        this.header = header;
+        return this;
+    }
+
+    /**
+     * @param concurrentShards The number of shards written at the same time,
+     *                         each on a thread of its own. Defaults to one,
+     *                         which writes all lines in order on the calling
+     *                         thread.
+     * @return {@code this}
+     * @throws IllegalArgumentException If the number is not positive
+     */
+    public RollingCSVWriterBuilder withConcurrentShards(int concurrentShards) {
+        if (concurrentShards <= 0) {
+            throw new IllegalArgumentException(Integer.toString(concurrentShards));
+        }
+        this.concurrentShards = concurrentShards;
+        return this;
+    }
+
+    /**
+     * @return A new rolling writer. No shard is opened before the first line
+     *   is written.
+     */
+    public RollingCSVWriter build() {
+        return new RollingCSVWriter(opener, csvWriterFactory, maxLines, maxCharacters, header, concurrentShards);
+    }
+}
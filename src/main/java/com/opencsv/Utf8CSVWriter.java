@@ -0,0 +1,190 @@
+package com.opencsv;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+
+/**
+ * A {@link BufferedCSVWriter} that writes UTF-8 straight to an
+ * {@link OutputStream} or a {@link WritableByteChannel}.
+ * <p>Instead of passing its characters through a {@link java.io.Writer} and
+ * a charset encoder, this writer encodes them itself into a reusable byte
+ * buffer. ASCII, which is what most CSV consists of, is copied one byte per
+ * character without further checks. The output is the same as that of a
+ * {@link CSVWriter} wrapped around an {@link java.io.OutputStreamWriter} for
+ * UTF-8, including the replacement of unpaired surrogates by {@code '?'}.</p>
+ * <p>This writer has no underlying {@link java.io.Writer}; the field
+ * {@link #writer} is {@code null}.</p>
+ *
+ * @see CSVWriterBuilder#CSVWriterBuilder(OutputStream)
+ * @see CSVWriterBuilder#CSVWriterBuilder(WritableByteChannel)
+ * @since 5.8
+ */
+public class Utf8CSVWriter extends BufferedCSVWriter {
+
+    private final OutputStream outputStream;
+    private final WritableByteChannel channel;
+    private final byte[] bytes;
+    private int bytePosition;
+
+    /** A high surrogate at the end of the last characters encoded, or zero. */
+    private char pendingHighSurrogate;
+
+    /**
+     * Constructs a writer for an output stream.
+     *
+     * @param outputStream The stream the UTF-8 encoded output is written to
+     * @param separator    The delimiter to use for separating entries
+     * @param quotechar    The character to use for quoted elements
+     * @param escapechar   The character to use for escaping quotechars or escapechars
+     * @param lineEnd      The line feed terminator to use
+     * @param bufferSize   The number of characters and bytes collected before
+     *                     they are passed on
+     * @throws IllegalArgumentException If the buffer size is not positive
+     */
+    public Utf8CSVWriter(OutputStream outputStream, char separator, char quotechar, char escapechar,
+                         String lineEnd, int bufferSize) {
+        this(outputStream, null, separator, quotechar, escapechar, lineEnd, bufferSize);
+    }
+
+    /**
+     * Constructs a writer for a channel, such as a
+     * {@link java.nio.channels.FileChannel}.
+     *
+     * @param channel    The channel the UTF-8 encoded output is written to
+     * @param separator  The delimiter to use for separating entries
+     * @param quotechar  The character to use for quoted elements
+     * @param escapechar The character to use for escaping quotechars or escapechars
+     * @param lineEnd    The line feed terminator to use
+     * @param bufferSize The number of characters and bytes collected before
+     *                   they are passed on
+     * @throws IllegalArgumentException If the buffer size is not positive
+     */
+    public Utf8CSVWriter(WritableByteChannel channel, char separator, char quotechar, char escapechar,
+                         String lineEnd, int bufferSize) {
+        this(null, channel, separator, quotechar, escapechar, lineEnd, bufferSize);
+    }
+
+    private Utf8CSVWriter(OutputStream outputStream, WritableByteChannel channel, char separator,
+                          char quotechar, char escapechar, String lineEnd, int bufferSize) {
+        super(null, separator, quotechar, escapechar, lineEnd, bufferSize);
+        this.outputStream = outputStream;
+        this.channel = channel;
+        // At least room for the four bytes of the longest encoded character
+        bytes = new byte[Math.max(bufferSize, 4)];
+    }
+
+    @Override
+    protected void writeChars(char[] chars, int offset, int length) throws IOException {
+        byte[] out = bytes;
+        int end = offset + length;
+        int i = offset;
+        if (pendingHighSurrogate != 0 && i < end) {
+            if (Character.isLowSurrogate(chars[i])) {
+                ensureRoom(4);
+                bytePosition = encodeCodePoint(Character.toCodePoint(pendingHighSurrogate, chars[i++]), bytePosition);
+            } else {
+                ensureRoom(1);
+                out[bytePosition++] = '?';
+            }
+            pendingHighSurrogate = 0;
+        }
+
+        while (i < end) {
+            // ASCII, copied as long as there is room
+            int room = out.length - bytePosition;
+            int asciiEnd = Math.min(end, i + room);
+            int p = bytePosition;
+            while (i < asciiEnd && chars[i] < 0x80) {
+                out[p++] = (byte) chars[i++];
+            }
+            bytePosition = p;
+            if (i == end) {
+                break;
+            }
+            ensureRoom(4);
+            char c = chars[i++];
+            if (c < 0x80) {
+                out[bytePosition++] = (byte) c;
+            } else if (c < 0x800) {
+                out[bytePosition++] = (byte) (0xC0 | (c >> 6));
+                out[bytePosition++] = (byte) (0x80 | (c & 0x3F));
+            } else if (Character.isHighSurrogate(c)) {
+                if (i == end) {
+                    pendingHighSurrogate = c;
+                } else if (Character.isLowSurrogate(chars[i])) {
+                    bytePosition = encodeCodePoint(Character.toCodePoint(c, chars[i++]), bytePosition);
+                } else {
+                    out[bytePosition++] = '?';
+                }
+            } else if (Character.isLowSurrogate(c)) {
+                out[bytePosition++] = '?';
+            } else {
+                out[bytePosition++] = (byte) (0xE0 | (c >> 12));
+                out[bytePosition++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+                out[bytePosition++] = (byte) (0x80 | (c & 0x3F));
+            }
+        }
+    }
+
+    private int encodeCodePoint(int codePoint, int p) {
+        bytes[p++] = (byte) (0xF0 | (codePoint >> 18));
+        bytes[p++] = (byte) (0x80 | ((codePoint >> 12) & 0x3F));
+        bytes[p++] = (byte) (0x80 | ((codePoint >> 6) & 0x3F));
+        bytes[p++] = (byte) (0x80 | (codePoint & 0x3F));
+        return p;
+    }
+
+    private void ensureRoom(int room) throws IOException {
+        if (bytes.length - bytePosition < room) {
+            writeBytes();
+        }
+    }
+
+    private void writeBytes() throws IOException {
+        if (bytePosition > 0) {
+            if (outputStream != null) {
+                outputStream.write(bytes, 0, bytePosition);
+            } else {
+                ByteBuffer byteBuffer = ByteBuffer.wrap(bytes, 0, bytePosition);
+                while (byteBuffer.hasRemaining()) {
+                    channel.write(byteBuffer);
+                }
+            }
+            bytePosition = 0;
+        }
+    }
+
+    /**
+     * Writes everything buffered to the output and flushes the output
+     * stream. A high surrogate at the very end of the output so far is held
+     * back, because the low surrogate belonging to it may yet follow.
+     *
+     * @throws IOException If the output cannot be written
+     */
+    @Override
+    public void flush() throws IOException {
+        flushBuffer();
+        writeBytes();
+        if (outputStream != null) {
+            outputStream.flush();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        flush();
+        if (pendingHighSurrogate != 0) {
+            pendingHighSurrogate = 0;
+            ensureRoom(1);
+            bytes[bytePosition++] = '?';
+            writeBytes();
+        }
+        if (outputStream != null) {
+            outputStream.close();
+        } else {
+            channel.close();
+        }
+    }
+}
@@ -158,9 +158,35 @@ abstract public class AbstractBeanField<T, I> implements BeanField<T, I> {
     public final void setFieldValue(Object bean, String value, String header)
             throws CsvDataTypeMismatchException, CsvRequiredFieldEmptyException,
             CsvConstraintViolationException, CsvValidationException {
+        assignValueToField(bean, convertInput(value, bean == null ? field.getDeclaringClass() : bean.getClass()), header);
+    }
+
+    /**
+     * Checks, processes, validates and converts the input for this field
+     * without assigning it to a bean.
+     * <p>This is everything {@link #setFieldValue(Object, String, String)}
+     * does before the result is assigned.</p>
+     *
+     * @param value The string from the selected field of the CSV file
+     * @param beanType The type of the bean the value is meant for, used in
+     *                 error messages
+     * @return The converted value
+     * @throws CsvDataTypeMismatchException If the input cannot be converted
+     *   into the proper type
+     * @throws CsvRequiredFieldEmptyException If the field is required, but
+     *   the input is empty
+     * @throws CsvConstraintViolationException When the internal structure of
+     *   data would be violated by the input
+     * @throws CsvValidationException If a user-supplied validator determines
+     *   that the input is invalid
+     * @since 5.8
+     */
+    protected Object convertInput(String value, Class<?> beanType)
+            throws CsvDataTypeMismatchException, CsvRequiredFieldEmptyException,
+            CsvConstraintViolationException, CsvValidationException {
         if (required && StringUtils.isBlank(value)) {
             throw new CsvRequiredFieldEmptyException(
-                    bean.getClass(), field,
+                    beanType, field,
                     String.format(ResourceBundle.getBundle(ICSVParser.DEFAULT_BUNDLE_NAME, errorLocale).getString("required.field.empty"),
                             field.getName()));
         }
@@ -179,7 +205,7 @@ abstract public class AbstractBeanField<T, I> implements BeanField<T, I> {
             validateValue(validator, fieldValue);
         }
 
-        assignValueToField(bean, convert(fieldValue), header);
+        return convert(fieldValue);
     }
 
     private String preProcessValue(PreAssignmentProcessor processor, String value) throws CsvValidationException {
@@ -23,13 +23,21 @@ import org.apache.commons.collections4.MultiValuedMap;
 import org.apache.commons.collections4.SetUtils;
 import org.apache.commons.collections4.multimap.ArrayListValuedHashMap;
 import org.apache.commons.lang3.ArrayUtils;
+import org.apache.commons.lang3.ClassUtils;
 import org.apache.commons.lang3.ObjectUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.reflect.FieldUtils;
 
 import java.lang.annotation.Annotation;
+import java.lang.reflect.Array;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Executable;
 import java.lang.reflect.Field;
 import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.math.BigDecimal;
+import java.math.BigInteger;
 import java.util.*;
 import java.util.function.Function;
 
@@ -60,6 +68,17 @@ public abstract class AbstractMappingStrategy<I, K extends Comparable<K>, C exte
     private static final Set<Class> FORBIDDEN_CLASSES_FOR_RECURSION = new HashSet<>(Arrays.asList(Byte.TYPE, Short.TYPE,
             Integer.TYPE, Float.TYPE, Double.TYPE, Boolean.TYPE, Long.TYPE, Character.TYPE));
 
+    /**
+     * The types other than primitives, enumerations and {@code java.time}
+     * whose conversions may be cached through {@link CsvCache}.
+     */
+    // This is easier in Java 9 with Set.of()
+    private static final Set<Class<?>> IMMUTABLE_TYPES = new HashSet<>(Arrays.asList(
+            Byte.class, Short.class, Integer.class, Long.class, Float.class,
+            Double.class, Boolean.class, Character.class, String.class,
+            BigDecimal.class, BigInteger.class,
+            Currency.class, UUID.class));
+
     /** This is the class of the bean to be manipulated. */
     protected Class<? extends T> type;
     
@@ -77,6 +96,47 @@ public abstract class AbstractMappingStrategy<I, K extends Comparable<K>, C exte
      */
     protected RecursiveType recursiveTypeTree;
 
+    /**
+     * {@link #recursiveTypeTree} flattened into an array in pre-order, so
+     * bean trees can be created and indexed without recursion or maps.
+     * Index zero is always the root bean type.
+     */
+    private BeanTreeSlot[] beanTreeSlots;
+
+    /**
+     * The layout of the columns when writing beans.
+     * This is computed on first use and discarded whenever the header or the
+     * field map changes.
+     */
+    private volatile WritePlan<T, K> writePlan;
+
+    /**
+     * The fields to be reset before a line of input is assigned to an
+     * existing bean.
+     * This is computed on first use and discarded together with
+     * {@link #writePlan}.
+     */
+    private volatile ResetPlan resetPlan;
+
+    /**
+     * The constructor or factory method annotated with
+     * {@link CsvConstructor} for the root bean type, if there is one.
+     */
+    private Creator creator;
+
+    /**
+     * Which columns are passed to {@link #creator}.
+     * This is computed on first use and discarded together with
+     * {@link #writePlan}.
+     */
+    private volatile CreatorPlan creatorPlan;
+
+    /**
+     * The caches created for fields annotated with {@link CsvCache}, in the
+     * order in which the fields were loaded.
+     */
+    private final Map<Field, CachingConverter> conversionCaches = new LinkedHashMap<>();
+
     /** Storage for all manually excluded class/field pairs. */
     private MultiValuedMap<Class<?>, Field> ignoredFields = new ArrayListValuedHashMap<>();
 
@@ -187,19 +247,62 @@ public abstract class AbstractMappingStrategy<I, K extends Comparable<K>, C exte
      * @throws CsvBeanIntrospectionException Thrown on error creating object.
      * @throws IllegalStateException If the type of the bean has not been
      *   initialized through {@link #setType(java.lang.Class)}
+     * @deprecated Use {@link #createBeanTree()}, which does not require a
+     *   map per bean
      */
+    @Deprecated
     protected Map<Class<?>, Object> createBean()
             throws CsvBeanIntrospectionException, IllegalStateException {
+        return beanTreeToMap(createBeanTree());
+    }
+
+    /**
+     * Creates a new root bean and all beans underneath it.
+     * <p>The beans are returned in the order of the flattened recursive type
+     * tree: the root bean is always at index zero, and every bean follows the
+     * bean that contains it. {@link #findBeanTreeSlot(Class)} maps a type to
+     * its index.</p>
+     *
+     * @return A new instance of the class being mapped and all of its
+     *   subordinate beans
+     * @throws CsvBeanIntrospectionException Thrown on error creating object.
+     * @throws IllegalStateException If the type of the bean has not been
+     *   initialized through {@link #setType(java.lang.Class)}
+     * @since 5.8
+     */
+    protected Object[] createBeanTree()
+            throws CsvBeanIntrospectionException, IllegalStateException {
         if(type == null) {
             throw new IllegalStateException(ResourceBundle.getBundle(ICSVParser.DEFAULT_BUNDLE_NAME, errorLocale).getString("type.unset"));
         }
 
-        // Create the root bean and all beans underneath it
-        Map<Class<?>, Object> instanceMap = new HashMap<>();
+        return buildBeanTree(null);
+    }
+
+    /**
+     * Creates all beans underneath a root bean that the root bean does not
+     * already contain.
+     *
+     * @param root The root bean, or {@code null} if it is to be created as
+     *             well
+     * @return The root bean and all of its subordinate beans, indexed as in
+     *   {@link #createBeanTree()}
+     * @throws CsvBeanIntrospectionException If a bean cannot be created
+     */
+    private Object[] buildBeanTree(Object root) throws CsvBeanIntrospectionException {
+        Object[] beanTree = new Object[beanTreeSlots.length];
         try {
-            T rootBean = type.newInstance();
-            instanceMap.put(type, rootBean);
-            createSubordinateBeans(recursiveTypeTree, instanceMap, rootBean);
+            beanTree[0] = root != null ? root : beanTreeSlots[0].newInstance();
+            for(int i = 1; i < beanTreeSlots.length; i++) {
+                BeanTreeSlot slot = beanTreeSlots[i];
+                Object containingObject = beanTree[slot.parent];
+                Object childObject = slot.access.getField(containingObject);
+                if(childObject == null) {
+                    childObject = slot.newInstance();
+                    slot.access.setField(containingObject, childObject);
+                }
+                beanTree[i] = childObject;
+            }
         } catch (InstantiationException | IllegalAccessException | InvocationTargetException e) {
             CsvBeanIntrospectionException csve = new CsvBeanIntrospectionException(
                     ResourceBundle.getBundle(
@@ -210,20 +313,7 @@ public abstract class AbstractMappingStrategy<I, K extends Comparable<K>, C exte
             throw csve;
         }
 
-        return instanceMap;
-    }
-
-    private static void createSubordinateBeans(RecursiveType typeTree, Map<Class<?>, Object> instanceMap, Object containingObject)
-            throws InstantiationException, IllegalAccessException, InvocationTargetException {
-        for(Map.Entry<FieldAccess<Object>, RecursiveType> entry : typeTree.getRecursiveMembers().entrySet()) {
-            Object childObject = entry.getKey().getField(containingObject);
-            if(childObject == null) {
-                childObject = entry.getValue().type.newInstance();
-                entry.getKey().setField(containingObject, childObject);
-            }
-            instanceMap.put(entry.getValue().getType(), childObject);
-            createSubordinateBeans(entry.getValue(), instanceMap, childObject);
-        }
+        return beanTree;
     }
 
     /**
@@ -237,27 +327,87 @@ public abstract class AbstractMappingStrategy<I, K extends Comparable<K>, C exte
      * @throws InvocationTargetException If there are problems accessing a
      * subordinate bean
      * @since 5.0
+     * @deprecated Use {@link #indexBeanTree(Object)}, which does not require
+     *   a map per bean
      */
+    @Deprecated
     protected Map<Class<?>, Object> indexBean(T bean)
             throws IllegalAccessException, InvocationTargetException {
+        return beanTreeToMap(indexBeanTree(bean));
+    }
+
+    /**
+     * Collects the existing instances of (subordinate) beans in the order of
+     * the flattened recursive type tree.
+     * Subordinate beans that are not present are {@code null}, as are all
+     * beans beneath them.
+     *
+     * @param bean The root bean to be indexed
+     * @return The beans of the tree, indexed as in {@link #createBeanTree()}
+     * @throws IllegalAccessException If there are problems accessing a
+     * subordinate bean
+     * @throws InvocationTargetException If there are problems accessing a
+     * subordinate bean
+     * @since 5.8
+     */
+    protected Object[] indexBeanTree(T bean)
+            throws IllegalAccessException, InvocationTargetException {
+        Object[] beanTree = new Object[beanTreeSlots.length];
+        beanTree[0] = bean;
+        for(int i = 1; i < beanTreeSlots.length; i++) {
+            BeanTreeSlot slot = beanTreeSlots[i];
+            Object containingObject = beanTree[slot.parent];
+            beanTree[i] = containingObject == null ? null : slot.access.getField(containingObject);
+        }
+        return beanTree;
+    }
+
+    /**
+     * Determines where beans of the given type are to be found in a bean tree
+     * as created by {@link #createBeanTree()} or
+     * {@link #indexBeanTree(Object)}.
+     * <p>Types in the recursive type tree are unique, and there are seldom
+     * more than a handful of them, so a linear search on identity is
+     * faster than hashing.</p>
+     *
+     * @param beanType The type of a bean in the recursive type tree
+     * @return The index of the bean of this type in a bean tree, or -1 if the
+     *   type is not part of the tree
+     * @since 5.8
+     */
+    protected int findBeanTreeSlot(Class<?> beanType) {
+        for(int i = 0; i < beanTreeSlots.length; i++) {
+            if(beanTreeSlots[i].type == beanType) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private Map<Class<?>, Object> beanTreeToMap(Object[] beanTree) {
         Map<Class<?>, Object> instanceMap = new HashMap<>();
-        instanceMap.put(type, bean);
-        indexSubordinateBeans(recursiveTypeTree, instanceMap, bean);
+        for(int i = 0; i < beanTreeSlots.length; i++) {
+            instanceMap.put(beanTreeSlots[i].type, beanTree[i]);
+        }
         return instanceMap;
     }
 
-    private static void indexSubordinateBeans(RecursiveType typeTree, Map<Class<?>, Object> instanceMap, Object containingObject)
-            throws IllegalAccessException, InvocationTargetException {
+    /**
+     * Flattens the recursive type tree into an array of slots in pre-order,
+     * so every type comes after the type containing it.
+     *
+     * @param typeTree The recursive type tree at this level of recursion
+     * @param parent The slot of the type containing this one, or -1 for the
+     *               root of the tree
+     * @param access Access to the member variable of the containing type
+     *               holding this type, or {@code null} for the root
+     * @param slots The list of slots being assembled
+     */
+    private static void flattenRecursiveTypeTree(RecursiveType typeTree, int parent, FieldAccess<Object> access, List<BeanTreeSlot> slots) {
+        int index = slots.size();
+        slots.add(new BeanTreeSlot(typeTree.getType(), parent, access));
         for(Map.Entry<FieldAccess<Object>, RecursiveType> entry : typeTree.getRecursiveMembers().entrySet()) {
-            Object childObject;
-            if(containingObject == null) {
-                childObject = null;
-            }
-            else {
-                childObject = entry.getKey().getField(containingObject);
-            }
-            instanceMap.put(entry.getValue().getType(), childObject);
-            indexSubordinateBeans(entry.getValue(), instanceMap, childObject);
+            flattenRecursiveTypeTree(entry.getValue(), index, entry.getKey(), slots);
         }
     }
 
@@ -288,6 +438,8 @@ public abstract class AbstractMappingStrategy<I, K extends Comparable<K>, C exte
                     .getString("type.before.header"));
         }
         
+        invalidateWritePlan();
+
         // Always take what's been given or previously determined first.
         if(headerIndex.isEmpty()) {
             String[] header = getFieldMap().generateHeader(bean);
@@ -326,28 +478,124 @@ public abstract class AbstractMappingStrategy<I, K extends Comparable<K>, C exte
             throws CsvBeanIntrospectionException, CsvFieldAssignmentException,
             CsvChainedException {
         verifyLineLength(line.length);
-        Map<Class<?>, Object> beanTree = createBean();
+        if(creator != null) {
+            return populateThroughCreator(line);
+        }
+        Object[] beanTree = createBeanTree();
+        assignLine(beanTree, line, null);
+        return (T)beanTree[0];
+    }
 
+    /**
+     * Creates a bean through the constructor or factory method annotated
+     * with {@link CsvConstructor}.
+     * The parameters are converted first and passed in one call, then all
+     * other columns are assigned as usual.
+     *
+     * @param line A line of input
+     * @return The new bean
+     * @throws CsvFieldAssignmentException If one column cannot be assigned
+     * @throws CsvChainedException If several columns cannot be assigned
+     */
+    @SuppressWarnings("unchecked")
+    private T populateThroughCreator(String[] line)
+            throws CsvFieldAssignmentException, CsvChainedException {
+        CreatorPlan plan = getCreatorPlan(line.length);
+        Object[] arguments = creator.defaultArguments.clone();
         CsvChainedException chainedException = null;
         for (int col = 0; col < line.length; col++) {
-            try {
-                setFieldValue(beanTree, line[col], col);
-            } catch (CsvFieldAssignmentException e) {
-                if(chainedException != null) {
-                    chainedException.add(e);
+            int parameter = plan.parameterByColumn[col];
+            if(parameter >= 0) {
+                try {
+                    Object value = plan.beanFields[col].convertInput(line[col], type);
+                    if(value != null) {
+                        arguments[parameter] = value;
+                    }
+                } catch (CsvFieldAssignmentException e) {
+                    chainedException = addToChain(chainedException, e);
                 }
-                else {
-                    chainedException = new CsvChainedException(e);
+            }
+        }
+        throwChain(chainedException);
+
+        Object[] beanTree = buildBeanTree(creator.create(arguments, errorLocale));
+        assignLine(beanTree, line, plan.parameterByColumn);
+        return (T)beanTree[0];
+    }
+
+    /**
+     * Assigns a line of input to an existing bean.
+     * <p>Every field bound to one of the columns of the line is reset to the
+     * default value of its type ({@code null}, zero or {@code false}) before
+     * the line is assigned, so no value from a previous line survives, even
+     * if the column is empty in this line. Multi-valued maps of fields bound
+     * with {@link CsvBindAndJoinByName} or {@link CsvBindAndJoinByPosition}
+     * are cleared instead. Fields that are not bound to any column of the
+     * line keep their values. Subordinate beans are reused if they exist and
+     * created otherwise.</p>
+     */
+    // The rest of the Javadoc is inherited
+    @Override
+    public void populateBean(T target, String[] line)
+            throws CsvBeanIntrospectionException, CsvFieldAssignmentException,
+            CsvChainedException {
+        if(type == null) {
+            throw new IllegalStateException(ResourceBundle.getBundle(ICSVParser.DEFAULT_BUNDLE_NAME, errorLocale).getString("type.unset"));
+        }
+        if(!type.isInstance(target)) {
+            throw new IllegalArgumentException(String.format(
+                    ResourceBundle.getBundle(ICSVParser.DEFAULT_BUNDLE_NAME, errorLocale).getString("target.wrong.type"),
+                    target == null ? null : target.getClass().getName(), type.getName()));
+        }
+        verifyLineLength(line.length);
+        Object[] beanTree = buildBeanTree(target);
+        getResetPlan(line.length).reset(beanTree);
+        assignLine(beanTree, line, null);
+    }
+
+    /**
+     * Converts the columns of a line of input and assigns them to the bean
+     * tree, collecting all errors.
+     *
+     * @param beanTree The root bean and all subordinate beans
+     * @param line A line of input
+     * @param parameterByColumn If not {@code null}, columns with a
+     *                          non-negative entry here were already passed
+     *                          to the creator and are skipped
+     * @throws CsvFieldAssignmentException If one column cannot be assigned
+     * @throws CsvChainedException If several columns cannot be assigned
+     */
+    private void assignLine(Object[] beanTree, String[] line, int[] parameterByColumn)
+            throws CsvFieldAssignmentException, CsvChainedException {
+        CsvChainedException chainedException = null;
+        for (int col = 0; col < line.length; col++) {
+            if(parameterByColumn == null || parameterByColumn[col] < 0) {
+                try {
+                    setFieldValue(beanTree, line[col], col);
+                } catch (CsvFieldAssignmentException e) {
+                    chainedException = addToChain(chainedException, e);
                 }
             }
         }
+        throwChain(chainedException);
+    }
+
+    private static CsvChainedException addToChain(CsvChainedException chainedException, CsvFieldAssignmentException e) {
+        if(chainedException != null) {
+            chainedException.add(e);
+            return chainedException;
+        }
+        return new CsvChainedException(e);
+    }
+
+    private static void throwChain(CsvChainedException chainedException)
+            throws CsvFieldAssignmentException, CsvChainedException {
         if(chainedException != null) {
             if (chainedException.hasOnlyOneException()) {
                 throw chainedException.getFirstException();
             }
             throw chainedException;
         }
-        return (T)beanTree.get(type);
     }
     
     /**
@@ -435,9 +683,14 @@ public abstract class AbstractMappingStrategy<I, K extends Comparable<K>, C exte
 
         // Setup
         initializeFieldMap();
+        invalidateWritePlan();
+        conversionCaches.clear();
 
         // Deal with embedded classes through recursion
         recursiveTypeTree = loadRecursiveClasses(this.type, new HashSet<>());
+        List<BeanTreeSlot> slots = new ArrayList<>();
+        flattenRecursiveTypeTree(recursiveTypeTree, -1, null, slots);
+        beanTreeSlots = slots.toArray(new BeanTreeSlot[0]);
 
         // Populate the field map according to annotations or not
         Map<Boolean, ListValuedMap<Class<?>, Field>> partitionedFields = partitionFields();
@@ -447,6 +700,56 @@ public abstract class AbstractMappingStrategy<I, K extends Comparable<K>, C exte
         else {
             loadUnadornedFieldMap(partitionedFields.get(Boolean.FALSE));
         }
+        creator = findCreator();
+    }
+
+    /**
+     * Finds the constructor or static factory method of the root bean type
+     * annotated with {@link CsvConstructor}.
+     *
+     * @return The creator, or {@code null} if the type has none
+     * @throws CsvBadConverterException If the annotation is used more than
+     *   once or does not match the parameters
+     */
+    private Creator findCreator() throws CsvBadConverterException {
+        Executable executable = null;
+        List<Executable> candidates = new ArrayList<>(Arrays.asList(type.getDeclaredConstructors()));
+        candidates.addAll(Arrays.asList(type.getDeclaredMethods()));
+        for(Executable candidate : candidates) {
+            if(candidate.isAnnotationPresent(CsvConstructor.class)) {
+                if(executable != null || (candidate instanceof Method
+                        && (!Modifier.isStatic(candidate.getModifiers())
+                        || !type.isAssignableFrom(((Method) candidate).getReturnType())))) {
+                    throw invalidCreator(candidate);
+                }
+                executable = candidate;
+            }
+        }
+        if(executable == null) {
+            return null;
+        }
+
+        String[] names = executable.getAnnotation(CsvConstructor.class).value();
+        Class<?>[] parameterTypes = executable.getParameterTypes();
+        if(names.length != parameterTypes.length) {
+            throw invalidCreator(executable);
+        }
+        Field[] fields = new Field[names.length];
+        for(int i = 0; i < names.length; i++) {
+            fields[i] = FieldUtils.getField(type, names[i], true);
+            if(fields[i] == null || !ClassUtils.isAssignable(fields[i].getType(), parameterTypes[i], true)) {
+                throw invalidCreator(executable);
+            }
+        }
+        executable.setAccessible(true);
+        return new Creator(executable, fields);
+    }
+
+    private CsvBadConverterException invalidCreator(Executable executable) {
+        return new CsvBadConverterException(CsvConstructor.class, String.format(
+                ResourceBundle.getBundle(ICSVParser.DEFAULT_BUNDLE_NAME, errorLocale)
+                        .getString("csvconstructor.invalid"),
+                executable.toGenericString()));
     }
 
     /**
@@ -621,7 +924,9 @@ public abstract class AbstractMappingStrategy<I, K extends Comparable<K>, C exte
      * @throws CsvValidationException If a user-supplied validator determines
      * that the input is invalid
      * @since 4.2
+     * @deprecated Use {@link #setFieldValue(Object[], String, int)}
      */
+    @Deprecated
     protected void setFieldValue(Map<Class<?>, Object> beanTree, String value, int column)
             throws CsvDataTypeMismatchException, CsvRequiredFieldEmptyException,
             CsvConstraintViolationException, CsvValidationException {
@@ -631,18 +936,48 @@ public abstract class AbstractMappingStrategy<I, K extends Comparable<K>, C exte
             beanField.setFieldValue(subordinateBean, value, findHeader(column));
         }
     }
+
+    /**
+     * Populates the field corresponding to the column position indicated of the
+     * bean passed in according to the rules of the mapping strategy.
+     * This method performs conversion on the input string and assigns the
+     * result to the proper field in the provided bean.
+     *
+     * @param beanTree The root bean and all subordinate beans as created by
+     *                 {@link #createBeanTree()}
+     * @param value String containing the value to set the field to.
+     * @param column The column position from the CSV file under which this
+     *   value was found.
+     * @throws CsvDataTypeMismatchException    When the result of data conversion returns
+     *                                         an object that cannot be assigned to the selected field
+     * @throws CsvRequiredFieldEmptyException  When a field is mandatory, but there is no
+     *                                         input datum in the CSV file
+     * @throws CsvConstraintViolationException When the internal structure of
+     *                                         data would be violated by the data in the CSV file
+     * @throws CsvValidationException If a user-supplied validator determines
+     * that the input is invalid
+     * @since 5.8
+     */
+    protected void setFieldValue(Object[] beanTree, String value, int column)
+            throws CsvDataTypeMismatchException, CsvRequiredFieldEmptyException,
+            CsvConstraintViolationException, CsvValidationException {
+        BeanField<T, K> beanField = findField(column);
+        if (beanField != null) {
+            int slot = findBeanTreeSlot(beanField.getType());
+            Object subordinateBean = slot < 0 ? null : beanTree[slot];
+            beanField.setFieldValue(subordinateBean, value, findHeader(column));
+        }
+    }
     
     @Override
     public String[] transmuteBean(T bean) throws CsvFieldAssignmentException, CsvChainedException {
-        int numColumns = headerIndex.findMaxIndex()+1;
-        BeanField<T, K> firstBeanField, subsequentBeanField;
-        K firstIndex, subsequentIndex;
-        List<String> contents = new ArrayList<>(Math.max(numColumns, 0));
+        WritePlan<T, K> plan = getWritePlan();
+        String[] contents = new String[plan.numColumns];
 
-        // Create a map of types to instances of subordinate beans
-        Map<Class<?>, Object> instanceMap;
+        // Collect the instances of subordinate beans
+        Object[] beanTree;
         try {
-            instanceMap = indexBean(bean);
+            beanTree = indexBeanTree(bean);
         }
         catch(IllegalAccessException | InvocationTargetException e) {
             // Our testing indicates these exceptions probably can't be thrown,
@@ -657,15 +992,18 @@ public abstract class AbstractMappingStrategy<I, K extends Comparable<K>, C exte
         }
 
         CsvChainedException chainedException = null;
-        for(int i = 0; i < numColumns;) {
+        for(WriteSegment<T, K> segment : plan.segments) {
+            int i = segment.start;
+            if(segment.beanField == null) {
+                Arrays.fill(contents, i, segment.end, StringUtils.EMPTY);
+                continue;
+            }
 
-            // Determine the first value
-            firstBeanField = findField(i);
-            firstIndex = chooseMultivaluedFieldIndexFromHeaderIndex(i);
-            String[] fields = ArrayUtils.EMPTY_STRING_ARRAY;
-            if(firstBeanField != null) {
+            Object subordinateBean = segment.slot < 0 ? null : beanTree[segment.slot];
+            while(i < segment.end) {
+                String[] fields = ArrayUtils.EMPTY_STRING_ARRAY;
                 try {
-                    fields = firstBeanField.write(instanceMap.get(firstBeanField.getType()), firstIndex);
+                    fields = segment.beanField.write(subordinateBean, segment.index);
                 }
                 catch(CsvDataTypeMismatchException | CsvRequiredFieldEmptyException e) {
                     if(chainedException != null) {
@@ -675,53 +1013,25 @@ public abstract class AbstractMappingStrategy<I, K extends Comparable<K>, C exte
                         chainedException = new CsvChainedException(e);
                     }
                 }
-            }
 
-            if(fields.length == 0) {
+                if(fields.length == 0) {
 
-                // Write the only value
-                contents.add(StringUtils.EMPTY);
-                i++; // Advance the index
-            }
-            else {
-
-                // Multiple values. Write the first.
-                contents.add(StringUtils.defaultString(fields[0]));
-
-                // Now write the rest.
-                // We must make certain that we don't write more fields
-                // than we have columns of the correct type to cover them.
-                int j = 1;
-                int displacedIndex = i+j;
-                subsequentBeanField = findField(displacedIndex);
-                subsequentIndex = chooseMultivaluedFieldIndexFromHeaderIndex(displacedIndex);
-                while(j < fields.length
-                        && displacedIndex < numColumns
-                        && Objects.equals(firstBeanField, subsequentBeanField)
-                        && Objects.equals(firstIndex, subsequentIndex)) {
-                    // This field still has a header, so add it
-                    contents.add(StringUtils.defaultString(fields[j]));
-
-                    // Prepare for the next loop through
-                    displacedIndex = i + (++j);
-                    subsequentBeanField = findField(displacedIndex);
-                    subsequentIndex = chooseMultivaluedFieldIndexFromHeaderIndex(displacedIndex);
+                    // Write the only value. If the segment covers more
+                    // columns, the field is asked again for the next one.
+                    contents[i++] = StringUtils.EMPTY;
                 }
+                else {
 
-                i = displacedIndex; // Advance the index
-
-                // And here's where we fill in any fields that are missing to
-                // cover the number of columns of the same type
-                if(i < numColumns) {
-                    subsequentBeanField = findField(i);
-                    subsequentIndex = chooseMultivaluedFieldIndexFromHeaderIndex(i);
-                    while(Objects.equals(firstBeanField, subsequentBeanField)
-                            && Objects.equals(firstIndex, subsequentIndex)
-                            && i < numColumns) {
-                        contents.add(StringUtils.EMPTY);
-                        subsequentBeanField = findField(++i);
-                        subsequentIndex = chooseMultivaluedFieldIndexFromHeaderIndex(i);
+                    // Multiple values. We must make certain that we don't
+                    // write more fields than we have columns of the correct
+                    // type to cover them, and we fill in any fields that are
+                    // missing to cover the number of columns of the same type.
+                    int n = Math.min(fields.length, segment.end - i);
+                    for(int j = 0; j < n; j++) {
+                        contents[i+j] = StringUtils.defaultString(fields[j]);
                     }
+                    Arrays.fill(contents, i+n, segment.end, StringUtils.EMPTY);
+                    i = segment.end;
                 }
             }
         }
@@ -734,12 +1044,118 @@ public abstract class AbstractMappingStrategy<I, K extends Comparable<K>, C exte
             throw chainedException;
         }
 
-        return contents.toArray(ArrayUtils.EMPTY_STRING_ARRAY);
+        return contents;
+    }
+
+    /**
+     * Returns the layout of the output columns, computing it if necessary.
+     * <p>Consecutive columns written by the same {@link BeanField} with the
+     * same index (see {@link #chooseMultivaluedFieldIndexFromHeaderIndex(int)})
+     * are collected into one segment, so that
+     * {@link #transmuteBean(Object)} need not look up the field for every
+     * column of every bean.</p>
+     *
+     * @return The current write plan
+     */
+    private WritePlan<T, K> getWritePlan() {
+        int numColumns = Math.max(headerIndex.findMaxIndex()+1, 0);
+        WritePlan<T, K> plan = writePlan;
+        if(plan == null || plan.numColumns != numColumns) {
+            List<WriteSegment<T, K>> segments = new ArrayList<>();
+            int i = 0;
+            while(i < numColumns) {
+                BeanField<T, K> beanField = findField(i);
+                K index = chooseMultivaluedFieldIndexFromHeaderIndex(i);
+                int end = i+1;
+                while(end < numColumns
+                        && Objects.equals(beanField, findField(end))
+                        && Objects.equals(index, chooseMultivaluedFieldIndexFromHeaderIndex(end))) {
+                    end++;
+                }
+                int slot = beanField == null ? -1 : findBeanTreeSlot(beanField.getType());
+                segments.add(new WriteSegment<>(beanField, index, slot, i, end));
+                i = end;
+            }
+            plan = new WritePlan<>(numColumns, segments);
+            writePlan = plan;
+        }
+        return plan;
+    }
+
+    /**
+     * Discards the layout of the output columns used by
+     * {@link #transmuteBean(Object)} and the fields to be reset by
+     * {@link #populateBean(Object, String[])}.
+     * Derived classes must call this method whenever the results of
+     * {@link #findField(int)} or
+     * {@link #chooseMultivaluedFieldIndexFromHeaderIndex(int)} change for
+     * any column other than by reinitializing {@link #headerIndex} through
+     * {@link #generateHeader(Object)} or by reloading the field map.
+     *
+     * @since 5.8
+     */
+    protected void invalidateWritePlan() {
+        writePlan = null;
+        resetPlan = null;
+        creatorPlan = null;
+    }
+
+    private CreatorPlan getCreatorPlan(int numColumns) {
+        CreatorPlan plan = creatorPlan;
+        if(plan == null || plan.parameterByColumn.length != numColumns) {
+            List<Field> parameters = Arrays.asList(creator.fields);
+            int[] parameterByColumn = new int[numColumns];
+            AbstractBeanField<?, ?>[] beanFields = new AbstractBeanField<?, ?>[numColumns];
+            for(int i = 0; i < numColumns; i++) {
+                BeanField<T, K> beanField = findField(i);
+                int parameter = beanField == null ? -1 : parameters.indexOf(beanField.getField());
+                if(parameter >= 0) {
+                    if(!(beanField instanceof AbstractBeanField) || beanField instanceof BeanFieldJoin) {
+                        throw new CsvBadConverterException(CsvConstructor.class, String.format(
+                                ResourceBundle.getBundle(ICSVParser.DEFAULT_BUNDLE_NAME, errorLocale)
+                                        .getString("csvconstructor.field.unsupported"),
+                                beanField.getField().getName()));
+                    }
+                    beanFields[i] = (AbstractBeanField<?, ?>) beanField;
+                }
+                parameterByColumn[i] = parameter;
+            }
+            plan = new CreatorPlan(parameterByColumn, beanFields);
+            creatorPlan = plan;
+        }
+        return plan;
+    }
+
+    private ResetPlan getResetPlan(int numColumns) {
+        ResetPlan plan = resetPlan;
+        if(plan == null || plan.numColumns != numColumns) {
+            Set<BeanField<T, K>> beanFields = new LinkedHashSet<>();
+            for(int i = 0; i < numColumns; i++) {
+                BeanField<T, K> beanField = findField(i);
+                if(beanField != null) {
+                    beanFields.add(beanField);
+                }
+            }
+            List<ResetEntry> entries = new ArrayList<>(beanFields.size());
+            for(BeanField<T, K> beanField : beanFields) {
+                int slot = findBeanTreeSlot(beanField.getType());
+                if(slot >= 0) {
+                    entries.add(new ResetEntry(beanField, slot));
+                }
+            }
+            plan = new ResetPlan(numColumns, entries.toArray(new ResetEntry[0]));
+            resetPlan = plan;
+        }
+        return plan;
     }
 
     /**
      * Given the information provided, determines the appropriate built-in
      * converter to be passed in to the {@link BeanField} being created.
+     * <p>For the most common date formats and the plain decimal number
+     * format {@code #0.00}, converters with fast paths for these formats are
+     * chosen. Their results are identical to those of {@link ConverterDate}
+     * and {@link ConverterNumber}.</p>
      *
      * @param field The field of the bean type in question
      * @param elementType The type to be generated by the converter (on reading)
@@ -792,8 +1208,13 @@ public abstract class AbstractMappingStrategy<I, K extends Comparable<K>, C exte
             String readChrono = annotation.chronology();
             String writeChrono = annotation.writeChronologyEqualsReadChronology()
                     ? readChrono : annotation.writeChronology();
-            converter = new ConverterDate(elementType, locale, writeLocale,
-                    errorLocale, readFormat, writeFormat, readChrono, writeChrono);
+            if (ConverterIsoDate.isFastFormat(readFormat) || ConverterIsoDate.isFastFormat(writeFormat)) {
+                converter = new ConverterIsoDate(elementType, locale, writeLocale,
+                        errorLocale, readFormat, writeFormat, readChrono, writeChrono);
+            } else {
+                converter = new ConverterDate(elementType, locale, writeLocale,
+                        errorLocale, readFormat, writeFormat, readChrono, writeChrono);
+            }
         }
 
         // Or a number
@@ -809,8 +1230,13 @@ public abstract class AbstractMappingStrategy<I, K extends Comparable<K>, C exte
             String readFormat = annotation.value();
             String writeFormat = annotation.writeFormatEqualsReadFormat()
                     ? readFormat : annotation.writeFormat();
-            converter = new ConverterNumber(elementType, locale, writeLocale,
-                    errorLocale, readFormat, writeFormat);
+            if (ConverterPlainDecimal.isFastFormat(readFormat) || ConverterPlainDecimal.isFastFormat(writeFormat)) {
+                converter = new ConverterPlainDecimal(elementType, locale, writeLocale,
+                        errorLocale, readFormat, writeFormat);
+            } else {
+                converter = new ConverterNumber(elementType, locale, writeLocale,
+                        errorLocale, readFormat, writeFormat);
+            }
         }
 
         // or a Currency
@@ -832,9 +1258,47 @@ public abstract class AbstractMappingStrategy<I, K extends Comparable<K>, C exte
             converter = new ConverterPrimitiveTypes(elementType, locale, writeLocale, errorLocale);
         }
 
+        // Remember conversions if requested
+        CsvCache cache = field.getAnnotation(CsvCache.class);
+        if (cache != null) {
+            if (!isImmutable(elementType)) {
+                throw new CsvBadConverterException(CsvCache.class, String.format(
+                        ResourceBundle.getBundle(ICSVParser.DEFAULT_BUNDLE_NAME, errorLocale).getString("csvcache.not.immutable"),
+                        elementType));
+            }
+            CachingConverter cachingConverter = new CachingConverter(
+                    converter, cache.maximumSize(), cache.minimumHitRate());
+            conversionCaches.put(field, cachingConverter);
+            converter = cachingConverter;
+        }
+
         return converter;
     }
 
+    /**
+     * Determines whether all values of a type are immutable, so a converted
+     * value may be shared by many beans.
+     *
+     * @param type The type to be checked
+     * @return Whether the type is known to be immutable
+     */
+    private static boolean isImmutable(Class<?> type) {
+        return type.isPrimitive() || type.isEnum() || IMMUTABLE_TYPES.contains(type)
+                || (type.getName().startsWith("java.time.")
+                && Modifier.isFinal(type.getModifiers()));
+    }
+
+    /**
+     * Returns the conversion caches of all fields annotated with
+     * {@link CsvCache}, along with their statistics.
+     *
+     * @return An unmodifiable map from the annotated fields to their caches
+     * @since 5.8
+     */
+    public Map<Field, CachingConverter> getConversionCaches() {
+        return Collections.unmodifiableMap(conversionCaches);
+    }
+
     /**
      * Determines which one of a list of annotations applies to the currently
      * selected profile.
@@ -908,4 +1372,195 @@ public abstract class AbstractMappingStrategy<I, K extends Comparable<K>, C exte
             return recursiveMembers;
         }
     }
+
+    /**
+     * One type in the flattened recursive type tree, together with everything
+     * necessary to instantiate it and attach it to the bean containing it.
+     */
+    private static final class BeanTreeSlot {
+        private final Class<?> type;
+        private final int parent;
+        private final FieldAccess<Object> access;
+        private final Constructor<?> constructor;
+        private final NoSuchMethodException constructorMissing;
+
+        private BeanTreeSlot(Class<?> type, int parent, FieldAccess<Object> access) {
+            this.type = type;
+            this.parent = parent;
+            this.access = access;
+
+            // The nullary constructor is only needed if the containing bean
+            // does not initialize this one, so its absence is only an error
+            // when it is actually needed.
+            Constructor<?> c = null;
+            NoSuchMethodException e = null;
+            try {
+                c = type.getDeclaredConstructor();
+            } catch (NoSuchMethodException nsme) {
+                e = nsme;
+            }
+            constructor = c;
+            constructorMissing = e;
+        }
+
+        private Object newInstance()
+                throws InstantiationException, IllegalAccessException, InvocationTargetException {
+            if(constructor == null) {
+                InstantiationException e = new InstantiationException(type.getName());
+                e.initCause(constructorMissing);
+                throw e;
+            }
+            return constructor.newInstance();
+        }
+    }
+
+    /**
+     * A run of consecutive output columns that are all written by the same
+     * bean field with the same index.
+     *
+     * @param <T> Type of the bean being written
+     * @param <K> Type of the index into multivalued fields
+     */
+    private static final class WriteSegment<T, K> {
+        private final BeanField<T, K> beanField;
+        private final K index;
+        private final int slot;
+        private final int start;
+        private final int end;
+
+        private WriteSegment(BeanField<T, K> beanField, K index, int slot, int start, int end) {
+            this.beanField = beanField;
+            this.index = index;
+            this.slot = slot;
+            this.start = start;
+            this.end = end;
+        }
+    }
+
+    /**
+     * The complete layout of the output columns for writing beans.
+     *
+     * @param <T> Type of the bean being written
+     * @param <K> Type of the index into multivalued fields
+     */
+    private static final class WritePlan<T, K> {
+        private final int numColumns;
+        private final List<WriteSegment<T, K>> segments;
+
+        private WritePlan(int numColumns, List<WriteSegment<T, K>> segments) {
+            this.numColumns = numColumns;
+            this.segments = segments;
+        }
+    }
+
+    /**
+     * A field to be reset before a line is assigned to an existing bean.
+     */
+    private static final class ResetEntry {
+        private final BeanField<?, ?> beanField;
+        private final int slot;
+        private final FieldAccess<Object> access;
+        private final Object defaultValue;
+        private final boolean cleared;
+
+        private ResetEntry(BeanField<?, ?> beanField, int slot) {
+            this.beanField = beanField;
+            this.slot = slot;
+            Field field = beanField.getField();
+            access = new FieldAccess<>(field);
+            defaultValue = field.getType().isPrimitive()
+                    ? Array.get(Array.newInstance(field.getType(), 1), 0)
+                    : null;
+            cleared = beanField instanceof BeanFieldJoin;
+        }
+
+        private void reset(Object bean) throws IllegalAccessException, InvocationTargetException {
+            if(cleared) {
+                Object map = beanField.getFieldValue(bean);
+                if(map instanceof MultiValuedMap) {
+                    ((MultiValuedMap<?, ?>) map).clear();
+                    return;
+                }
+            }
+            access.setField(bean, defaultValue);
+        }
+    }
+
+    /**
+     * All fields to be reset before a line of a given length is assigned to
+     * an existing bean.
+     */
+    private static final class ResetPlan {
+        private final int numColumns;
+        private final ResetEntry[] entries;
+
+        private ResetPlan(int numColumns, ResetEntry[] entries) {
+            this.numColumns = numColumns;
+            this.entries = entries;
+        }
+
+        private void reset(Object[] beanTree) throws CsvBeanIntrospectionException {
+            for(ResetEntry entry : entries) {
+                Object bean = beanTree[entry.slot];
+                try {
+                    entry.reset(bean);
+                } catch (IllegalAccessException | InvocationTargetException e) {
+                    CsvBeanIntrospectionException csve = new CsvBeanIntrospectionException(
+                            bean, entry.beanField.getField(), e.getLocalizedMessage());
+                    csve.initCause(e);
+                    throw csve;
+                }
+            }
+        }
+    }
+
+    /**
+     * A constructor or static factory method annotated with
+     * {@link CsvConstructor} and the fields its parameters stand for.
+     */
+    private static final class Creator {
+        private final Executable executable;
+        private final Field[] fields;
+        private final Object[] defaultArguments;
+
+        private Creator(Executable executable, Field[] fields) {
+            this.executable = executable;
+            this.fields = fields;
+            Class<?>[] parameterTypes = executable.getParameterTypes();
+            defaultArguments = new Object[parameterTypes.length];
+            for(int i = 0; i < parameterTypes.length; i++) {
+                if(parameterTypes[i].isPrimitive()) {
+                    defaultArguments[i] = Array.get(Array.newInstance(parameterTypes[i], 1), 0);
+                }
+            }
+        }
+
+        private Object create(Object[] arguments, Locale errorLocale) throws CsvBeanIntrospectionException {
+            try {
+                return executable instanceof Constructor
+                        ? ((Constructor<?>) executable).newInstance(arguments)
+                        : ((Method) executable).invoke(null, arguments);
+            } catch (InstantiationException | IllegalAccessException | InvocationTargetException e) {
+                CsvBeanIntrospectionException csve = new CsvBeanIntrospectionException(
+                        ResourceBundle.getBundle(ICSVParser.DEFAULT_BUNDLE_NAME, errorLocale)
+                                .getString("bean.instantiation.impossible"));
+                csve.initCause(e);
+                throw csve;
+            }
+        }
+    }
+
+    /**
+     * The columns passed to the {@link Creator} for a given number of
+     * columns of input.
+     */
+    private static final class CreatorPlan {
+        private final int[] parameterByColumn;
+        private final AbstractBeanField<?, ?>[] beanFields;
+
+        private CreatorPlan(int[] parameterByColumn, AbstractBeanField<?, ?>[] beanFields) {
+            this.parameterByColumn = parameterByColumn;
+            this.beanFields = beanFields;
+        }
+    }
 }
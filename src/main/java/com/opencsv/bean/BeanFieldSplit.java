@@ -28,7 +28,9 @@ import org.apache.commons.collections4.bag.TreeBag;
 import org.apache.commons.lang3.ArrayUtils;
 import org.apache.commons.lang3.StringUtils;
 
+import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
 import java.util.*;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -43,9 +45,34 @@ import java.util.regex.Pattern;
  */
 public class BeanFieldSplit<T, I> extends AbstractBeanField<T, I> {
     
+    /** Characters with a special meaning in regular expressions. */
+    private static final String REGEX_METACHARACTERS = ".$|()[]{}^?*+";
+
+    /**
+     * Capture expressions that always leave the input unchanged: either they
+     * match and capture everything, or they do not match.
+     */
+    private static final Set<String> IDENTITY_CAPTURES = new HashSet<>(Arrays.asList(
+            "(.*)", "(.+)", "^(.*)$", "^(.+)$"));
+
     private final Pattern splitOn, capture;
+
+    /**
+     * The delimiter if {@link #splitOn} matches nothing but a constant
+     * string, otherwise {@code null}.
+     */
+    private final String literalSplitOn;
+
+    /** Whether {@link #splitOn} is the default, {@code \s+}. */
+    private final boolean whitespaceSplitOn;
+
+    /**
+     * The nullary constructor of {@link #collectionType}, or {@code null}
+     * if there is none or {@link EnumSet} is used.
+     */
+    private final Constructor<?> collectionConstructor;
     private final String writeDelimiter, writeFormat;
-    private final Class<? extends Collection> collectionType;
+    private final Class<?> collectionType;
     private final Class<?> elementType;
     
     /**
@@ -94,8 +121,15 @@ public class BeanFieldSplit<T, I> extends AbstractBeanField<T, I> {
         // Check the regular expressions for validity and compile once for speed
         this.splitOn = OpencsvUtils.compilePattern(splitOn, 0,
                 BeanFieldSplit.class, this.errorLocale);
-        this.capture = OpencsvUtils.compilePatternAtLeastOneGroup(capture, 0,
+        Pattern capturePattern = OpencsvUtils.compilePatternAtLeastOneGroup(capture, 0,
                 BeanFieldSplit.class, this.errorLocale);
+        this.capture = capturePattern == null || IDENTITY_CAPTURES.contains(capturePattern.pattern())
+                ? null : capturePattern;
+
+        // Most expressions for splitting are plain delimiters or the
+        // default, which can be split on much faster without a Matcher.
+        this.literalSplitOn = this.splitOn == null ? null : literalOf(this.splitOn.pattern());
+        this.whitespaceSplitOn = this.splitOn != null && "\\s+".equals(this.splitOn.pattern());
 
         // Verify that the format string works as expected
         OpencsvUtils.verifyFormatString(this.writeFormat, BeanFieldSplit.class, this.errorLocale);
@@ -104,7 +138,7 @@ public class BeanFieldSplit<T, I> extends AbstractBeanField<T, I> {
         // for every bean.
         Class<?> fieldType = field.getType();
         if(!fieldType.isInterface()) {
-            this.collectionType = (Class<Collection>)field.getType();
+            this.collectionType = fieldType;
         }
         else if(!collectionType.isInterface()) {
             this.collectionType = collectionType;
@@ -156,6 +190,104 @@ public class BeanFieldSplit<T, I> extends AbstractBeanField<T, I> {
                                     this.errorLocale).getString("unassignable.collection.type"),
                             collectionType.getName(), field.getType().getName()));
         }
+
+        // Look up the constructor once. If there is none, the error is
+        // reported on conversion, as it always has been.
+        Constructor<?> c = null;
+        if(!this.collectionType.equals(EnumSet.class)) {
+            try {
+                c = this.collectionType.getConstructor();
+            }
+            catch(NoSuchMethodException e) {
+                // c remains null
+            }
+        }
+        this.collectionConstructor = c;
+    }
+
+    /**
+     * Determines whether a regular expression matches exactly one constant
+     * string.
+     *
+     * @param regex The regular expression, compiled without flags
+     * @return The string matched, or {@code null} if the expression contains
+     *   anything but ordinary characters and escaped punctuation
+     */
+    static String literalOf(String regex) {
+        StringBuilder literal = new StringBuilder(regex.length());
+        for(int i = 0; i < regex.length(); i++) {
+            char c = regex.charAt(i);
+            if(c == '\\') {
+                if(i + 1 == regex.length() || Character.isLetterOrDigit(regex.charAt(i + 1))) {
+                    return null;
+                }
+                literal.append(regex.charAt(++i));
+            }
+            else if(REGEX_METACHARACTERS.indexOf(c) >= 0) {
+                return null;
+            }
+            else {
+                literal.append(c);
+            }
+        }
+        return literal.length() == 0 ? null : literal.toString();
+    }
+
+    /**
+     * Splits the input exactly as {@link Pattern#split(CharSequence)} with
+     * {@link #splitOn} would.
+     *
+     * @param value The input. May be {@code null}.
+     * @return The individual values
+     */
+    private String[] split(String value) {
+        if(value == null) {
+            return ArrayUtils.EMPTY_STRING_ARRAY;
+        }
+        if(literalSplitOn == null && !whitespaceSplitOn) {
+            return splitOn.split(value);
+        }
+        List<String> parts = null;
+        int start = 0;
+        int i = literalSplitOn == null ? 0 : value.indexOf(literalSplitOn);
+        while(i >= 0 && i < value.length()) {
+            int end;
+            if(literalSplitOn != null) {
+                end = i + literalSplitOn.length();
+            }
+            else if(isWhitespace(value.charAt(i))) {
+                end = i + 1;
+                while(end < value.length() && isWhitespace(value.charAt(end))) {
+                    end++;
+                }
+            }
+            else {
+                i++;
+                continue;
+            }
+            if(parts == null) {
+                parts = new ArrayList<>();
+            }
+            parts.add(value.substring(start, i));
+            start = end;
+            i = literalSplitOn == null ? end : value.indexOf(literalSplitOn, end);
+        }
+        if(parts == null) {
+            return new String[]{value};
+        }
+        parts.add(value.substring(start));
+
+        // Trailing empty strings are discarded, as by Pattern.split()
+        int size = parts.size();
+        while(size > 0 && parts.get(size - 1).isEmpty()) {
+            size--;
+        }
+        return parts.subList(0, size).toArray(ArrayUtils.EMPTY_STRING_ARRAY);
+    }
+
+    /** @return Whether {@code \s} matches the character */
+    private static boolean isWhitespace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
     }
 
     /**
@@ -171,16 +303,23 @@ public class BeanFieldSplit<T, I> extends AbstractBeanField<T, I> {
     // The rest of the Javadoc is inherited
     @Override
     protected Object convert(String value) throws CsvDataTypeMismatchException, CsvConstraintViolationException {
+        String[] splitValues = split(value);
         Collection<Object> collection;
         try {
             if(collectionType.equals(EnumSet.class)) {
                 collection = (Collection)EnumSet.noneOf((Class<Enum>)elementType);
             }
+            else if(collectionType.equals(ArrayList.class)) {
+                collection = new ArrayList<>(splitValues.length);
+            }
+            else if(collectionConstructor != null) {
+                collection = (Collection<Object>) collectionConstructor.newInstance();
+            }
             else {
-                collection = collectionType.newInstance();
+                throw new InstantiationException(collectionType.getName());
             }
         }
-        catch(InstantiationException | IllegalAccessException e) {
+        catch(InstantiationException | IllegalAccessException | InvocationTargetException e) {
             CsvBeanIntrospectionException csve = new CsvBeanIntrospectionException(
                     String.format(
                             ResourceBundle
@@ -190,8 +329,7 @@ public class BeanFieldSplit<T, I> extends AbstractBeanField<T, I> {
             csve.initCause(e);
             throw csve;
         }
-        
-        String[] splitValues = value == null ? ArrayUtils.EMPTY_STRING_ARRAY : splitOn.split(value);
+
         for(String s : splitValues) {
             if(capture != null) {
                 Matcher m = capture.matcher(s);
@@ -216,17 +354,24 @@ public class BeanFieldSplit<T, I> extends AbstractBeanField<T, I> {
         String retval = StringUtils.EMPTY;
         if(value != null) {
             @SuppressWarnings("unchecked") Collection<Object> collection = (Collection<Object>) value;
-            String[] convertedValue = new String[collection.size()];
-            int i = 0;
+            String delimiter = StringUtils.defaultString(writeDelimiter);
+            StringBuilder sb = new StringBuilder(collection.size() * (delimiter.length() + 8));
+            boolean first = true;
             for(Object o : collection) {
-                convertedValue[i] = converter.convertToWrite(o);
+                if(!first) {
+                    sb.append(delimiter);
+                }
+                first = false;
+                String convertedValue = converter.convertToWrite(o);
                 if(StringUtils.isNotEmpty(this.writeFormat)
-                        && StringUtils.isNotEmpty(convertedValue[i])) {
-                    convertedValue[i] = String.format(this.writeFormat, convertedValue[i]);
+                        && StringUtils.isNotEmpty(convertedValue)) {
+                    convertedValue = String.format(this.writeFormat, convertedValue);
+                }
+                if(convertedValue != null) { // null is written as an empty string, not "null"
+                    sb.append(convertedValue);
                 }
-                i++;
             }
-            retval = StringUtils.join(convertedValue, writeDelimiter); // String.join() make null into "null"
+            retval = sb.toString();
         }
         return retval;
     }
@@ -0,0 +1,140 @@
+package com.opencsv.bean;
+
+import com.opencsv.exceptions.CsvConstraintViolationException;
+import com.opencsv.exceptions.CsvDataTypeMismatchException;
+
+import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A converter that remembers the results of another converter on reading.
+ * <p>This is the implementation of {@link CsvCache}. The cache is bounded
+ * by a maximum number of entries; once it is full, further inputs are
+ * converted without being added. After a sample of conversions, the hit
+ * rate is checked, and if it is too low, the cache is switched off for
+ * good.</p>
+ * <p>Only successful conversions to non-null values are cached. Failures
+ * are reported anew every time, and writing is always passed straight
+ * through to the encapsulated converter.</p>
+ * <p>This class is thread-safe.</p>
+ *
+ * @since 5.8
+ */
+public class CachingConverter implements CsvConverter {
+
+    /** The smallest number of conversions after which the hit rate is checked. */
+    private static final int MINIMUM_SAMPLE_SIZE = 1000;
+
+    private final CsvConverter converter;
+    private final int maximumSize;
+    private final double minimumHitRate;
+    private final long sampleSize;
+    private final ConcurrentMap<String, Object> cache = new ConcurrentHashMap<>();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final AtomicLong lookups = new AtomicLong();
+    private volatile boolean active = true;
+
+    /**
+     * @param converter The converter whose results are to be cached
+     * @param maximumSize The maximum number of inputs remembered
+     * @param minimumHitRate The share of conversions the cache must answer
+     *                       to stay active
+     */
+    public CachingConverter(CsvConverter converter, int maximumSize, double minimumHitRate) {
+        this.converter = converter;
+        this.maximumSize = maximumSize;
+        this.minimumHitRate = minimumHitRate;
+        sampleSize = Math.max(MINIMUM_SAMPLE_SIZE, 2L * maximumSize);
+    }
+
+    @Override
+    public Object convertToRead(String value) throws CsvDataTypeMismatchException, CsvConstraintViolationException {
+        if (!active || value == null) {
+            return converter.convertToRead(value);
+        }
+        Object result = cache.get(value);
+        if (result != null) {
+            hits.increment();
+        } else {
+            misses.increment();
+            result = converter.convertToRead(value);
+            if (result != null && cache.size() < maximumSize) {
+                cache.putIfAbsent(value, result);
+            }
+        }
+        if (lookups.incrementAndGet() == sampleSize
+                && hits.sum() < minimumHitRate * sampleSize) {
+            active = false;
+            cache.clear();
+        }
+        return result;
+    }
+
+    @Override
+    public String convertToWrite(Object value) throws CsvDataTypeMismatchException {
+        return converter.convertToWrite(value);
+    }
+
+    @Override
+    public void setErrorLocale(Locale errorLocale) {
+        converter.setErrorLocale(errorLocale);
+    }
+
+    @Override
+    public void setType(Class<?> type) {
+        converter.setType(type);
+        cache.clear();
+    }
+
+    @Override
+    public void setLocale(String locale) {
+        converter.setLocale(locale);
+        cache.clear();
+    }
+
+    @Override
+    public void setWriteLocale(String writeLocale) {
+        converter.setWriteLocale(writeLocale);
+    }
+
+    /**
+     * @return The converter whose results are cached
+     */
+    public CsvConverter getConverter() {
+        return converter;
+    }
+
+    /**
+     * @return The number of conversions answered by the cache
+     */
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    /**
+     * @return The number of conversions that had to be performed while the
+     *   cache was active
+     */
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    /**
+     * @return Whether the cache is still in use, or has been switched off
+     *   because of a poor hit rate
+     */
+    public boolean isActive() {
+        return active;
+    }
+
+    /**
+     * @return The number of inputs currently remembered
+     */
+    public int size() {
+        return cache.size();
+    }
+}
@@ -0,0 +1,218 @@
+package com.opencsv.bean;
+
+import com.opencsv.ICSVParser;
+import org.apache.commons.lang3.ArrayUtils;
+import org.apache.commons.lang3.StringUtils;
+
+import java.util.*;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+
+/**
+ * A declarative filter on the values of individual columns.
+ * <p>Conditions are formulated on columns named by their header or given by
+ * their position, and can be combined:</p>
+ * <pre>
+ * {@code
+ * ColumnFilter filter = ColumnFilter.column("status").equalTo("ACTIVE")
+ *         .and(ColumnFilter.column("region").in("EU", "US"));
+ * List<Order> orders = new CsvToBeanBuilder<Order>(reader)
+ *         .withType(Order.class)
+ *         .withFilter(filter)
+ *         .build().parse();
+ * }
+ * </pre>
+ * <p>{@link CsvToBean} resolves the header names to column positions once,
+ * after the header has been read, so each line costs no more than an array
+ * access and the comparison. Like every {@link CsvToBeanFilter}, the filter
+ * is applied as the input is read, before a line is handed to the threads
+ * that create beans, so rejected lines cost next to nothing.</p>
+ * <p>Header names are matched exactly, or, if there is no exact match,
+ * without regard to case. A missing column has the value {@code null}.</p>
+ * <p>Instances of this class are immutable and thread-safe.</p>
+ *
+ * @since 5.8
+ */
+public final class ColumnFilter implements CsvToBeanFilter {
+
+    /**
+     * Turns the header of the input into the actual condition. The header
+     * may be {@code null} if it is unknown.
+     */
+    private final Function<String[], Predicate<String[]>> compiler;
+
+    /** The condition resolved against the header, if it has been resolved. */
+    private final Predicate<String[]> compiled;
+
+    private ColumnFilter(Function<String[], Predicate<String[]>> compiler, Predicate<String[]> compiled) {
+        this.compiler = compiler;
+        this.compiled = compiled;
+    }
+
+    private ColumnFilter(Function<String[], Predicate<String[]>> compiler) {
+        this(compiler, null);
+    }
+
+    /**
+     * Starts a condition on the column with the given header name.
+     *
+     * @param name The name of the column in the header of the input
+     * @return A column on which a condition can be formulated
+     */
+    public static Column column(String name) {
+        return new Column(header -> positionOf(header, name));
+    }
+
+    /**
+     * Starts a condition on the column at the given position.
+     *
+     * @param position The zero-based position of the column
+     * @return A column on which a condition can be formulated
+     */
+    public static Column column(int position) {
+        return new Column(header -> position);
+    }
+
+    private static int positionOf(String[] header, String name) {
+        int position = ArrayUtils.indexOf(header, name);
+        for(int i = 0; position < 0 && header != null && i < header.length; i++) {
+            if(StringUtils.equalsIgnoreCase(header[i], name)) {
+                position = i;
+            }
+        }
+        if(position < 0) {
+            throw new IllegalArgumentException(String.format(
+                    ResourceBundle.getBundle(ICSVParser.DEFAULT_BUNDLE_NAME).getString("header.nonexistant"),
+                    name));
+        }
+        return position;
+    }
+
+    /**
+     * @param other Another filter
+     * @return A filter that allows only lines both filters allow
+     */
+    public ColumnFilter and(ColumnFilter other) {
+        return new ColumnFilter(header -> compiler.apply(header).and(other.compiler.apply(header)));
+    }
+
+    /**
+     * @param other Another filter
+     * @return A filter that allows lines either filter allows
+     */
+    public ColumnFilter or(ColumnFilter other) {
+        return new ColumnFilter(header -> compiler.apply(header).or(other.compiler.apply(header)));
+    }
+
+    /**
+     * @return A filter that allows exactly those lines this filter rejects
+     */
+    public ColumnFilter negate() {
+        return new ColumnFilter(header -> compiler.apply(header).negate());
+    }
+
+    /**
+     * Resolves all header names in this filter to column positions.
+     * <p>{@link CsvToBean} does this automatically once the header has been
+     * read.</p>
+     *
+     * @param header The header of the input, or {@code null} if the input
+     *               has none
+     * @return A filter equivalent to this one that is ready for use
+     * @throws IllegalArgumentException If a named column does not exist in
+     *   the header
+     */
+    public ColumnFilter compile(String[] header) {
+        return new ColumnFilter(compiler, compiler.apply(header));
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws IllegalArgumentException If the filter has not been compiled
+     *   and refers to a column by name
+     */
+    @Override
+    public boolean allowLine(String[] line) {
+        return (compiled != null ? compiled : compiler.apply(null)).test(line);
+    }
+
+    /**
+     * A column on which a condition for a {@link ColumnFilter} is formulated.
+     */
+    public static final class Column {
+        private final Function<String[], Integer> position;
+
+        private Column(Function<String[], Integer> position) {
+            this.position = position;
+        }
+
+        /**
+         * @param condition A condition on the value of the column, which is
+         *                  {@code null} if the line is too short
+         * @return A filter allowing the lines that meet the condition
+         */
+        public ColumnFilter test(Predicate<String> condition) {
+            return new ColumnFilter(header -> {
+                int p = position.apply(header);
+                return line -> condition.test(p < line.length ? line[p] : null);
+            });
+        }
+
+        /**
+         * @param value The value required
+         * @return A filter allowing the lines in which the column has this
+         *   value
+         */
+        public ColumnFilter equalTo(String value) {
+            return test(v -> Objects.equals(v, value));
+        }
+
+        /**
+         * @param value The value required
+         * @return A filter allowing the lines in which the column has this
+         *   value, regardless of case
+         */
+        public ColumnFilter equalToIgnoreCase(String value) {
+            return test(v -> StringUtils.equalsIgnoreCase(v, value));
+        }
+
+        /**
+         * @param values The values permitted
+         * @return A filter allowing the lines in which the column has one of
+         *   these values
+         */
+        public ColumnFilter in(String... values) {
+            Set<String> permitted = new HashSet<>(Arrays.asList(values));
+            return test(permitted::contains);
+        }
+
+        /**
+         * @param prefix The beginning required
+         * @return A filter allowing the lines in which the value of the
+         *   column begins with the prefix
+         */
+        public ColumnFilter startsWith(String prefix) {
+            return test(v -> v != null && v.startsWith(prefix));
+        }
+
+        /**
+         * @param regex A regular expression the entire value must match
+         * @return A filter allowing the lines in which the value of the
+         *   column matches the expression
+         */
+        public ColumnFilter matches(String regex) {
+            Pattern pattern = Pattern.compile(regex);
+            return test(v -> v != null && pattern.matcher(v).matches());
+        }
+
+        /**
+         * @return A filter allowing the lines in which the column is
+         *   missing, empty or blank
+         */
+        public ColumnFilter isBlank() {
+            return test(StringUtils::isBlank);
+        }
+    }
+}
@@ -71,6 +71,7 @@ public class ColumnPositionMappingStrategy<T> extends AbstractMappingStrategy<St
 
         String[] firstLine = ArrayUtils.nullToEmpty(reader.peek());
         fieldMap.setMaxIndex(firstLine.length - 1);
+        invalidateWritePlan();
         if (!columnsExplicitlySet) {
             headerIndex.clear();
             for (FieldMapByPositionEntry<T> entry : fieldMap) {
@@ -121,6 +122,7 @@ public class ColumnPositionMappingStrategy<T> extends AbstractMappingStrategy<St
 
         // Create the mapping for input column index to output column index.
         Arrays.sort(columnIndexForWriting, writeOrder);
+        invalidateWritePlan();
         return ArrayUtils.EMPTY_STRING_ARRAY;
     }
 
@@ -158,6 +160,7 @@ public class ColumnPositionMappingStrategy<T> extends AbstractMappingStrategy<St
             headerIndex.clear();
         }
         columnsExplicitlySet = true;
+        invalidateWritePlan();
         if(getType() != null) {
             loadFieldMap(); // In case setType() was called first.
         }
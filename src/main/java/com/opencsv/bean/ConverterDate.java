@@ -67,18 +67,25 @@ public class ConverterDate extends AbstractCsvConverter {
 
     /**
      * The formatter for all inputs to old-style date representations.
-     * <em>It is absolutely critical that access to this member variable is always
-     * synchronized!</em>
+     * <p>This formatter is never used directly. It is the template for
+     * {@link #threadReadSdf}, since {@link SimpleDateFormat} is not
+     * thread-safe.</p>
      */
     private final SimpleDateFormat readSdf;
 
     /**
      * The formatter for all outputs from old-style date representations.
-     * <em>It is absolutely critical that access to this member variable is always
-     * synchronized!</em>
+     * <p>This formatter is never used directly. It is the template for
+     * {@link #threadWriteSdf}.</p>
      */
     private final SimpleDateFormat writeSdf;
 
+    /** A copy of {@link #readSdf} for every thread that reads. */
+    private final ThreadLocal<SimpleDateFormat> threadReadSdf;
+
+    /** A copy of {@link #writeSdf} for every thread that writes. */
+    private final ThreadLocal<SimpleDateFormat> threadWriteSdf;
+
     /**
      * The formatter for all inputs to
      * {@link java.time.temporal.TemporalAccessor} representations.
@@ -150,7 +157,7 @@ public class ConverterDate extends AbstractCsvConverter {
                 readSdf = setDateFormat(readFormat, this.locale);
             }
         } catch (IllegalArgumentException e) {
-            CsvBadConverterException csve = new CsvBadConverterException(getClass(), String.format(
+            CsvBadConverterException csve = new CsvBadConverterException(ConverterDate.class, String.format(
                     ResourceBundle.getBundle(ICSVParser.DEFAULT_BUNDLE_NAME, this.errorLocale)
                             .getString("invalid.date.format.string"), readFormat));
             csve.initCause(e);
@@ -170,12 +177,62 @@ public class ConverterDate extends AbstractCsvConverter {
                 writeSdf = setDateFormat(writeFormat, this.writeLocale);
             }
         } catch (IllegalArgumentException e) {
-            CsvBadConverterException csve = new CsvBadConverterException(getClass(), String.format(
+            CsvBadConverterException csve = new CsvBadConverterException(ConverterDate.class, String.format(
                     ResourceBundle.getBundle(ICSVParser.DEFAULT_BUNDLE_NAME, this.errorLocale)
                             .getString("invalid.date.format.string"), writeFormat));
             csve.initCause(e);
             throw csve;
         }
+
+        threadReadSdf = confineToThread(readSdf);
+        threadWriteSdf = confineToThread(writeSdf);
+    }
+
+    /**
+     * Creates a copy of the given formatter for every thread that uses it.
+     * The copies share all settings with the template, including the time
+     * zone it was created with.
+     *
+     * @param template The formatter to copy, or {@code null}
+     * @return A thread-local copy of {@code template}, or {@code null} if
+     *   {@code template} is {@code null}
+     */
+    private static ThreadLocal<SimpleDateFormat> confineToThread(SimpleDateFormat template) {
+        return template == null ? null : ThreadLocal.withInitial(() -> (SimpleDateFormat) template.clone());
+    }
+
+    /**
+     * @return The template for parsing old-style dates, or {@code null} if
+     *   {@link #type} is a {@link java.time.temporal.TemporalAccessor}
+     */
+    SimpleDateFormat getReadDateFormat() {
+        return readSdf;
+    }
+
+    /**
+     * @return The template for formatting old-style dates, or {@code null} if
+     *   {@link #type} is a {@link java.time.temporal.TemporalAccessor}
+     */
+    SimpleDateFormat getWriteDateFormat() {
+        return writeSdf;
+    }
+
+    /**
+     * @return The chronology used for reading
+     *   {@link java.time.temporal.TemporalAccessor}-based values, or
+     *   {@code null} for old-style dates
+     */
+    Chronology getReadChronology() {
+        return readDtf == null ? null : readDtf.getChronology();
+    }
+
+    /**
+     * @return The chronology used for writing
+     *   {@link java.time.temporal.TemporalAccessor}-based values, or
+     *   {@code null} for old-style dates
+     */
+    Chronology getWriteChronology() {
+        return writeDtf == null ? null : writeDtf.getChronology();
     }
 
     private BiFunction<DateTimeFormatter, TemporalAccessor, String> determineWriteTemporalConversionFunction(Class<?> type) {
@@ -237,7 +294,7 @@ public class ConverterDate extends AbstractCsvConverter {
         } else if (ZoneOffset.class.equals(type)) {
             return (readDtf, s) -> readDtf.parse(s, ZoneOffset::from);
         } else {
-            throw new CsvBadConverterException(getClass(), String.format(
+            throw new CsvBadConverterException(ConverterDate.class, String.format(
                     ResourceBundle.getBundle(ICSVParser.DEFAULT_BUNDLE_NAME, this.errorLocale)
                             .getString(CSVDATE_NOT_DATE), type));
         }
@@ -264,7 +321,7 @@ public class ConverterDate extends AbstractCsvConverter {
                     Chronology.of(readChronology) :
                     Chronology.ofLocale(locale2);
         } catch (DateTimeException e) {
-            CsvBadConverterException csve = new CsvBadConverterException(getClass(),
+            CsvBadConverterException csve = new CsvBadConverterException(ConverterDate.class,
                     String.format(ResourceBundle.getBundle(ICSVParser.DEFAULT_BUNDLE_NAME, this.errorLocale)
                             .getString("chronology.not.found"), readChronology));
             csve.initCause(e);
@@ -282,9 +339,7 @@ public class ConverterDate extends AbstractCsvConverter {
             if (Date.class.isAssignableFrom(type)) {
                 Date d;
                 try {
-                    synchronized (readSdf) {
-                        d = readSdf.parse(value);
-                    }
+                    d = threadReadSdf.get().parse(value);
 
                     returnValue = type.getConstructor(Long.TYPE).newInstance(d.getTime());
                 }
@@ -315,9 +370,7 @@ public class ConverterDate extends AbstractCsvConverter {
                 // Parse input
                 Date d;
                 try {
-                    synchronized (readSdf) {
-                        d = readSdf.parse(value);
-                    }
+                    d = threadReadSdf.get().parse(value);
                 } catch (ParseException e) {
                     CsvDataTypeMismatchException csve = new CsvDataTypeMismatchException(value, type);
                     csve.initCause(e);
@@ -378,9 +431,7 @@ public class ConverterDate extends AbstractCsvConverter {
 
             // For Date-based conversions
             if (Date.class.isAssignableFrom(type)) {
-                synchronized (writeSdf) {
-                    returnValue = writeSdf.format((Date) value);
-                }
+                returnValue = threadWriteSdf.get().format((Date) value);
                 // For TemporalAccessor-based conversions
             } else if (TemporalAccessor.class.isAssignableFrom(type)) {
                 try {
@@ -399,9 +450,7 @@ public class ConverterDate extends AbstractCsvConverter {
                 } else {
                     c = (Calendar) value;
                 }
-                synchronized (writeSdf) {
-                    returnValue = writeSdf.format(c.getTime());
-                }
+                returnValue = threadWriteSdf.get().format(c.getTime());
             } else {
                 throw new CsvDataTypeMismatchException(value, type, String.format(
                         ResourceBundle.getBundle(ICSVParser.DEFAULT_BUNDLE_NAME, errorLocale).getString(CSVDATE_NOT_DATE), type));
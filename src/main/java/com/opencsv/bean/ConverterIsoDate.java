@@ -0,0 +1,316 @@
+package com.opencsv.bean;
+
+import com.opencsv.exceptions.CsvDataTypeMismatchException;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.text.DecimalFormat;
+import java.text.SimpleDateFormat;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.Month;
+import java.time.chrono.IsoChronology;
+import java.util.*;
+
+/**
+ * This converter adds fast paths to {@link ConverterDate} for the most
+ * common date formats.
+ * <p>The formats recognized are {@code yyyy-MM-dd},
+ * {@code yyyy-MM-dd'T'HH:mm:ss} and the default format of {@link CsvDate},
+ * {@code yyyyMMdd'T'HHmmss}. For {@link java.time.LocalDate},
+ * {@link java.time.LocalDateTime} and {@link java.util.Date} and its
+ * derivatives, values in these formats are parsed and formatted digit by
+ * digit instead of through a formatter. Everything the fast path does not
+ * handle with certainty, such as invalid dates, years outside of 1 to 9999,
+ * other chronologies or locales with other digits, is passed on to
+ * {@link ConverterDate}, so the results are always the same.</p>
+ *
+ * @see AbstractMappingStrategy#determineConverter(java.lang.reflect.Field, Class, String, String, Class)
+ * @since 5.8
+ */
+class ConverterIsoDate extends ConverterDate {
+
+    /** The layouts of the supported formats, keyed by format string. */
+    private static final Map<String, Layout> LAYOUTS;
+
+    static {
+        Map<String, Layout> layouts = new HashMap<>();
+        layouts.put("yyyy-MM-dd", new Layout("yyyy-MM-dd"));
+        layouts.put("yyyy-MM-dd'T'HH:mm:ss", new Layout("yyyy-MM-ddTHH:mm:ss"));
+        layouts.put("yyyyMMdd'T'HHmmss", new Layout("yyyyMMddTHHmmss"));
+        LAYOUTS = Collections.unmodifiableMap(layouts);
+    }
+
+    /** The layout for reading, or {@code null} if reading has no fast path. */
+    private final Layout readLayout;
+
+    /** The layout for writing, or {@code null} if writing has no fast path. */
+    private final Layout writeLayout;
+
+    /**
+     * The constructor taking milliseconds since the epoch for types derived
+     * from {@link java.util.Date}.
+     */
+    private final Constructor<?> dateConstructor;
+
+    /** A copy of the calendar of the read formatter for every thread. */
+    private final ThreadLocal<Calendar> threadReadCalendar;
+
+    /** A copy of the calendar of the write formatter for every thread. */
+    private final ThreadLocal<Calendar> threadWriteCalendar;
+
+    /**
+     * Determines whether the given format is one this converter accelerates.
+     *
+     * @param format A format string as used by {@link CsvDate}
+     * @return Whether this converter has a fast path for {@code format}
+     */
+    static boolean isFastFormat(String format) {
+        return LAYOUTS.containsKey(format);
+    }
+
+    /**
+     * Initializes the class.
+     * The parameters are the same as for
+     * {@link ConverterDate#ConverterDate(Class, String, String, Locale, String, String, String, String)}.
+     *
+     * @param type            The type of the field being populated
+     * @param locale          The locale for reading, if any
+     * @param writeLocale     The locale for writing, if any
+     * @param errorLocale     The locale to use for error messages
+     * @param readFormat      The string to use for parsing the date
+     * @param writeFormat     The string to use for formatting the date
+     * @param readChronology  The chronology for reading
+     * @param writeChronology The chronology for writing
+     */
+    ConverterIsoDate(Class<?> type, String locale, String writeLocale, Locale errorLocale, String readFormat, String writeFormat, String readChronology, String writeChronology) {
+        super(type, locale, writeLocale, errorLocale, readFormat, writeFormat, readChronology, writeChronology);
+
+        Layout read = LAYOUTS.get(readFormat);
+        Layout write = LAYOUTS.get(writeFormat);
+        if (Date.class.isAssignableFrom(type)) {
+            Constructor<?> constructor = null;
+            if (type != Date.class) {
+                try {
+                    constructor = type.getConstructor(Long.TYPE);
+                } catch (NoSuchMethodException e) {
+                    // The general path reports the error for every value.
+                    read = null;
+                }
+            }
+            dateConstructor = constructor;
+            readLayout = usesAsciiGregorianCalendar(getReadDateFormat()) ? read : null;
+            writeLayout = usesAsciiGregorianCalendar(getWriteDateFormat()) ? write : null;
+            threadReadCalendar = readLayout == null ? null : copyCalendarPerThread(getReadDateFormat());
+            threadWriteCalendar = writeLayout == null ? null : copyCalendarPerThread(getWriteDateFormat());
+        } else {
+            dateConstructor = null;
+            readLayout = IsoChronology.INSTANCE.equals(getReadChronology()) && fitsTemporalType(read) ? read : null;
+            writeLayout = IsoChronology.INSTANCE.equals(getWriteChronology()) && fitsTemporalType(write) ? write : null;
+            threadReadCalendar = null;
+            threadWriteCalendar = null;
+        }
+    }
+
+    /**
+     * Only a {@link java.time.LocalDate} can be accelerated for a format
+     * without a time, and only a {@link java.time.LocalDateTime} for a format
+     * with a time.
+     */
+    private boolean fitsTemporalType(Layout layout) {
+        return layout != null && (layout.hasTime()
+                ? type == LocalDateTime.class
+                : type == LocalDate.class);
+    }
+
+    /**
+     * The fast path only reproduces {@link SimpleDateFormat} for a plain
+     * {@link GregorianCalendar} and ASCII digits.
+     */
+    private static boolean usesAsciiGregorianCalendar(SimpleDateFormat sdf) {
+        return sdf.getCalendar().getClass() == GregorianCalendar.class
+                && sdf.getNumberFormat() instanceof DecimalFormat
+                && ((DecimalFormat) sdf.getNumberFormat()).getDecimalFormatSymbols().getZeroDigit() == '0';
+    }
+
+    private static ThreadLocal<Calendar> copyCalendarPerThread(SimpleDateFormat sdf) {
+        final Calendar template = (Calendar) sdf.getCalendar().clone();
+        return ThreadLocal.withInitial(() -> (Calendar) template.clone());
+    }
+
+    @Override
+    public Object convertToRead(String value) throws CsvDataTypeMismatchException {
+        if (readLayout != null && value != null && readLayout.matches(value)) {
+            int year = readLayout.year(value);
+            int month = readLayout.month(value);
+            int day = readLayout.day(value);
+            int hour = readLayout.hour(value);
+            int minute = readLayout.minute(value);
+            int second = readLayout.second(value);
+            if (year >= 1 && month >= 1 && month <= 12 && day >= 1
+                    && day <= Month.of(month).length(IsoChronology.INSTANCE.isLeapYear(year))
+                    && hour <= 23 && minute <= 59 && second <= 59) {
+                if (type == LocalDate.class) {
+                    return LocalDate.of(year, month, day);
+                }
+                if (type == LocalDateTime.class) {
+                    return LocalDateTime.of(year, month, day, hour, minute, second);
+                }
+                Calendar calendar = threadReadCalendar.get();
+                calendar.clear();
+                calendar.set(year, month - 1, day, hour, minute, second);
+                long millis = calendar.getTimeInMillis();
+                if (dateConstructor == null) {
+                    return new Date(millis);
+                }
+                try {
+                    return dateConstructor.newInstance(millis);
+                } catch (InstantiationException | IllegalAccessException
+                        | InvocationTargetException e) {
+                    CsvDataTypeMismatchException csve = new CsvDataTypeMismatchException(value, type);
+                    csve.initCause(e);
+                    throw csve;
+                }
+            }
+        }
+        return super.convertToRead(value);
+    }
+
+    @Override
+    public String convertToWrite(Object value) throws CsvDataTypeMismatchException {
+        if (writeLayout != null) {
+            if (value instanceof LocalDate && type == LocalDate.class) {
+                LocalDate date = (LocalDate) value;
+                if (date.getYear() >= 1 && date.getYear() <= 9999) {
+                    return writeLayout.format(date.getYear(), date.getMonthValue(),
+                            date.getDayOfMonth(), 0, 0, 0);
+                }
+            } else if (value instanceof LocalDateTime && type == LocalDateTime.class) {
+                LocalDateTime dateTime = (LocalDateTime) value;
+                if (dateTime.getYear() >= 1 && dateTime.getYear() <= 9999) {
+                    return writeLayout.format(dateTime.getYear(), dateTime.getMonthValue(),
+                            dateTime.getDayOfMonth(), dateTime.getHour(),
+                            dateTime.getMinute(), dateTime.getSecond());
+                }
+            } else if (value instanceof Date && threadWriteCalendar != null) {
+                Calendar calendar = threadWriteCalendar.get();
+                calendar.setTime((Date) value);
+                int year = calendar.get(Calendar.YEAR);
+                if (calendar.get(Calendar.ERA) == GregorianCalendar.AD && year <= 9999) {
+                    return writeLayout.format(year, calendar.get(Calendar.MONTH) + 1,
+                            calendar.get(Calendar.DAY_OF_MONTH),
+                            calendar.get(Calendar.HOUR_OF_DAY),
+                            calendar.get(Calendar.MINUTE),
+                            calendar.get(Calendar.SECOND));
+                }
+            }
+        }
+        return super.convertToWrite(value);
+    }
+
+    /**
+     * The positions of the fields in one of the supported formats.
+     * Letters of the layout are digits of a field, all other characters are
+     * literals.
+     */
+    private static final class Layout {
+        private final String layout;
+        private final int yearOffset, monthOffset, dayOffset, hourOffset, minuteOffset, secondOffset;
+
+        Layout(String layout) {
+            this.layout = layout;
+            yearOffset = layout.indexOf("yyyy");
+            monthOffset = layout.indexOf("MM");
+            dayOffset = layout.indexOf("dd");
+            hourOffset = layout.indexOf("HH");
+            minuteOffset = layout.indexOf("mm");
+            secondOffset = layout.indexOf("ss");
+        }
+
+        boolean hasTime() {
+            return hourOffset >= 0;
+        }
+
+        /**
+         * @param value The input to be parsed
+         * @return Whether the input has exactly the length of the layout,
+         *   ASCII digits for all fields and the literals in between
+         */
+        boolean matches(String value) {
+            if (value.length() != layout.length()) {
+                return false;
+            }
+            for (int i = 0; i < layout.length(); i++) {
+                char expected = layout.charAt(i);
+                char actual = value.charAt(i);
+                if (isFieldLetter(expected)) {
+                    if (actual < '0' || actual > '9') {
+                        return false;
+                    }
+                } else if (actual != expected) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        int year(String value) {
+            return digits(value, yearOffset, 4);
+        }
+
+        int month(String value) {
+            return digits(value, monthOffset, 2);
+        }
+
+        int day(String value) {
+            return digits(value, dayOffset, 2);
+        }
+
+        int hour(String value) {
+            return digits(value, hourOffset, 2);
+        }
+
+        int minute(String value) {
+            return digits(value, minuteOffset, 2);
+        }
+
+        int second(String value) {
+            return digits(value, secondOffset, 2);
+        }
+
+        String format(int year, int month, int day, int hour, int minute, int second) {
+            char[] chars = layout.toCharArray();
+            putDigits(chars, yearOffset, 4, year);
+            putDigits(chars, monthOffset, 2, month);
+            putDigits(chars, dayOffset, 2, day);
+            putDigits(chars, hourOffset, 2, hour);
+            putDigits(chars, minuteOffset, 2, minute);
+            putDigits(chars, secondOffset, 2, second);
+            return new String(chars);
+        }
+
+        private static boolean isFieldLetter(char c) {
+            return c == 'y' || c == 'M' || c == 'd' || c == 'H' || c == 'm' || c == 's';
+        }
+
+        private static int digits(String value, int offset, int length) {
+            if (offset < 0) {
+                return 0;
+            }
+            int result = 0;
+            for (int i = offset; i < offset + length; i++) {
+                result = result * 10 + value.charAt(i) - '0';
+            }
+            return result;
+        }
+
+        private static void putDigits(char[] chars, int offset, int length, int number) {
+            if (offset >= 0) {
+                for (int i = offset + length - 1; i >= offset; i--) {
+                    chars[i] = (char) ('0' + number % 10);
+                    number /= 10;
+                }
+            }
+        }
+    }
+}
@@ -40,7 +40,20 @@ import java.util.function.UnaryOperator;
  */
 public class ConverterNumber extends AbstractCsvConverter {
 
+    /**
+     * The formatters for reading and writing.
+     * <p>These formatters are never used directly. They are the templates for
+     * {@link #threadReadFormatter} and {@link #threadWriteFormatter}, since
+     * {@link DecimalFormat} is not thread-safe.</p>
+     */
     private final DecimalFormat readFormatter, writeFormatter;
+
+    /** A copy of {@link #readFormatter} for every thread that reads. */
+    private final ThreadLocal<DecimalFormat> threadReadFormatter;
+
+    /** A copy of {@link #writeFormatter} for every thread that writes. */
+    private final ThreadLocal<DecimalFormat> threadWriteFormatter;
+
     private final UnaryOperator<Number> readConversionFunction;
 
     /**
@@ -114,6 +127,30 @@ public class ConverterNumber extends AbstractCsvConverter {
 
         // Set up the write formatter
         writeFormatter = createDecimalFormat(writeFormat, this.writeLocale);
+
+        threadReadFormatter = ThreadLocal.withInitial(() -> (DecimalFormat) readFormatter.clone());
+        threadWriteFormatter = ThreadLocal.withInitial(() -> (DecimalFormat) writeFormatter.clone());
+    }
+
+    /** @return The template of the formatter used for reading */
+    DecimalFormat getReadFormat() {
+        return readFormatter;
+    }
+
+    /** @return The template of the formatter used for writing */
+    DecimalFormat getWriteFormat() {
+        return writeFormatter;
+    }
+
+    /**
+     * Converts the result of parsing with the read formatter to
+     * {@link #type}.
+     *
+     * @param n The number as {@link DecimalFormat#parse(String)} returns it
+     * @return The number as the type of the field
+     */
+    Number convertParsedNumber(Number n) {
+        return readConversionFunction.apply(n);
     }
 
     private DecimalFormat createDecimalFormat(String format, Locale locale) {
@@ -150,9 +187,7 @@ public class ConverterNumber extends AbstractCsvConverter {
         Number n = null;
         if(StringUtils.isNotEmpty(value)) {
             try {
-                synchronized (readFormatter) {
-                    n = readFormatter.parse(value);
-                }
+                n = threadReadFormatter.get().parse(value);
             }
             catch(ParseException e) {
                 CsvDataTypeMismatchException csve = new CsvDataTypeMismatchException(
@@ -165,7 +200,7 @@ public class ConverterNumber extends AbstractCsvConverter {
                 throw csve;
             }
 
-            n = readConversionFunction.apply(n);
+            n = convertParsedNumber(n);
         }
         return n;
     }
@@ -177,8 +212,6 @@ public class ConverterNumber extends AbstractCsvConverter {
     // The rest of the Javadoc is inherited.
     @Override
     public String convertToWrite(Object value) {
-        synchronized (writeFormatter) {
-            return value != null ? writeFormatter.format(value) : null;
-        }
+        return value != null ? threadWriteFormatter.get().format(value) : null;
     }
 }
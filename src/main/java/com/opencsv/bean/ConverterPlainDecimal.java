@@ -0,0 +1,199 @@
+package com.opencsv.bean;
+
+import com.opencsv.exceptions.CsvBadConverterException;
+import com.opencsv.exceptions.CsvDataTypeMismatchException;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+import java.text.DecimalFormat;
+import java.text.DecimalFormatSymbols;
+import java.util.Locale;
+
+/**
+ * This converter adds a fast path to {@link ConverterNumber} for the plain
+ * decimal format {@code #0.00}.
+ * <p>Inputs consisting only of an optional minus sign, ASCII digits and at
+ * most one decimal point are parsed without {@link DecimalFormat}, and
+ * integral numbers, {@link java.math.BigDecimal}s and doubles that are
+ * already exact to two decimal places are formatted without it. The results
+ * are those {@link DecimalFormat} would produce. Everything else, as well as
+ * locales whose symbols differ from the plain ASCII ones, is passed on to
+ * {@link ConverterNumber}.</p>
+ *
+ * @see AbstractMappingStrategy#determineConverter(java.lang.reflect.Field, Class, String, String, Class)
+ * @since 5.8
+ */
+class ConverterPlainDecimal extends ConverterNumber {
+
+    /** The format this converter accelerates, as {@link DecimalFormat#toPattern()} returns it. */
+    private static final String PLAIN_DECIMAL_PATTERN = "#0.00";
+
+    /**
+     * The number of digits up to which every input fits in a {@code long}
+     * and {@link DecimalFormat} keeps all digits.
+     */
+    private static final int MAX_DIGITS = 18;
+
+    /**
+     * Doubles smaller in magnitude than this are precise enough that no two
+     * numbers with two decimal places map to the same double.
+     */
+    private static final double MAX_EXACT_DOUBLE = 1e13;
+
+    private final boolean fastRead, fastWrite, parseBigDecimal;
+
+    /**
+     * Determines whether the given format is one this converter accelerates.
+     *
+     * @param format A format string as used by {@link CsvNumber}
+     * @return Whether this converter has a fast path for {@code format}
+     */
+    static boolean isFastFormat(String format) {
+        return PLAIN_DECIMAL_PATTERN.equals(format) || "0.00".equals(format);
+    }
+
+    /**
+     * The parameters are the same as for
+     * {@link ConverterNumber#ConverterNumber(Class, String, String, Locale, String, String)}.
+     *
+     * @param type    The class of the type of the data being processed
+     * @param locale   The locale for reading, if any
+     * @param writeLocale   The locale for writing, if any
+     * @param errorLocale The locale to use for error messages
+     * @param readFormat The string to use for parsing the number.
+     * @param writeFormat The string to use for formatting the number.
+     * @throws CsvBadConverterException If the information given to initialize
+     *   the converter are inconsistent
+     */
+    ConverterPlainDecimal(Class<?> type, String locale, String writeLocale, Locale errorLocale, String readFormat, String writeFormat)
+            throws CsvBadConverterException {
+        super(type, locale, writeLocale, errorLocale, readFormat, writeFormat);
+        fastRead = isPlainDecimal(getReadFormat()) && !getReadFormat().isParseIntegerOnly();
+        fastWrite = isPlainDecimal(getWriteFormat());
+        parseBigDecimal = getReadFormat().isParseBigDecimal();
+    }
+
+    private static boolean isPlainDecimal(DecimalFormat format) {
+        DecimalFormatSymbols symbols = format.getDecimalFormatSymbols();
+        return PLAIN_DECIMAL_PATTERN.equals(format.toPattern())
+                && symbols.getZeroDigit() == '0'
+                && symbols.getDecimalSeparator() == '.'
+                && format.getPositivePrefix().isEmpty()
+                && format.getPositiveSuffix().isEmpty()
+                && "-".equals(format.getNegativePrefix())
+                && format.getNegativeSuffix().isEmpty()
+                && format.getMultiplier() == 1
+                && format.getRoundingMode() == RoundingMode.HALF_EVEN;
+    }
+
+    @Override
+    public Object convertToRead(String value) throws CsvDataTypeMismatchException {
+        if (fastRead && value != null) {
+            Number n = parsePlainDecimal(value);
+            if (n != null) {
+                return convertParsedNumber(n);
+            }
+        }
+        return super.convertToRead(value);
+    }
+
+    /**
+     * Parses the input the way {@link DecimalFormat#parse(String)} does.
+     *
+     * @param value The input
+     * @return A {@link java.math.BigDecimal} if the read formatter is set to
+     *   parse them, otherwise a {@link java.lang.Long} for integral numbers
+     *   and a {@link java.lang.Double} for all others; {@code null} if the
+     *   input is not a plain decimal number of at most {@link #MAX_DIGITS}
+     *   digits
+     */
+    private Number parsePlainDecimal(String value) {
+        int length = value.length();
+        boolean negative = length > 0 && value.charAt(0) == '-';
+        int start = negative ? 1 : 0;
+        if (length == start || length - start > MAX_DIGITS + 1) {
+            return null;
+        }
+        int point = -1;
+        boolean integral = true;
+        long integerPart = 0;
+        for (int i = start; i < length; i++) {
+            char c = value.charAt(i);
+            if (c == '.') {
+                if (point >= 0 || i == start || i == length - 1) {
+                    return null;
+                }
+                point = i;
+            } else if (c < '0' || c > '9') {
+                return null;
+            } else if (point < 0) {
+                integerPart = integerPart * 10 + c - '0';
+            } else if (c != '0') {
+                integral = false;
+            }
+        }
+        if (point < 0 && length - start > MAX_DIGITS) {
+            return null;
+        }
+
+        if (parseBigDecimal) {
+            return new BigDecimal(value);
+        }
+        if (integral) {
+            if (negative && integerPart == 0) {
+                return -0.0;
+            }
+            return negative ? -integerPart : integerPart;
+        }
+        return Double.parseDouble(value);
+    }
+
+    @Override
+    public String convertToWrite(Object value) {
+        if (fastWrite) {
+            String s = formatPlainDecimal(value);
+            if (s != null) {
+                return s;
+            }
+        }
+        return super.convertToWrite(value);
+    }
+
+    /**
+     * Formats the value the way {@link DecimalFormat#format(Object)} does.
+     *
+     * @param value The value to format
+     * @return The formatted value, or {@code null} if there is no fast path
+     *   for it
+     */
+    private static String formatPlainDecimal(Object value) {
+        if (value instanceof Integer || value instanceof Long
+                || value instanceof Short || value instanceof Byte) {
+            return value.toString() + ".00";
+        }
+        if (value instanceof BigInteger) {
+            return value.toString() + ".00";
+        }
+        if (value instanceof BigDecimal) {
+            BigDecimal bd = (BigDecimal) value;
+            BigDecimal rounded = bd.setScale(2, RoundingMode.HALF_EVEN);
+            // DecimalFormat keeps the sign of negative numbers rounded to zero.
+            return rounded.signum() == 0 && bd.signum() < 0 ? null : rounded.toPlainString();
+        }
+        if (value instanceof Double || value instanceof Float) {
+            double d = ((Number) value).doubleValue();
+            if (Math.abs(d) < MAX_EXACT_DOUBLE) {
+                double cents = Math.rint(d * 100);
+                if (cents != 0 && cents / 100 == d) {
+                    long c = (long) cents;
+                    long absolute = Math.abs(c);
+                    long fraction = absolute % 100;
+                    return (c < 0 ? "-" : "") + absolute / 100
+                            + (fraction < 10 ? ".0" : ".") + fraction;
+                }
+            }
+        }
+        return null;
+    }
+}
@@ -22,18 +22,42 @@ import org.apache.commons.beanutils.ConvertUtilsBean;
 import org.apache.commons.beanutils.locale.LocaleConvertUtilsBean;
 import org.apache.commons.lang3.StringUtils;
 
-import java.util.Locale;
-import java.util.ResourceBundle;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.*;
+import java.util.function.Function;
 
 /**
  * This class wraps fields from the reflection API in order to handle
  * translation of primitive types and to add a "required" flag.
+ * <p>Primitives, their wrappers, {@link java.lang.String},
+ * {@link java.math.BigDecimal} and {@link java.math.BigInteger} are converted
+ * directly and without synchronization as long as no locale is specified. The
+ * results and errors are the same as those of commons-beanutils, which is
+ * used for all other types. If a locale is specified, every thread uses its
+ * own copy of the locale-sensitive commons-beanutils converter.</p>
  *
  * @author Andrew Rucker Jones
  * @since 4.2 (previously BeanFieldPrimitiveTypes since 3.8)
  */
 public class ConverterPrimitiveTypes extends AbstractCsvConverter {
 
+    /**
+     * The types that are written by simply calling {@code toString()}, as
+     * commons-beanutils does without a locale.
+     */
+    // This is easier in Java 9 with Set.of()
+    private static final Set<Class<?>> TO_STRING_TYPES = new HashSet<>(Arrays.asList(
+            Byte.class, Short.class, Integer.class, Long.class, Float.class,
+            Double.class, Boolean.class, Character.class, String.class,
+            BigDecimal.class, BigInteger.class));
+
+    /** The strings commons-beanutils accepts as {@code true}, in lower case. */
+    private static final String[] TRUE_STRINGS = {"true", "yes", "y", "on", "1"};
+
+    /** The strings commons-beanutils accepts as {@code false}, in lower case. */
+    private static final String[] FALSE_STRINGS = {"false", "no", "n", "off", "0"};
+
     /**
      * The formatter for all inputs to wrapped and unwrapped primitive
      * types when a specific locale is not required.
@@ -51,7 +75,9 @@ public class ConverterPrimitiveTypes extends AbstractCsvConverter {
      * should always be {@code null}.</p>
      * <p><em>It is absolutely critical that access to this member variable is
      * always synchronized!</em></p>
+     * @deprecated Conversion now uses a copy of this converter per thread
      */
+    @Deprecated
     protected final LocaleConvertUtilsBean readLocaleConverter;
 
     /**
@@ -71,9 +97,24 @@ public class ConverterPrimitiveTypes extends AbstractCsvConverter {
      * should always be {@code null}.</p>
      * <p><em>It is absolutely critical that access to this member variable is
      * always synchronized!</em></p>
+     * @deprecated Conversion now uses a copy of this converter per thread
      */
+    @Deprecated
     protected final LocaleConvertUtilsBean writeLocaleConverter;
 
+    /**
+     * The conversion from a string to {@link #type} without commons-beanutils.
+     * This is {@code null} if a locale is specified for reading or the type
+     * is not one of the common ones.
+     */
+    private Function<String, Object> directReadConversion;
+
+    /** The locale-sensitive converter for reading, one per thread. */
+    private final ThreadLocal<LocaleConvertUtilsBean> threadReadLocaleConverter;
+
+    /** The locale-sensitive converter for writing, one per thread. */
+    private final ThreadLocal<LocaleConvertUtilsBean> threadWriteLocaleConverter;
+
     /**
      * @param type    The class of the type of the data being processed
      * @param locale   If not null or empty, specifies the locale used for
@@ -88,24 +129,115 @@ public class ConverterPrimitiveTypes extends AbstractCsvConverter {
             readConverter = new ConvertUtilsBean();
             readConverter.register(true, false, 0);
             readLocaleConverter = null;
+            threadReadLocaleConverter = null;
+            directReadConversion = determineDirectReadConversion(type);
         }
         else {
             readLocaleConverter = new LocaleConvertUtilsBean();
             readLocaleConverter.setDefaultLocale(this.locale);
             readConverter = null;
+            final Locale l = this.locale;
+            threadReadLocaleConverter = ThreadLocal.withInitial(() -> createLocaleConverter(l));
+            directReadConversion = null;
         }
         if(this.writeLocale == null) {
             writeConverter = new ConvertUtilsBean();
             writeConverter.register(true, false, 0);
             writeLocaleConverter = null;
+            threadWriteLocaleConverter = null;
         }
         else {
             writeLocaleConverter = new LocaleConvertUtilsBean();
             writeLocaleConverter.setDefaultLocale(this.writeLocale);
             writeConverter = null;
+            final Locale l = this.writeLocale;
+            threadWriteLocaleConverter = ThreadLocal.withInitial(() -> createLocaleConverter(l));
         }
     }
 
+    @Override
+    public void setType(Class<?> type) {
+        super.setType(type);
+        if(readConverter != null) {
+            directReadConversion = determineDirectReadConversion(type);
+        }
+    }
+
+    private static LocaleConvertUtilsBean createLocaleConverter(Locale l) {
+        LocaleConvertUtilsBean converter = new LocaleConvertUtilsBean();
+        converter.setDefaultLocale(l);
+        return converter;
+    }
+
+    /**
+     * Determines the conversion that mimics commons-beanutils for the given
+     * type without any of its overhead.
+     * All conversions throw an {@link IllegalArgumentException} if the input
+     * cannot be converted.
+     *
+     * @param type The type to convert to
+     * @return The conversion, or {@code null} if {@code type} is not one of
+     *   the common types
+     */
+    private static Function<String, Object> determineDirectReadConversion(Class<?> type) {
+        if(type == null) {
+            return null;
+        }
+        if(type.equals(String.class)) {
+            return value -> value;
+        }
+        if(type.equals(Integer.TYPE) || type.equals(Integer.class)) {
+            return value -> Integer.valueOf(value.trim());
+        }
+        if(type.equals(Long.TYPE) || type.equals(Long.class)) {
+            return value -> Long.valueOf(value.trim());
+        }
+        if(type.equals(Double.TYPE) || type.equals(Double.class)) {
+            return value -> Double.valueOf(value.trim());
+        }
+        if(type.equals(Float.TYPE) || type.equals(Float.class)) {
+            return value -> Float.valueOf(value.trim());
+        }
+        if(type.equals(Short.TYPE) || type.equals(Short.class)) {
+            return value -> Short.valueOf(value.trim());
+        }
+        if(type.equals(Byte.TYPE) || type.equals(Byte.class)) {
+            return value -> Byte.valueOf(value.trim());
+        }
+        if(type.equals(Boolean.TYPE) || type.equals(Boolean.class)) {
+            return ConverterPrimitiveTypes::toBoolean;
+        }
+        if(type.equals(Character.TYPE) || type.equals(Character.class)) {
+            return value -> value.charAt(0);
+        }
+        if(type.equals(BigDecimal.class)) {
+            return value -> new BigDecimal(value.trim());
+        }
+        if(type.equals(BigInteger.class)) {
+            return value -> new BigInteger(value.trim());
+        }
+        return null;
+    }
+
+    private static Boolean toBoolean(String value) {
+        // None of the accepted strings is longer than five characters, and
+        // checking first saves converting long input to lower case.
+        if(value.length() <= 5) {
+            String lowerCase = value.toLowerCase();
+            for(String s : TRUE_STRINGS) {
+                if(s.equals(lowerCase)) {
+                    return Boolean.TRUE;
+                }
+            }
+            for(String s : FALSE_STRINGS) {
+                if(s.equals(lowerCase)) {
+                    return Boolean.FALSE;
+                }
+            }
+        }
+        throw new IllegalArgumentException(String.format("Can't convert value '%s' to a boolean", value));
+    }
+
     @Override
     public Object convertToRead(String value)
             throws CsvDataTypeMismatchException {
@@ -113,15 +245,21 @@ public class ConverterPrimitiveTypes extends AbstractCsvConverter {
 
         if (StringUtils.isNotBlank(value) || (value != null && type.equals(String.class))) {
             try {
-                if(readConverter != null) {
+                if(directReadConversion != null) {
+                    try {
+                        o = directReadConversion.apply(value);
+                    }
+                    catch(IllegalArgumentException e) {
+                        throw new ConversionException(e.getMessage(), e);
+                    }
+                }
+                else if(readConverter != null) {
                     synchronized (readConverter) {
                         o = readConverter.convert(value, type);
                     }
                 }
                 else {
-                    synchronized (readLocaleConverter) {
-                        o = readLocaleConverter.convert(value, type);
-                    }
+                    o = threadReadLocaleConverter.get().convert(value, type);
                 }
             } catch (ConversionException e) {
                 CsvDataTypeMismatchException csve = new CsvDataTypeMismatchException(
@@ -153,14 +291,17 @@ public class ConverterPrimitiveTypes extends AbstractCsvConverter {
         if(value != null) {
             try {
                 if(writeConverter != null) {
-                    synchronized (writeConverter) {
-                        result = writeConverter.convert(value);
+                    if(TO_STRING_TYPES.contains(value.getClass())) {
+                        result = value.toString();
+                    }
+                    else {
+                        synchronized (writeConverter) {
+                            result = writeConverter.convert(value);
+                        }
                     }
                 }
                 else {
-                    synchronized (writeLocaleConverter) {
-                        result = writeLocaleConverter.convert(value);
-                    }
+                    result = threadWriteLocaleConverter.get().convert(value);
                 }
             }
             catch(ConversionException e) {
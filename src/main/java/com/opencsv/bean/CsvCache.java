@@ -0,0 +1,53 @@
+package com.opencsv.bean;
+
+import java.lang.annotation.*;
+
+/**
+ * Instructs opencsv to remember the conversions of the input for this field.
+ * <p>This pays off for columns that repeat a small set of values over many
+ * lines, such as business dates, enumeration constants, currency codes or
+ * fixed-point amounts. Every distinct input is converted once; afterwards
+ * the converted value is taken from a cache. Only reading is affected.</p>
+ * <p>Since the same converted value is assigned to every bean with the same
+ * input, this annotation may only be used on fields whose type (or element
+ * type for collections and maps) is immutable. These are primitives and
+ * their wrappers, {@link java.lang.String}, {@link java.math.BigDecimal},
+ * {@link java.math.BigInteger}, {@link java.util.Currency},
+ * {@link java.util.UUID}, enumerations, and the final classes of
+ * {@code java.time}. Using it on any other type causes a
+ * {@link com.opencsv.exceptions.CsvBadConverterException}.</p>
+ * <p>The cache is bounded. Once it holds {@link #maximumSize()} values, new
+ * inputs are converted without being remembered. If too few conversions are
+ * answered by the cache, it is switched off, so a column with mostly
+ * distinct values costs next to nothing. The number of hits and misses can
+ * be retrieved through
+ * {@link AbstractMappingStrategy#getConversionCaches()}.</p>
+ * <p>Fields with custom binding annotations ({@link CsvCustomBindByName},
+ * {@link CsvCustomBindByPosition}) are not cached.</p>
+ *
+ * @see CachingConverter
+ * @since 5.8
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.FIELD)
+public @interface CsvCache {
+
+    /**
+     * The maximum number of distinct inputs remembered.
+     *
+     * @return The maximum size of the cache
+     */
+    int maximumSize() default 1000;
+
+    /**
+     * The share of conversions that must be answered by the cache for it to
+     * stay active.
+     * <p>The hit rate is checked once after twice {@link #maximumSize()}
+     * conversions, but at least 1000 conversions. If it is below this value,
+     * the cache is cleared and no longer used.</p>
+     *
+     * @return The minimum hit rate, between 0 and 1
+     */
+    double minimumHitRate() default 0.5;
+}
@@ -0,0 +1,39 @@
+package com.opencsv.bean;
+
+import java.lang.annotation.*;
+
+/**
+ * Instructs opencsv to create beans through this constructor or static
+ * factory method instead of the nullary constructor.
+ * <p>The bean fields are bound to columns as always, through binding
+ * annotations or by name, but the values of the fields listed here are
+ * converted first and passed to the constructor or factory method in one
+ * call, in the order given. All other bound fields are assigned afterwards as
+ * usual. This allows beans with final fields and immutable value types that
+ * have no nullary constructor.</p>
+ * <p>Only one constructor or factory method of a bean type may carry this
+ * annotation. A factory method must be static and return the bean type. The
+ * listed fields must be bound to a single column each; fields bound with
+ * {@link CsvBindAndJoinByName} or {@link CsvBindAndJoinByPosition} and
+ * fields with custom converters that are not derived from
+ * {@link AbstractBeanField} cannot be passed as parameters. If a listed field
+ * is not present in the input, the parameter receives {@code null}, or zero
+ * or {@code false} for primitives.</p>
+ * <p>This annotation is honored for the root bean type only. Beans created
+ * through {@link CsvRecurse} still require a nullary constructor.</p>
+ *
+ * @since 5.8
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.CONSTRUCTOR, ElementType.METHOD})
+public @interface CsvConstructor {
+
+    /**
+     * The names of the bean fields passed to the constructor or factory
+     * method, in the order of its parameters.
+     *
+     * @return The field names
+     */
+    String[] value();
+}
@@ -25,6 +25,7 @@ import com.opencsv.bean.concurrent.SingleLineReader;
 import com.opencsv.bean.exceptionhandler.CsvExceptionHandler;
 import com.opencsv.bean.exceptionhandler.ExceptionHandlerQueue;
 import com.opencsv.bean.exceptionhandler.ExceptionHandlerThrow;
+import com.opencsv.bean.util.OpencsvUtils;
 import com.opencsv.bean.util.OrderedObject;
 import com.opencsv.exceptions.CsvException;
 import com.opencsv.exceptions.CsvValidationException;
@@ -35,6 +36,8 @@ import java.util.*;
 import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.LinkedBlockingQueue;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
@@ -149,6 +152,74 @@ public class CsvToBean<T> implements Iterable<T> {
         return StreamSupport.stream(executor, false);
     }
 
+    /**
+     * Reads the input into one reusable bean and passes it to a consumer
+     * after every line.
+     * <p>Instead of creating a new bean for every line of input, the bean is
+     * taken once from {@code supplier}, and every line is assigned to it
+     * through {@link MappingStrategy#populateBean(Object, String[])}. This
+     * suits jobs that fold the input into an aggregate and discard each bean
+     * immediately. The consumer must not keep a reference to the bean, since
+     * its contents are overwritten by the next line.</p>
+     * <p>Lines are processed one at a time in the calling thread. Filters,
+     * verifiers and the exception handler apply just as with
+     * {@link #iterator()}; lines that are filtered out, rejected by a verifier
+     * or cause an exception are not passed to the consumer.</p>
+     *
+     * @param supplier Supplies the bean to be reused. It is called once.
+     * @param consumer Receives the bean after every line of input
+     * @throws IllegalStateException If either MappingStrategy or CSVReader is
+     *                               not specified
+     * @throws UnsupportedOperationException If the mapping strategy cannot
+     *                                       populate existing beans
+     * @since 5.8
+     */
+    public void forEachInto(Supplier<? extends T> supplier, Consumer<? super T> consumer)
+            throws IllegalStateException, UnsupportedOperationException {
+        prepareToReadInput();
+
+        // The bean comes from the caller, so the strategy is trusted to
+        // accept it as well as it accepts its own.
+        @SuppressWarnings("unchecked")
+        MappingStrategy<T> strategy = (MappingStrategy<T>) mappingStrategy;
+        SingleLineReader lineReader = new SingleLineReader(csvReader, ignoreEmptyLines);
+        BlockingQueue<OrderedObject<CsvException>> thrownExceptionsQueue = new LinkedBlockingQueue<>();
+        T bean = supplier.get();
+        String[] line;
+        long lineProcessed = 0;
+        try {
+            while (null != (line = lineReader.readNextLine())) {
+                lineProcessed = lineReader.getLinesRead();
+                if (filter != null && !filter.allowLine(line)) {
+                    continue;
+                }
+                boolean keep = true;
+                try {
+                    strategy.populateBean(bean, line);
+                    ListIterator<BeanVerifier<T>> verifierList = verifiers.listIterator();
+                    while (keep && verifierList.hasNext()) {
+                        keep = verifierList.next().verifyBean(bean);
+                    }
+                } catch (CsvException e) {
+                    keep = false;
+                    e.setLine(line);
+                    OpencsvUtils.handleException(e, lineProcessed, exceptionHandler, thrownExceptionsQueue);
+                    OrderedObject<CsvException> o = thrownExceptionsQueue.poll();
+                    while (o != null) {
+                        capturedExceptions.add(o.getElement());
+                        o = thrownExceptionsQueue.poll();
+                    }
+                }
+                if (keep) {
+                    consumer.accept(bean);
+                }
+            }
+        } catch (IOException | CsvValidationException e) {
+            throw new RuntimeException(String.format(ResourceBundle.getBundle(ICSVParser.DEFAULT_BUNDLE_NAME, errorLocale).getString("parsing.error"),
+                    lineProcessed, Arrays.toString(lineReader.getLine())), e);
+        }
+    }
+
     /**
      * Returns the list of all exceptions that would have been thrown during the
      * import, but were queued by the exception handler.
@@ -303,6 +374,25 @@ public class CsvToBean<T> implements Iterable<T> {
         } catch (Exception e) {
             throw new RuntimeException(ResourceBundle.getBundle(ICSVParser.DEFAULT_BUNDLE_NAME, errorLocale).getString("header.error"), e);
         }
+
+        // Now that the header is known, column filters can be resolved
+        if (filter instanceof ColumnFilter) {
+            filter = ((ColumnFilter) filter).compile(headerOf(mappingStrategy));
+        }
+    }
+
+    /**
+     * @param strategy The mapping strategy that has read the header
+     * @return The header as captured by the mapping strategy, or
+     *   {@code null} if it cannot be determined
+     */
+    private static String[] headerOf(MappingStrategy<?> strategy) {
+        if (strategy instanceof LazyBeanMappingStrategy) {
+            strategy = ((LazyBeanMappingStrategy<?>) strategy).getStrategy();
+        }
+        return strategy instanceof AbstractMappingStrategy
+                ? ((AbstractMappingStrategy<?, ?, ?, ?>) strategy).headerIndex.getHeaderIndex()
+                : null;
     }
 
     /**
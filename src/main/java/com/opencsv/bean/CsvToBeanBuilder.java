@@ -159,6 +159,12 @@ public class CsvToBeanBuilder<T> {
     /** @see com.opencsv.bean.AbstractMappingStrategy#profile */
     private String profile = StringUtils.EMPTY;
 
+    /** The interface of lazily converted beans, if any */
+    private Class<T> lazyBeanInterface = null;
+
+    /** @see LazyBeanMappingStrategy#LazyBeanMappingStrategy(Class, AbstractMappingStrategy, boolean) */
+    private boolean requiredFieldsCheckedEagerly = false;
+
    /**
     * Constructor with the one parameter that is most definitely mandatory, and
     * always will be.
@@ -236,7 +242,20 @@ public class CsvToBeanBuilder<T> {
         if(!ignoredFields.isEmpty()) {
             mappingStrategy.ignoreFields(ignoredFields);
         }
-        bean.setMappingStrategy(mappingStrategy);
+        if(lazyBeanInterface != null) {
+            if(!(mappingStrategy instanceof AbstractMappingStrategy)) {
+                throw new IllegalStateException(ResourceBundle.getBundle(ICSVParser.DEFAULT_BUNDLE_NAME, errorLocale).getString("lazy.strategy.unsupported"));
+            }
+            // The beans of the strategy implement the interface, so it can
+            // be treated as a strategy for the interface.
+            @SuppressWarnings("unchecked")
+            AbstractMappingStrategy<?, ?, ?, T> lazyStrategy = (AbstractMappingStrategy<?, ?, ?, T>) mappingStrategy;
+            bean.setMappingStrategy(new LazyBeanMappingStrategy<>(
+                    lazyBeanInterface, lazyStrategy, requiredFieldsCheckedEagerly));
+        }
+        else {
+            bean.setMappingStrategy(mappingStrategy);
+        }
 
         // The error locale comes at the end so it can be propagated through all
         // of the components of CsvToBean, rendering the error locale homogeneous.
@@ -578,4 +597,26 @@ public class CsvToBeanBuilder<T> {
         this.profile = profile;
         return this;
     }
+
+    /**
+     * Converts the fields of the beans only when they are first read.
+     * <p>The beans returned implement only the given interface. Please see
+     * {@link LazyBeanMappingStrategy} for details. The mapping strategy, if
+     * set explicitly, must be derived from {@link AbstractMappingStrategy}.</p>
+     *
+     * @param beanInterface The interface implemented by the type of the beans
+     *                      to be populated
+     * @param requiredFieldsCheckedEagerly Whether required fields are checked
+     *                                     when the line is read, so empty
+     *                                     required fields are reported like
+     *                                     any other error in the input
+     * @return {@code this}
+     * @see LazyBeanMappingStrategy
+     * @since 5.8
+     */
+    public CsvToBeanBuilder<T> withLazyConversion(Class<T> beanInterface, boolean requiredFieldsCheckedEagerly) {
+        this.lazyBeanInterface = beanInterface;
+        this.requiredFieldsCheckedEagerly = requiredFieldsCheckedEagerly;
+        return this;
+    }
 }
@@ -70,6 +70,7 @@ abstract public class HeaderNameBaseMappingStrategy<T> extends AbstractMappingSt
             }
         }
         headerIndex.initializeHeaderIndex(header);
+        invalidateWritePlan();
 
         // Throw an exception if any required headers are missing
         List<FieldMapByNameEntry<T>> missingRequiredHeaders = fieldMap.determineMissingRequiredHeaders(header);
@@ -103,8 +104,7 @@ abstract public class HeaderNameBaseMappingStrategy<T> extends AbstractMappingSt
 
     @Override
     protected String chooseMultivaluedFieldIndexFromHeaderIndex(int index) {
-        String[] s = headerIndex.getHeaderIndex();
-        return index >= s.length ? null: s[index];
+        return headerIndex.getByPosition(index);
     }
 
     @Override
@@ -0,0 +1,321 @@
+package com.opencsv.bean;
+
+import com.opencsv.CSVReader;
+import com.opencsv.ICSVParser;
+import com.opencsv.exceptions.*;
+import org.apache.commons.collections4.MultiValuedMap;
+import org.apache.commons.lang3.StringUtils;
+
+import java.io.IOException;
+import java.lang.reflect.*;
+import java.util.*;
+
+/**
+ * A mapping strategy that converts the fields of a bean only when they are
+ * first read.
+ * <p>Instead of a bean with every field converted, this strategy returns a
+ * proxy implementing an interface of the bean. The proxy keeps the line of
+ * input and the bean fields of the encapsulated strategy. When a getter of
+ * the interface is called for the first time, only the columns bound to
+ * that property are converted and assigned to the real bean, and the call is
+ * passed on to it. Every later call returns what the bean holds. For wide
+ * input of which only a few columns are ever used, this saves the cost of
+ * converting all others.</p>
+ * <p>Getters are matched to bean fields by name: {@code getName()} and
+ * {@code isName()} read the field {@code name} of the root bean. Calls to any
+ * other method of the interface, including setters, {@code equals()},
+ * {@code hashCode()} and {@code toString()}, convert all remaining columns
+ * first.</p>
+ * <p>Since conversion happens outside of {@link CsvToBean}, errors cannot be
+ * reported as checked exceptions or passed to the exception handler. A
+ * conversion that fails on access throws a {@link CsvRuntimeException} with
+ * the original exception as its cause. Validators are run when their column
+ * is converted. Required fields can optionally be checked as soon as the
+ * line is read, so that empty required columns are still reported through
+ * the usual channels.</p>
+ * <p>Beans read with this strategy can be written with it as well; they are
+ * fully converted and the real bean is written by the encapsulated
+ * strategy.</p>
+ *
+ * @param <T> The interface of the beans created
+ * @since 5.8
+ */
+public class LazyBeanMappingStrategy<T> implements MappingStrategy<T> {
+
+    private final Class<T> beanInterface;
+    private final AbstractMappingStrategy<?, ?, ?, T> strategy;
+    private final boolean requiredFieldsCheckedEagerly;
+    private volatile ConversionPlan plan;
+
+    /**
+     * Creates a lazy strategy around a fully configured mapping strategy.
+     *
+     * @param beanInterface The interface implemented by the beans the
+     *                      encapsulated strategy creates. The beans returned
+     *                      by {@link #populateNewBean(String[])} implement
+     *                      only this interface.
+     * @param strategy The strategy that binds columns to bean fields
+     * @param requiredFieldsCheckedEagerly Whether required fields are checked
+     *                                     for empty input when the line is
+     *                                     read instead of when the field is
+     *                                     first accessed
+     * @throws IllegalArgumentException If {@code beanInterface} is not an
+     *   interface
+     */
+    public LazyBeanMappingStrategy(Class<T> beanInterface, AbstractMappingStrategy<?, ?, ?, T> strategy,
+                                   boolean requiredFieldsCheckedEagerly) {
+        if (!beanInterface.isInterface()) {
+            throw new IllegalArgumentException(String.format(
+                    ResourceBundle.getBundle(ICSVParser.DEFAULT_BUNDLE_NAME, strategy.errorLocale)
+                            .getString("lazy.type.not.interface"),
+                    beanInterface.getName()));
+        }
+        this.beanInterface = beanInterface;
+        this.strategy = strategy;
+        this.requiredFieldsCheckedEagerly = requiredFieldsCheckedEagerly;
+    }
+
+    /**
+     * @return The strategy that binds columns to bean fields
+     */
+    public AbstractMappingStrategy<?, ?, ?, T> getStrategy() {
+        return strategy;
+    }
+
+    @Override
+    public void captureHeader(CSVReader reader) throws IOException, CsvRequiredFieldEmptyException {
+        strategy.captureHeader(reader);
+        plan = null;
+    }
+
+    @Override
+    public String[] generateHeader(T bean) throws CsvRequiredFieldEmptyException {
+        return strategy.generateHeader(materialize(bean));
+    }
+
+    @SuppressWarnings("deprecation")
+    @Override
+    public boolean isAnnotationDriven() {
+        return strategy.isAnnotationDriven();
+    }
+
+    @Override
+    public T populateNewBean(String[] line)
+            throws CsvBeanIntrospectionException, CsvFieldAssignmentException,
+            CsvChainedException {
+        strategy.verifyLineLength(line.length);
+        ConversionPlan currentPlan = getPlan(line.length);
+        Object[] beanTree = strategy.createBeanTree();
+        LazyBean handler = new LazyBean(currentPlan, beanTree, line);
+
+        if (requiredFieldsCheckedEagerly) {
+            CsvChainedException chainedException = null;
+            for (int col : currentPlan.requiredColumns) {
+                if (StringUtils.isBlank(line[col])) {
+                    try {
+                        handler.convert(col);
+                    } catch (CsvFieldAssignmentException e) {
+                        if (chainedException != null) {
+                            chainedException.add(e);
+                        } else {
+                            chainedException = new CsvChainedException(e);
+                        }
+                    }
+                }
+            }
+            if (chainedException != null) {
+                if (chainedException.hasOnlyOneException()) {
+                    throw chainedException.getFirstException();
+                }
+                throw chainedException;
+            }
+        }
+
+        return beanInterface.cast(Proxy.newProxyInstance(
+                beanInterface.getClassLoader(), new Class<?>[]{beanInterface}, handler));
+    }
+
+    @Override
+    public void setErrorLocale(Locale errorLocale) {
+        strategy.setErrorLocale(errorLocale);
+    }
+
+    @Override
+    public void setType(Class<? extends T> type) throws CsvBadConverterException {
+        strategy.setType(type);
+        plan = null;
+    }
+
+    @Override
+    public void setProfile(String profile) {
+        strategy.setProfile(profile);
+    }
+
+    @Override
+    public void ignoreFields(MultiValuedMap<Class<?>, Field> fields) throws IllegalArgumentException {
+        strategy.ignoreFields(fields);
+        plan = null;
+    }
+
+    @Override
+    public String[] transmuteBean(T bean) throws CsvFieldAssignmentException, CsvChainedException {
+        return strategy.transmuteBean(materialize(bean));
+    }
+
+    /**
+     * Converts all remaining fields of a bean created by this strategy.
+     *
+     * @param bean A bean as returned by {@link #populateNewBean(String[])},
+     *             or any other bean
+     * @param <B> The type of the bean
+     * @return The real bean behind the proxy with all fields converted, or
+     *   the bean passed in if it was not created lazily
+     * @throws CsvRuntimeException If a field cannot be converted
+     */
+    @SuppressWarnings("unchecked")
+    public static <B> B materialize(B bean) {
+        if (bean != null && Proxy.isProxyClass(bean.getClass())) {
+            InvocationHandler handler = Proxy.getInvocationHandler(bean);
+            if (handler instanceof LazyBeanMappingStrategy.LazyBean) {
+                return (B) ((LazyBeanMappingStrategy<?>.LazyBean) handler).convertAll();
+            }
+        }
+        return bean;
+    }
+
+    private ConversionPlan getPlan(int numberOfColumns) {
+        ConversionPlan currentPlan = plan;
+        if (currentPlan == null || currentPlan.numberOfColumns != numberOfColumns) {
+            currentPlan = new ConversionPlan(numberOfColumns);
+            plan = currentPlan;
+        }
+        return currentPlan;
+    }
+
+    /**
+     * Which columns belong to which getter of the interface, computed once
+     * for each layout of the input.
+     */
+    private class ConversionPlan {
+        private final int numberOfColumns;
+        private final Map<Method, int[]> columnsByGetter = new HashMap<>();
+        private final int[] requiredColumns;
+
+        ConversionPlan(int numberOfColumns) {
+            this.numberOfColumns = numberOfColumns;
+            Map<String, List<Integer>> columnsByProperty = new HashMap<>();
+            List<Integer> required = new ArrayList<>();
+            Class<? extends T> rootType = strategy.getType();
+            for (int col = 0; col < numberOfColumns; col++) {
+                BeanField<T, ?> beanField = strategy.findField(col);
+                if (beanField != null) {
+                    if (beanField.isRequired()) {
+                        required.add(col);
+                    }
+                    Field field = beanField.getField();
+                    if (field.getDeclaringClass().isAssignableFrom(rootType)) {
+                        columnsByProperty
+                                .computeIfAbsent(field.getName().toLowerCase(Locale.ROOT), k -> new ArrayList<>())
+                                .add(col);
+                    }
+                }
+            }
+            requiredColumns = required.stream().mapToInt(Integer::intValue).toArray();
+
+            for (Method method : beanInterface.getMethods()) {
+                String property = propertyOf(method);
+                List<Integer> columns = property == null ? null : columnsByProperty.get(property);
+                if (columns != null) {
+                    columnsByGetter.put(method, columns.stream().mapToInt(Integer::intValue).toArray());
+                }
+            }
+        }
+
+        private String propertyOf(Method method) {
+            if (method.getParameterCount() != 0 || method.getReturnType() == void.class) {
+                return null;
+            }
+            String name = method.getName();
+            if (name.startsWith("get") && name.length() > 3) {
+                return name.substring(3).toLowerCase(Locale.ROOT);
+            }
+            if (name.startsWith("is") && name.length() > 2) {
+                return name.substring(2).toLowerCase(Locale.ROOT);
+            }
+            return null;
+        }
+    }
+
+    /**
+     * The handler behind every lazily converted bean.
+     */
+    private class LazyBean implements InvocationHandler {
+        private final ConversionPlan conversionPlan;
+        private final Object[] beanTree;
+        private final String[] line;
+        private final boolean[] converted;
+        private int remaining;
+
+        LazyBean(ConversionPlan conversionPlan, Object[] beanTree, String[] line) {
+            this.conversionPlan = conversionPlan;
+            this.beanTree = beanTree;
+            this.line = line;
+            converted = new boolean[line.length];
+            remaining = line.length;
+        }
+
+        private void convert(int col) throws CsvFieldAssignmentException {
+            if (!converted[col]) {
+                strategy.setFieldValue(beanTree, line[col], col);
+                converted[col] = true;
+                remaining--;
+            }
+        }
+
+        private void convertOnAccess(int col) {
+            try {
+                convert(col);
+            } catch (CsvFieldAssignmentException e) {
+                throw new CsvRuntimeException(String.format(
+                        ResourceBundle.getBundle(ICSVParser.DEFAULT_BUNDLE_NAME, strategy.errorLocale)
+                                .getString("lazy.conversion.failed"),
+                        col, StringUtils.defaultString(strategy.findHeader(col))), e);
+            }
+        }
+
+        synchronized Object convertAll() {
+            for (int col = 0; remaining > 0 && col < line.length; col++) {
+                convertOnAccess(col);
+            }
+            return beanTree[0];
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            // The other bean is converted before this one is locked, so two
+            // beans compared with each other concurrently cannot deadlock.
+            if (method.getDeclaringClass() == Object.class && "equals".equals(method.getName())) {
+                Object other = materialize(args[0]);
+                return convertAll().equals(other);
+            }
+
+            Object bean;
+            synchronized (this) {
+                int[] columns = conversionPlan.columnsByGetter.get(method);
+                if (columns != null) {
+                    for (int col : columns) {
+                        convertOnAccess(col);
+                    }
+                    bean = beanTree[0];
+                } else {
+                    bean = convertAll();
+                }
+            }
+            try {
+                return method.invoke(bean, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        }
+    }
+}
@@ -95,6 +95,33 @@ public interface MappingStrategy<T> {
     T populateNewBean(String[] line)
             throws CsvBeanIntrospectionException, CsvFieldAssignmentException,
             CsvChainedException;
+
+    /**
+     * Takes a line of input from a CSV file and assigns it to an existing
+     * bean.
+     * <p>This allows one bean to be reused for many lines of input instead of
+     * creating a new bean for every line. Implementations must define what
+     * happens to values assigned to the bean from a previous line.</p>
+     * <p>An implementation of this interface is not required to implement
+     * this method. The default implementation throws
+     * {@link UnsupportedOperationException}.</p>
+     *
+     * @param target The bean the line is to be assigned to
+     * @param line A line of input returned from {@link com.opencsv.CSVReader}
+     * @throws CsvBeanIntrospectionException Generally, if some part of the bean cannot
+     *   be accessed and used as needed
+     * @throws CsvFieldAssignmentException A more specific subclass of this
+     *   exception is thrown for any problem decoding and assigning a field
+     *   of the input to a bean field
+     * @throws CsvChainedException If multiple exceptions are thrown for the
+     * same input line
+     * @since 5.8
+     */
+    default void populateBean(T target, String[] line)
+            throws CsvBeanIntrospectionException, CsvFieldAssignmentException,
+            CsvChainedException {
+        throw new UnsupportedOperationException();
+    }
     
     /**
      * Sets the locale for all error messages.
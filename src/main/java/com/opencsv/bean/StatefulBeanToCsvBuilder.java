@@ -70,6 +70,9 @@ public class StatefulBeanToCsvBuilder<T> {
      * Being stateful the writer is required by the builder at the start and not added in later.
      * By passing in the ICSVWriter you can create a writer with the desired ICSVParser to allow you to
      * use the exact same parser for reading and writing.
+     * <p>Passing in a {@link com.opencsv.AsyncCSVWriter} lets the conversion
+     * of beans overlap with the output. The beans are then written when that
+     * writer is flushed or closed.</p>
      *
      * @param icsvWriter - the ICSVWriter that will be used to output the csv version of the bean.
      * @since 4.2
@@ -88,10 +88,15 @@ public class CompleteFileReader<T> extends SingleLineReader implements Runnable
     public void run() {
         // Parse through each line of the file
         try {
-            while (null != readNextLine()) {
+            while (readNextLineInPlace()) {
                 lineProcessed = csvReader.getLinesRead();
-                executor.submitLine(lineProcessed, mappingStrategy, filter,
-                        verifiers, line, exceptionHandler);
+
+                // Filtering here spares rejected lines the trip through the
+                // executor.
+                if (filter == null || filter.allowLine(line)) {
+                    executor.submitLine(lineProcessed, mappingStrategy, null,
+                            verifiers, line, exceptionHandler);
+                }
             }
 
             // Since only this thread knows when reading is over, it is responsible
@@ -45,10 +45,25 @@ public class SingleLineReader {
      * @throws CsvValidationException If a user-defined validator fails
      */
     public String[] readNextLine() throws IOException, CsvValidationException {
+        readNextLineInPlace();
+        return getLine();
+    }
+
+    /**
+     * Reads from the {@link CSVReader} provided on instantiation until a
+     * usable line of input is found, and leaves it in {@link #line} without
+     * copying it.
+     *
+     * @return Whether a line was read
+     * @throws IOException            If bad things happen during the read
+     * @throws CsvValidationException If a user-defined validator fails
+     * @since 5.8
+     */
+    protected boolean readNextLineInPlace() throws IOException, CsvValidationException {
         do {
             line = csvReader.readNext();
         } while (line != null && isCurrentLineEmpty() && ignoreEmptyLines);
-        return getLine();
+        return line != null;
     }
 
     /**
@@ -0,0 +1,229 @@
+package com.opencsv;
+
+import com.opencsv.bean.StatefulBeanToCsv;
+import com.opencsv.bean.StatefulBeanToCsvBuilder;
+import com.opencsv.bean.mocks.MinimalCsvBindByPositionBeanForWriting;
+import com.opencsv.exceptions.CsvException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class AsyncCSVWriterTest {
+
+    private static Locale systemLocale;
+
+    @BeforeAll
+    public static void storeSystemLocale() {
+        systemLocale = Locale.getDefault();
+    }
+
+    @BeforeEach
+    public void setSystemLocaleToValueNotGerman() {
+        Locale.setDefault(Locale.US);
+    }
+
+    @AfterEach
+    public void setSystemLocaleBackToDefault() {
+        Locale.setDefault(systemLocale);
+    }
+
+    private static List<String[]> lines(int count) {
+        List<String[]> lines = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            lines.add(new String[]{Integer.toString(i), "value " + i, i % 3 == 0 ? "a,b" : null});
+        }
+        return lines;
+    }
+
+    private static String synchronousOutput(List<String[]> lines) {
+        StringWriter expected = new StringWriter();
+        ICSVWriter writer = new CSVWriterBuilder(expected).build();
+        for (int i = 0; i < lines.size(); i++) {
+            writer.writeNext(lines.get(i), i % 2 == 0);
+        }
+        return expected.toString();
+    }
+
+    private static class FailingWriter extends Writer {
+        private final boolean writeFails;
+
+        private FailingWriter(boolean writeFails) {
+            this.writeFails = writeFails;
+        }
+
+        @Override
+        public void write(char[] cbuf, int off, int len) throws IOException {
+            if (writeFails) {
+                throw new IOException("write failed");
+            }
+        }
+
+        @Override
+        public void flush() throws IOException {
+            if (!writeFails) {
+                throw new IOException("flush failed");
+            }
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+
+    @Test
+    public void testOutputIsIdenticalToSynchronousWriter() throws IOException {
+        List<String[]> lines = lines(5000);
+        String expected = synchronousOutput(lines);
+        for (int batchSize : new int[]{1, 7, AsyncCSVWriter.DEFAULT_BATCH_SIZE}) {
+            for (int queueDepth : new int[]{1, 3}) {
+                for (int bufferSize : new int[]{0, 100}) {
+                    StringWriter output = new StringWriter();
+                    AsyncCSVWriter writer = new AsyncCSVWriter(
+                            new CSVWriterBuilder(output).withBufferSize(bufferSize).build(),
+                            batchSize, queueDepth, 0);
+                    for (int i = 0; i < lines.size(); i++) {
+                        writer.writeNext(lines.get(i), i % 2 == 0);
+                    }
+                    writer.close();
+                    assertFalse(writer.checkError());
+                    assertEquals(expected, output.toString(),
+                            String.format("batch size %d, queue depth %d, buffer size %d", batchSize, queueDepth, bufferSize));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testFlushWritesEverythingCollected() throws IOException {
+        StringWriter output = new StringWriter();
+        try (AsyncCSVWriter writer = new AsyncCSVWriter(new CSVWriterBuilder(output).withBufferSize(1000).build())) {
+            writer.writeNext(new String[]{"a", "b"});
+            writer.flush();
+            assertEquals("\"a\",\"b\"\n", output.toString());
+            writer.writeAll(lines(3), false);
+            writer.flush();
+            StringWriter expected = new StringWriter();
+            expected.write("\"a\",\"b\"\n");
+            new CSVWriterBuilder(expected).build().writeAll(lines(3), false);
+            assertEquals(expected.toString(), output.toString());
+        }
+    }
+
+    @Test
+    public void testPeriodicFlush() throws Exception {
+        StringWriter output = new StringWriter();
+        try (AsyncCSVWriter writer = new AsyncCSVWriter(new CSVWriterBuilder(output).withBufferSize(1000).build(),
+                100, 1, 10)) {
+            writer.writeNext(new String[]{"a"});
+            long deadline = System.currentTimeMillis() + 10000;
+            String written;
+            do {
+                Thread.sleep(5);
+                written = output.toString();
+            } while (written.isEmpty() && System.currentTimeMillis() < deadline);
+            assertEquals("\"a\"\n", written);
+            writer.writeNext(new String[]{"b"});
+        }
+        assertEquals("\"a\"\n\"b\"\n", output.toString());
+    }
+
+    @Test
+    @Timeout(60)
+    public void testFlushDuringPeriodicFlush() throws IOException {
+        StringWriter output = new StringWriter();
+        StringWriter expected = new StringWriter();
+        ICSVWriter synchronous = new CSVWriterBuilder(expected).build();
+        try (AsyncCSVWriter writer = new AsyncCSVWriter(new CSVWriterBuilder(output).build(), 4, 1, 1)) {
+            for (int i = 0; i < 2000; i++) {
+                String[] line = {Integer.toString(i)};
+                writer.writeNext(line);
+                synchronous.writeNext(line);
+                if (i % 2 == 0) {
+                    writer.flush();
+                } else {
+                    assertFalse(writer.checkError());
+                }
+                assertEquals(expected.toString(), output.toString());
+            }
+        }
+    }
+
+    @Test
+    public void testErrorsArePropagated() {
+        AsyncCSVWriter writer = new AsyncCSVWriter(new CSVWriterBuilder(new FailingWriter(true)).build(), 2, 1, 0);
+        writer.writeNext(new String[]{"a"});
+        writer.writeNext(new String[]{"b"});
+        writer.writeNext(new String[]{"c"});
+        assertTrue(writer.checkError());
+        assertEquals("write failed", writer.getException().getMessage());
+        writer.resetError();
+        assertNull(writer.getException());
+        assertFalse(writer.checkError());
+    }
+
+    @Test
+    public void testFlushErrorIsThrown() {
+        AsyncCSVWriter writer = new AsyncCSVWriter(new CSVWriterBuilder(new FailingWriter(false)).build());
+        writer.writeNext(new String[]{"a"});
+        IOException e = assertThrows(IOException.class, writer::flush);
+        assertEquals("flush failed", e.getMessage());
+        assertSame(e, writer.getException());
+    }
+
+    @Test
+    public void testWriteAfterClose() throws IOException {
+        StringWriter output = new StringWriter();
+        AsyncCSVWriter writer = new AsyncCSVWriter(new CSVWriterBuilder(output).build());
+        writer.writeNext(new String[]{"a"});
+        writer.close();
+        writer.close();
+        writer.flush();
+        assertFalse(writer.checkError());
+        writer.writeNext(new String[]{"b"});
+        assertTrue(writer.checkError());
+        assertEquals("The writer has already been closed.", writer.getException().getMessage());
+        assertEquals("\"a\"\n", output.toString());
+    }
+
+    @Test
+    public void testIllegalConfiguration() {
+        ICSVWriter csvWriter = new CSVWriterBuilder(new StringWriter()).build();
+        assertThrows(IllegalArgumentException.class, () -> new AsyncCSVWriter(csvWriter, 0, 1, 0));
+        assertThrows(IllegalArgumentException.class, () -> new AsyncCSVWriter(csvWriter, 1, 0, 0));
+    }
+
+    @Test
+    public void testWithStatefulBeanToCsv() throws IOException, CsvException {
+        List<MinimalCsvBindByPositionBeanForWriting> beans = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            MinimalCsvBindByPositionBeanForWriting bean = new MinimalCsvBindByPositionBeanForWriting();
+            bean.setA(i);
+            bean.setB(i * 2);
+            bean.setC(i * 3);
+            beans.add(bean);
+        }
+
+        StringWriter expected = new StringWriter();
+        new StatefulBeanToCsvBuilder<MinimalCsvBindByPositionBeanForWriting>(expected).build().write(beans);
+
+        StringWriter output = new StringWriter();
+        try (AsyncCSVWriter writer = new AsyncCSVWriter(new CSVWriterBuilder(output).withBufferSize(4096).build(),
+                64, 2, 0)) {
+            StatefulBeanToCsv<MinimalCsvBindByPositionBeanForWriting> beanToCsv =
+                    new StatefulBeanToCsvBuilder<MinimalCsvBindByPositionBeanForWriting>(writer).build();
+            beanToCsv.write(beans);
+        }
+        assertEquals(expected.toString(), output.toString());
+    }
+}
@@ -0,0 +1,312 @@
+package com.opencsv;
+
+import org.junit.jupiter.api.Test;
+
+import org.mockito.InOrder;
+
+import javax.sql.rowset.serial.SerialClob;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.Reader;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.sql.Clob;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.AdditionalAnswers.delegatesTo;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+public class BufferedCSVWriterTest {
+
+    private static final char[][] CONFIGURATIONS = {
+            {ICSVWriter.DEFAULT_SEPARATOR, ICSVWriter.DEFAULT_QUOTE_CHARACTER, ICSVWriter.DEFAULT_ESCAPE_CHARACTER},
+            {';', '\'', '\\'},
+            {'\t', ICSVWriter.NO_QUOTE_CHARACTER, '\\'},
+            {',', '"', ICSVWriter.NO_ESCAPE_CHARACTER},
+            {',', ICSVWriter.NO_QUOTE_CHARACTER, ICSVWriter.NO_ESCAPE_CHARACTER},
+            {'§', '«', '»'}
+    };
+
+    private static List<String[]> randomLines(long seed) {
+        String alphabet = "abc ,;\t\"'\\\n\r\u0000§«»€";
+        Random random = new Random(seed);
+        List<String[]> lines = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            String[] line = new String[random.nextInt(6)];
+            for (int j = 0; j < line.length; j++) {
+                if (random.nextInt(10) == 0) {
+                    continue;
+                }
+                StringBuilder sb = new StringBuilder();
+                int length = random.nextInt(5) == 0 ? random.nextInt(300) : random.nextInt(8);
+                for (int k = 0; k < length; k++) {
+                    sb.append(alphabet.charAt(random.nextInt(alphabet.length())));
+                }
+                line[j] = sb.toString();
+            }
+            lines.add(line);
+        }
+        lines.add(null);
+        return lines;
+    }
+
+    @Test
+    public void testOutputIsIdenticalToCSVWriter() throws IOException {
+        List<String[]> lines = randomLines(42);
+        for (char[] configuration : CONFIGURATIONS) {
+            for (String lineEnd : Arrays.asList(ICSVWriter.DEFAULT_LINE_END, ICSVWriter.RFC4180_LINE_END, "")) {
+                for (boolean quoteAll : new boolean[]{true, false}) {
+                    StringWriter expected = new StringWriter();
+                    CSVWriter csvWriter = new CSVWriter(expected,
+                            configuration[0], configuration[1], configuration[2], lineEnd);
+                    for (String[] line : lines) {
+                        csvWriter.writeNext(line, quoteAll);
+                    }
+                    csvWriter.close();
+
+                    for (int bufferSize : new int[]{1, 7, BufferedCSVWriter.DEFAULT_BUFFER_SIZE}) {
+                        StringWriter actual = new StringWriter();
+                        BufferedCSVWriter bufferedWriter = new BufferedCSVWriter(actual,
+                                configuration[0], configuration[1], configuration[2], lineEnd, bufferSize);
+                        bufferedWriter.writeAll(lines.subList(0, 100), quoteAll);
+                        for (String[] line : lines.subList(100, lines.size())) {
+                            bufferedWriter.writeNext(line, quoteAll);
+                        }
+                        bufferedWriter.close();
+                        assertEquals(expected.toString(), actual.toString(),
+                                String.format("Configuration %s, line end %s, quote all %b, buffer size %d",
+                                        new String(configuration), lineEnd, quoteAll, bufferSize));
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testOutputIsHeldBackUntilFlush() throws IOException {
+        StringWriter sw = new StringWriter();
+        BufferedCSVWriter writer = new BufferedCSVWriter(sw, ',', '"', '"', "\n", 100);
+        writer.writeNext(new String[]{"a", "b"});
+        assertEquals("", sw.toString());
+        writer.flush();
+        assertEquals("\"a\",\"b\"\n", sw.toString());
+        writer.writeNext(new String[]{"c"}, false);
+        assertFalse(writer.checkError());
+        assertEquals("\"a\",\"b\"\nc\n", sw.toString());
+    }
+
+    @Test
+    public void testCheckErrorFlushesIntoPrintWriter() {
+        StringWriter sw = new StringWriter();
+        BufferedCSVWriter writer = new BufferedCSVWriter(new PrintWriter(sw), ',', '"', '"', "\n", 100);
+        writer.writeNext(new String[]{"a"}, false);
+        assertFalse(writer.checkError());
+        assertEquals("a\n", sw.toString());
+    }
+
+    @Test
+    public void testExceptionIsKept() throws IOException {
+        Writer failing = new Writer() {
+            @Override
+            public void write(char[] cbuf, int off, int len) throws IOException {
+                throw new IOException("write failed");
+            }
+
+            @Override
+            public void flush() {
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+        BufferedCSVWriter writer = new BufferedCSVWriter(failing, ',', '"', '"', "\n", 4);
+        writer.writeNext(new String[]{"abcdef"}, false);
+        assertNotNull(writer.getException());
+        assertEquals("write failed", writer.getException().getMessage());
+        assertTrue(writer.checkError());
+    }
+
+    @Test
+    public void testInvalidBufferSize() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new BufferedCSVWriter(new StringWriter(), ',', '"', '"', "\n", 0));
+    }
+
+    private static String largeText() {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < 2000; i++) {
+            sb.append("line ").append(i).append(", \"quoted\" \\ '§«»\n");
+        }
+        return sb.toString();
+    }
+
+    /** Two rows of a text, a CLOB and a number column, the second CLOB being null. */
+    private static ResultSet resultSetWithClob(Clob clob) throws SQLException {
+        ResultSet resultSet = mock(ResultSet.class);
+        ResultSetMetaData metaData = MockResultSetMetaDataBuilder.buildMetaData(
+                new String[]{"text", "clob", "number"}, new int[]{Types.VARCHAR, Types.CLOB, Types.INTEGER});
+        when(resultSet.getMetaData()).thenReturn(metaData);
+        when(resultSet.next()).thenReturn(true, true, false);
+        when(resultSet.getString(1)).thenReturn(" a,b ", "c");
+        when(resultSet.getClob(2)).thenReturn(clob, (Clob) null);
+        when(resultSet.getInt(3)).thenReturn(1, 2);
+        return resultSet;
+    }
+
+    private static String writeResultSet(ICSVWriter writer, StringWriter output, ResultSet resultSet,
+                                         boolean applyQuotesToAll) throws SQLException, IOException {
+        assertEquals(3, writer.writeAll(resultSet, true, true, applyQuotesToAll));
+        writer.flush();
+        assertFalse(writer.checkError());
+        return output.toString();
+    }
+
+    @Test
+    public void testSmallClobIsWrittenAsByCSVWriter() throws SQLException, IOException {
+        for (char[] c : CONFIGURATIONS) {
+            for (boolean applyQuotesToAll : new boolean[]{true, false}) {
+                StringWriter expected = new StringWriter();
+                writeResultSet(new CSVWriter(expected, c[0], c[1], c[2], "\n"), expected,
+                        resultSetWithClob(new SerialClob(largeText().toCharArray())), applyQuotesToAll);
+
+                StringWriter actual = new StringWriter();
+                Clob clob = mock(Clob.class, delegatesTo(new SerialClob(largeText().toCharArray())));
+                writeResultSet(new BufferedCSVWriter(actual, c[0], c[1], c[2], "\n", 1 << 17), actual,
+                        resultSetWithClob(clob), applyQuotesToAll);
+                assertEquals(expected.toString(), actual.toString());
+                verify(clob, never()).getCharacterStream();
+            }
+        }
+    }
+
+    @Test
+    public void testLargeClobIsStreamed() throws SQLException, IOException {
+        for (char[] c : CONFIGURATIONS) {
+            StringWriter expected = new StringWriter();
+            writeResultSet(new CSVWriter(expected, c[0], c[1], c[2], "\n"), expected,
+                    resultSetWithClob(new SerialClob(largeText().toCharArray())), true);
+
+            StringWriter actual = new StringWriter();
+            Clob clob = mock(Clob.class, delegatesTo(new SerialClob(largeText().toCharArray())));
+            ResultSet resultSet = resultSetWithClob(clob);
+            writeResultSet(new BufferedCSVWriter(actual, c[0], c[1], c[2], "\n", 100), actual, resultSet, true);
+            assertEquals(expected.toString(), actual.toString());
+            verify(clob).getCharacterStream();
+            verify(clob, never()).getSubString(anyLong(), anyInt());
+
+            InOrder inOrder = inOrder(resultSet);
+            inOrder.verify(resultSet).getString(1);
+            inOrder.verify(resultSet).getClob(2);
+            inOrder.verify(resultSet).getInt(3);
+        }
+    }
+
+    @Test
+    public void testLargeClobIsAlwaysQuoted() throws SQLException, IOException {
+        StringWriter output = new StringWriter();
+        ICSVWriter writer = new CSVWriterBuilder(output).withBufferSize(10).build();
+        writeResultSet(writer, output, resultSetWithClob(new SerialClob("plain text".toCharArray())), false);
+        assertEquals("text,clob,number\n\"a,b\",plain text,1\nc,,2\n", output.toString());
+
+        output = new StringWriter();
+        writer = new CSVWriterBuilder(output).withBufferSize(9).build();
+        writeResultSet(writer, output, resultSetWithClob(new SerialClob("plain text".toCharArray())), false);
+        assertEquals("text,clob,number\n\"a,b\",\"plain text\",1\nc,,2\n", output.toString());
+    }
+
+    @Test
+    public void testClobReadErrorIsThrown() throws SQLException {
+        Clob clob = mock(Clob.class);
+        when(clob.length()).thenReturn(1000L);
+        when(clob.getCharacterStream()).thenReturn(new Reader() {
+            @Override
+            public int read(char[] cbuf, int off, int len) throws IOException {
+                throw new IOException("read failed");
+            }
+
+            @Override
+            public void close() {
+            }
+        });
+        ICSVWriter writer = new CSVWriterBuilder(new StringWriter()).withBufferSize(100).build();
+        IOException e = assertThrows(IOException.class,
+                () -> writer.writeAll(resultSetWithClob(clob), false, false, true));
+        assertEquals("read failed", e.getMessage());
+        assertFalse(writer.checkError());
+    }
+
+    private static Clob clobFailingAfter(int characters, boolean closeFails) throws SQLException {
+        Clob clob = mock(Clob.class);
+        when(clob.length()).thenReturn(1000L);
+        when(clob.getCharacterStream()).thenReturn(new Reader() {
+            private int read;
+
+            @Override
+            public int read(char[] cbuf, int off, int len) throws IOException {
+                if (read == 1000) {
+                    return -1;
+                }
+                if (read >= characters) {
+                    throw new IOException("read failed");
+                }
+                int n = Math.min(len, Math.min(10, 1000 - read));
+                Arrays.fill(cbuf, off, off + n, 'x');
+                read += n;
+                return n;
+            }
+
+            @Override
+            public void close() throws IOException {
+                if (closeFails) {
+                    throw new IOException("close failed");
+                }
+            }
+        });
+        return clob;
+    }
+
+    @Test
+    public void testPartialRowIsDiscardedAfterReadError() throws SQLException, IOException {
+        StringWriter output = new StringWriter();
+        ICSVWriter writer = new CSVWriterBuilder(output).withBufferSize(100).build();
+        IOException e = assertThrows(IOException.class,
+                () -> writer.writeAll(resultSetWithClob(clobFailingAfter(50, false)), true, false, true));
+        assertEquals("read failed", e.getMessage());
+        writer.close();
+        assertFalse(writer.checkError());
+        assertEquals("\"text\",\"clob\",\"number\"\n", output.toString());
+    }
+
+    @Test
+    public void testReadErrorAfterOutputIsTruncated() throws SQLException, IOException {
+        StringWriter output = new StringWriter();
+        ICSVWriter writer = new CSVWriterBuilder(output).withBufferSize(100).build();
+        assertThrows(IOException.class,
+                () -> writer.writeAll(resultSetWithClob(clobFailingAfter(500, false)), false, false, true));
+        writer.close();
+        String written = output.toString();
+        assertTrue(written.startsWith("\" a,b \",\"xxxxx"));
+        assertTrue(written.length() <= 510);
+        assertFalse(written.endsWith("\n"));
+    }
+
+    @Test
+    public void testClobCloseErrorIsThrown() throws SQLException {
+        ICSVWriter writer = new CSVWriterBuilder(new StringWriter()).withBufferSize(100).build();
+        IOException e = assertThrows(IOException.class,
+                () -> writer.writeAll(resultSetWithClob(clobFailingAfter(1000, true)), false, false, true));
+        assertEquals("close failed", e.getMessage());
+        assertFalse(writer.checkError());
+    }
+}
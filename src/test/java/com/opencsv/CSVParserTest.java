@@ -8,6 +8,7 @@ import org.junit.jupiter.api.*;
 
 import java.io.FileReader;
 import java.io.IOException;
+import java.io.StringWriter;
 import java.util.Locale;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -863,6 +864,61 @@ public class CSVParserTest {
         assertEquals("\"This\",\" is\",\" a\",\" test.\"", csvParser.parseToLine(items, true));
     }
 
+    @Test
+    public void parseToLineEscapesQuotesAndEscapeCharacters() throws IOException {
+        String[] items = {"a \"quote\"", "back\\slash", "sep,arated", "new\nline", "plain"};
+        String expected = "a \"\"quote\"\",back\\\\slash,\"sep,arated\",\"new\nline\",plain";
+        assertEquals(expected, csvParser.parseToLine(items, false));
+        StringBuilder sb = new StringBuilder();
+        csvParser.parseToLine(items, false, sb);
+        assertEquals(expected, sb.toString());
+    }
+
+    @Test
+    public void parseToLineWithRegularExpressionCharactersAsSeparatorAndQuote() {
+        CSVParser parser = new CSVParserBuilder().withSeparator('|').withQuoteChar('.').build();
+        String[] items = {"a|b", "c.d", "e"};
+        assertEquals(".a|b.|c..d|e", parser.parseToLine(items, false));
+    }
+
+    @Test
+    public void parseToLineCallsOverriddenConvertToCsvValue() throws IOException {
+        CSVParser parser = new CSVParser() {
+            @Override
+            protected String convertToCsvValue(String value, boolean applyQuotestoAll) {
+                return super.convertToCsvValue(value, applyQuotestoAll).toUpperCase();
+            }
+        };
+        String[] items = {"a \"b\"", "c,d"};
+        String expected = "A \"\"B\"\",\"C,D\"";
+        assertEquals(expected, parser.parseToLine(items, false));
+        StringBuilder sb = new StringBuilder();
+        parser.parseToLine(items, false, sb);
+        assertEquals(expected, sb.toString());
+
+        StringWriter output = new StringWriter();
+        ICSVWriter writer = new CSVWriterBuilder(output).withParser(parser).build();
+        writer.writeNext(items, false);
+        assertEquals(expected + "\n", output.toString());
+    }
+
+    @Test
+    public void parseToLineCallsOverriddenIsSurroundWithQuotes() throws IOException {
+        CSVParser parser = new CSVParser() {
+            @Override
+            protected boolean isSurroundWithQuotes(String value, boolean forceSurround) {
+                return forceSurround || value.startsWith("q");
+            }
+        };
+        String[] items = {"quoted", "plain", "sep,arated", "new\nline"};
+        String expected = "\"quoted\",plain,\"sep,arated\",new\nline";
+        assertEquals(expected, parser.parseToLine(items, false));
+        StringBuilder sb = new StringBuilder();
+        parser.parseToLine(items, false, sb);
+        assertEquals(expected, sb.toString());
+        assertEquals("\"quoted\",\"plain\",\"sep,arated\",\"new\nline\"", parser.parseToLine(items, true));
+    }
+
     /**
      * Test to check if we have a good detail in the error message when there
      * is a quote that wasn't closed (beginning of the field).
@@ -0,0 +1,163 @@
+package com.opencsv;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CSVRowWriterTest {
+
+    private static final char[][] CONFIGURATIONS = {
+            {ICSVWriter.DEFAULT_SEPARATOR, ICSVWriter.DEFAULT_QUOTE_CHARACTER, ICSVWriter.DEFAULT_ESCAPE_CHARACTER},
+            {'.', '\'', '\\'},
+            {'-', ICSVWriter.NO_QUOTE_CHARACTER, '\\'},
+            {'\t', ICSVWriter.NO_QUOTE_CHARACTER, '0'},
+            {',', '"', ICSVWriter.NO_ESCAPE_CHARACTER}
+    };
+
+    private static final long[] LONGS = {0, 7, -7, 1234567890123L, Long.MAX_VALUE, Long.MIN_VALUE};
+
+    private static final double[] DOUBLES = {0.0, -0.0, 1.0, -42.0, 9999999.0, 1e7, -1e7, 0.1, -3.25, 1e-9,
+            Double.MAX_VALUE, Double.MIN_VALUE, Double.NaN, Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY};
+
+    private static final String[] TEXTS = {"", "plain", "a,b", "say \"hi\"", "line\nbreak", "back\\slash", "1.5-2", null};
+
+    private static String[] expectedLine() {
+        List<String> line = new ArrayList<>();
+        for (long l : LONGS) {
+            line.add(String.valueOf(l));
+        }
+        for (double d : DOUBLES) {
+            line.add(Double.toString(d));
+        }
+        for (String s : TEXTS) {
+            line.add(s);
+        }
+        for (String s : TEXTS) {
+            if (s != null) {
+                line.add(s);
+            }
+        }
+        return line.toArray(new String[0]);
+    }
+
+    private static void writeRow(CSVRowWriter rows) {
+        rows.beginRow();
+        for (long l : LONGS) {
+            rows.field(l);
+        }
+        for (double d : DOUBLES) {
+            rows.field(d);
+        }
+        for (String s : TEXTS) {
+            rows.field(s == null ? null : new StringBuilder(s));
+        }
+        for (String s : TEXTS) {
+            if (s != null) {
+                char[] chars = ("xx" + s + "y").toCharArray();
+                rows.field(chars, 2, s.length());
+            }
+        }
+        rows.endRow();
+    }
+
+    @Test
+    public void testOutputIsIdenticalToWriteNext() throws IOException {
+        String[] line = expectedLine();
+        for (char[] configuration : CONFIGURATIONS) {
+            for (boolean quoteAll : new boolean[]{true, false}) {
+                StringWriter expected = new StringWriter();
+                ICSVWriter csvWriter = new CSVWriter(expected,
+                        configuration[0], configuration[1], configuration[2], ICSVWriter.DEFAULT_LINE_END);
+                csvWriter.writeNext(line, quoteAll);
+                csvWriter.writeNext(new String[0], quoteAll);
+                csvWriter.flush();
+
+                for (int bufferSize : new int[]{0, 3, BufferedCSVWriter.DEFAULT_BUFFER_SIZE}) {
+                    StringWriter actual = new StringWriter();
+                    ICSVWriter writer = new CSVWriterBuilder(actual)
+                            .withSeparator(configuration[0])
+                            .withQuoteChar(configuration[1])
+                            .withEscapeChar(configuration[2])
+                            .withBufferSize(bufferSize)
+                            .build();
+                    CSVRowWriter rows = new CSVRowWriter(writer, quoteAll);
+                    writeRow(rows);
+                    rows.endRow();
+                    writer.flush();
+                    assertEquals(expected.toString(), actual.toString(),
+                            String.format("separator %s, quote %s, escape %s, quote all %b, buffer %d",
+                                    configuration[0], configuration[1], configuration[2], quoteAll, bufferSize));
+                    assertFalse(writer.checkError());
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testQuotesAllByDefault() throws IOException {
+        StringWriter output = new StringWriter();
+        ICSVWriter writer = new CSVWriterBuilder(output).withBufferSize(16).build();
+        CSVRowWriter rows = new CSVRowWriter(writer);
+        assertSame(writer, rows.getWriter());
+        rows.field(1L);
+        rows.field(2.0);
+        rows.field("x");
+        rows.endRow();
+        rows.field(-3L);
+        rows.endRow();
+        writer.flush();
+        assertEquals("\"1\",\"2.0\",\"x\"\n\"-3\"\n", output.toString());
+    }
+
+    @Test
+    public void testBeginRowWithUnfinishedRow() {
+        for (int bufferSize : new int[]{0, 16}) {
+            CSVRowWriter rows = new CSVRowWriter(new CSVWriterBuilder(new StringWriter())
+                    .withBufferSize(bufferSize).build());
+            rows.beginRow();
+            rows.beginRow();
+            rows.field(1L);
+            assertThrows(IllegalStateException.class, rows::beginRow);
+            rows.endRow();
+            rows.beginRow();
+        }
+    }
+
+    @Test
+    public void testFieldOutsideArray() {
+        CSVRowWriter rows = new CSVRowWriter(new CSVWriterBuilder(new StringWriter()).withBufferSize(16).build());
+        char[] chars = new char[4];
+        assertThrows(IndexOutOfBoundsException.class, () -> rows.field(chars, 2, 3));
+        assertThrows(IndexOutOfBoundsException.class, () -> rows.field(chars, -1, 1));
+    }
+
+    @Test
+    public void testErrorIsRecorded() {
+        Writer failing = new Writer() {
+            @Override
+            public void write(char[] cbuf, int off, int len) throws IOException {
+                throw new IOException("failed");
+            }
+
+            @Override
+            public void flush() {
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+        ICSVWriter writer = new CSVWriterBuilder(failing).withBufferSize(1).build();
+        CSVRowWriter rows = new CSVRowWriter(writer);
+        rows.field(12345L);
+        rows.endRow();
+        assertTrue(writer.checkError());
+        assertEquals("failed", writer.getException().getMessage());
+    }
+}
@@ -55,6 +55,16 @@ public class CSVWriterBuilderTest {
         Assertions.assertThrows(IllegalArgumentException.class, () -> builder.withSeparator(ICSVParser.DEFAULT_SEPARATOR).withParser(mockParser));
     }
 
+    @Test
+    public void withBufferSize() {
+        CSVWriterBuilder newBuilder = builder.withBufferSize(10);
+        assertSame(builder, newBuilder);
+        assertTrue(builder.build() instanceof BufferedCSVWriter);
+        assertFalse(builder.withBufferSize(0).build() instanceof BufferedCSVWriter);
+        assertTrue(new CSVWriterBuilder(writer).withBufferSize(10).withParser(mockParser).build() instanceof CSVParserWriter);
+        Assertions.assertThrows(IllegalArgumentException.class, () -> builder.withBufferSize(-1));
+    }
+
     @Test
     public void withQuoteChar() throws IllegalAccessException {
         CSVWriterBuilder newBuilder = builder.withQuoteChar(ICSVParser.DEFAULT_QUOTE_CHARACTER);
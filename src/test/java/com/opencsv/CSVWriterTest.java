@@ -535,6 +535,24 @@ public class CSVWriterTest {
       assertEquals(4, linesWritten);
    }
 
+   @Test
+   public void testResultSetRowsAreNotSharedWithSubclasses() throws SQLException, IOException {
+      String[] header = {"Foo", "Bar", "baz"};
+      String[] value = {"v1", "v2", "v3"};
+      List<String[]> lines = new ArrayList<>();
+      ICSVWriter csvw = new CSVWriter(new StringWriter()) {
+         @Override
+         public void writeNext(String[] nextLine, boolean applyQuotesToAll) {
+            lines.add(nextLine);
+         }
+      };
+
+      ResultSet rs = MockResultSetBuilder.buildResultSet(header, value, 3);
+      assertEquals(3, csvw.writeAll(rs, false));
+      assertNotSame(lines.get(0), lines.get(1));
+      assertNotSame(lines.get(1), lines.get(2));
+   }
+
    @Test
    public void testResultSetWithoutHeaders() throws SQLException, IOException {
       String[] header = {"Foo", "Bar", "baz"};
@@ -0,0 +1,122 @@
+package com.opencsv;
+
+import com.opencsv.exceptions.CsvDataTypeMismatchException;
+import com.opencsv.exceptions.CsvException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.Locale;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CsvColumnsTest {
+
+    private static Locale systemLocale;
+
+    @BeforeAll
+    public static void storeSystemLocale() {
+        systemLocale = Locale.getDefault();
+    }
+
+    @BeforeEach
+    public void setSystemLocaleToValueNotGerman() {
+        Locale.setDefault(Locale.US);
+    }
+
+    @AfterEach
+    public void setSystemLocaleBackToDefault() {
+        Locale.setDefault(systemLocale);
+    }
+
+    @Test
+    public void testLoadByHeaderAndPosition() throws IOException, CsvException {
+        StringBuilder input = new StringBuilder("id,name,count,price\n");
+        for (int i = 0; i < 3000; i++) {
+            input.append(i).append(",item").append(i).append(',')
+                    .append(i % 10 == 0 ? "" : Long.toString(i * 10000000000L)).append(',')
+                    .append(i).append(".5\n");
+        }
+        CsvColumns columns = new CsvColumnsBuilder(new CSVReader(new StringReader(input.toString())))
+                .withIntColumn("id")
+                .withLongColumn("count")
+                .withDoubleColumn(3)
+                .build();
+
+        assertEquals(3000, columns.getRowCount());
+        int[] ids = columns.getInts("id");
+        long[] counts = columns.getLongs("count");
+        double[] prices = columns.getDoubles(3);
+        assertEquals(3000, ids.length);
+        assertSame(ids, columns.getInts(0));
+        assertSame(counts, columns.getLongs(2));
+        for (int i = 0; i < 3000; i++) {
+            assertEquals(i, ids[i]);
+            assertEquals(i + 0.5, prices[i]);
+            assertEquals(i % 10 == 0, columns.isNull("count", i));
+            assertEquals(i % 10 == 0 ? 0L : i * 10000000000L, counts[i]);
+            assertFalse(columns.isNull(3, i));
+        }
+    }
+
+    @Test
+    public void testWithoutHeaderEveryLineIsData() throws IOException, CsvException {
+        CsvColumns columns = new CsvColumnsBuilder(new CSVReader(new StringReader("1, 2\n3\n\" 5 \",6.25\n")))
+                .withIntColumn(0)
+                .withDoubleColumn(1)
+                .build();
+        assertArrayEquals(new int[]{1, 3, 5}, columns.getInts(0));
+        assertArrayEquals(new double[]{2, 0, 6.25}, columns.getDoubles(1));
+        assertTrue(columns.isNull(1, 1));
+    }
+
+    @Test
+    public void testEmptyInput() throws IOException, CsvException {
+        CsvColumns columns = new CsvColumnsBuilder(new CSVReader(new StringReader("a\n")))
+                .withIntColumn("a")
+                .build();
+        assertEquals(0, columns.getRowCount());
+        assertEquals(0, columns.getInts("a").length);
+    }
+
+    @Test
+    public void testErrors() throws IOException, CsvException {
+        assertThrows(IllegalArgumentException.class, () -> new CsvColumnsBuilder(null));
+        assertThrows(IllegalArgumentException.class, () -> new CsvColumnsBuilder(
+                new CSVReader(new StringReader("a,b\n1,2\n"))).withIntColumn("c").build());
+
+        CsvDataTypeMismatchException e = assertThrows(CsvDataTypeMismatchException.class,
+                () -> new CsvColumnsBuilder(new CSVReader(new StringReader("a\n1\nx\n"))).withIntColumn("a").build());
+        assertEquals("x", e.getSourceObject());
+        assertEquals(int.class, e.getDestinationClass());
+        assertEquals(3, e.getLineNumber());
+        assertArrayEquals(new String[]{"x"}, e.getLine());
+        assertTrue(e.getCause() instanceof NumberFormatException);
+
+        CsvColumns columns = new CsvColumnsBuilder(new CSVReader(new StringReader("a\n1\n")))
+                .withIntColumn("a")
+                .build();
+        assertThrows(IllegalArgumentException.class, () -> columns.getLongs("a"));
+        assertThrows(IllegalArgumentException.class, () -> columns.getInts("b"));
+        assertThrows(IllegalArgumentException.class, () -> columns.getInts(1));
+        assertThrows(IllegalArgumentException.class, () -> columns.isNull("b", 0));
+    }
+
+    @Test
+    public void testDuplicateColumns() {
+        CsvColumnsBuilder builder = new CsvColumnsBuilder(new CSVReader(new StringReader("a,b\n1,2\n")))
+                .withIntColumn("a")
+                .withIntColumn(1);
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class, () -> builder.withLongColumn("a"));
+        assertEquals("The column a has been chosen more than once.", e.getMessage());
+        e = assertThrows(IllegalArgumentException.class, () -> builder.withDoubleColumn(1));
+        assertEquals("The column 1 has been chosen more than once.", e.getMessage());
+
+        e = assertThrows(IllegalArgumentException.class, () -> new CsvColumnsBuilder(
+                new CSVReader(new StringReader("a,b\n1,2\n"))).withIntColumn("b").withLongColumn(1).build());
+        assertEquals("The column 1 has been chosen more than once.", e.getMessage());
+    }
+}
@@ -11,13 +11,18 @@ import org.junit.jupiter.api.Test;
 
 import java.io.IOException;
 import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Locale;
 import java.util.Map;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
@@ -106,6 +111,37 @@ public class CsvReaderHeaderAwareTest {
         assertEquals("b,b,b", csvr.readNext("second")[0]);
     }
 
+    @Test
+    public void shouldRetrieveColumnsByProjection() throws IOException, CsvValidationException {
+        CSVReaderHeaderAware.Projection projection = csvr.prepare("third", "first");
+        assertEquals(2, projection.size());
+        assertArrayEquals(new String[]{"c", "a"}, csvr.readNext(projection));
+        assertArrayEquals(new String[]{"c", "a"}, csvr.readNext(projection));
+        assertArrayEquals(new String[]{"", ""}, csvr.readNext(projection));
+        assertArrayEquals(new String[]{"a"}, csvr.readNext(csvr.prepare("first")));
+        csvr.skip(4);
+        assertNull(csvr.readNext(projection));
+    }
+
+    @Test
+    public void prepareFailsForInvalidColumn() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> csvr.prepare("first", "fourth"));
+    }
+
+    @Test
+    public void projectionFailsWhenNumberOfDataItemsDiffersFromHeader() throws IOException {
+        CSVReaderHeaderAware.Projection projection = csvr.prepare("second");
+        csvr.skip(6);
+        Assertions.assertThrows(IOException.class, () -> csvr.readNext(projection));
+    }
+
+    @Test
+    public void projectionFromOtherReaderIsRejected() throws IOException {
+        CSVReaderHeaderAware other = new CSVReaderHeaderAware(createReader());
+        CSVReaderHeaderAware.Projection projection = other.prepare("first");
+        Assertions.assertThrows(IllegalArgumentException.class, () -> csvr.readNext(projection));
+    }
+
     @Test
     public void shouldFailForInvalidColumn() {
         Assertions.assertThrows(IllegalArgumentException.class, () -> csvr.readNext("fourth"));
@@ -167,6 +203,46 @@ public class CsvReaderHeaderAwareTest {
         Assertions.assertThrows(IOException.class, () -> csvr.readMap());
     }
 
+    @Test
+    public void shouldRetrieveRecord() throws IOException, CsvValidationException {
+        CsvRecord record = csvr.readRecord();
+        assertEquals("a", record.get("first"));
+        assertEquals("b", record.get("second"));
+        assertEquals("c", record.get("third"));
+        assertNull(record.get("fourth"));
+        assertTrue(record.containsKey("third"));
+        assertFalse(record.containsKey("fourth"));
+        assertEquals(Arrays.asList("first", "second", "third"), new ArrayList<>(record.keySet()));
+        assertEquals(Arrays.asList("a", "b", "c"), new ArrayList<>(record.values()));
+        assertEquals(csvr.readMap().keySet(), csvr.readRecord().keySet());
+
+        Map<String, String> copy = record.toMap();
+        assertEquals(record, copy);
+        assertEquals(copy.hashCode(), record.hashCode());
+        copy.put("first", "x");
+        assertEquals("a", record.get("first"));
+
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> record.put("first", "x"));
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> record.remove("first"));
+        Assertions.assertThrows(UnsupportedOperationException.class, record::clear);
+    }
+
+    @Test
+    public void readRecordWithDuplicateHeaderUsesLastColumn() throws IOException, CsvValidationException {
+        CSVReaderHeaderAware reader = new CSVReaderHeaderAware(new StringReader("a,b,a\n1,2,3\n"));
+        CsvRecord record = reader.readRecord();
+        assertEquals(2, record.size());
+        assertEquals("3", record.get("a"));
+        assertEquals(Arrays.asList("b", "a"), new ArrayList<>(record.keySet()));
+        assertNull(reader.readRecord());
+    }
+
+    @Test
+    public void readRecordThrowsExceptionIfNumberOfDataItemsIsLessThanHeader() throws IOException {
+        csvr.skip(7);
+        Assertions.assertThrows(IOException.class, () -> csvr.readRecord());
+    }
+
     @Test
     public void shouldReturnNullWhenFileIsOver() throws IOException, CsvValidationException {
         csvr.skip(8);
@@ -0,0 +1,75 @@
+package com.opencsv;
+
+import com.opencsv.enums.CSVReaderNullFieldIndicator;
+import com.opencsv.exceptions.CsvException;
+import org.apache.commons.lang3.StringUtils;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CsvTableTest {
+
+    @Test
+    public void testReadAllCompactMatchesReadAll() throws IOException, CsvException {
+        String input = "a,b,c\n\"d,e\",\"f\nf\",\nshort\n\n1,2,3,4\n";
+        List<String[]> expected = new CSVReader(new StringReader(input)).readAll();
+        CsvTable table = new CSVReader(new StringReader(input)).readAllCompact();
+
+        assertEquals(expected.size(), table.getRowCount());
+        List<String[]> actual = new ArrayList<>();
+        table.forEach(actual::add);
+        for (int row = 0; row < expected.size(); row++) {
+            assertArrayEquals(expected.get(row), table.getRow(row));
+            assertArrayEquals(expected.get(row), actual.get(row));
+            assertEquals(expected.get(row).length, table.getColumnCount(row));
+        }
+        assertEquals("f\nf", table.get(1, 1));
+        assertEquals("", table.get(1, 2));
+        assertEquals(Arrays.asList("a", "d,e", "short", "", "1"), table.getColumn(0));
+        assertEquals(Arrays.asList("b", "f\nf", null, null, "2"), table.getColumn(1));
+        assertEquals(Arrays.asList(null, null, null, null, "4"), table.getColumn(3));
+    }
+
+    @Test
+    public void testIndicesAreChecked() throws IOException, CsvException {
+        CsvTable table = new CSVReader(new StringReader("a,b\nc\n")).readAllCompact();
+        assertThrows(IndexOutOfBoundsException.class, () -> table.get(1, 1));
+        assertThrows(IndexOutOfBoundsException.class, () -> table.get(2, 0));
+        assertThrows(IndexOutOfBoundsException.class, () -> table.get(0, -1));
+        assertThrows(IndexOutOfBoundsException.class, () -> table.getRow(-1));
+        assertThrows(IndexOutOfBoundsException.class, () -> table.getColumn(-1));
+    }
+
+    @Test
+    public void testEmptyInput() throws IOException, CsvException {
+        CsvTable table = new CSVReader(new StringReader("")).readAllCompact();
+        assertEquals(0, table.getRowCount());
+        assertFalse(table.iterator().hasNext());
+        assertTrue(table.getColumn(0).isEmpty());
+    }
+
+    @Test
+    public void testNullFieldsAndLongFields() throws IOException, CsvException {
+        String longField = StringUtils.repeat('x', 100000);
+        StringBuilder input = new StringBuilder();
+        for (int i = 0; i < 10000; i++) {
+            input.append(i).append(",,\"\",").append(i % 1000 == 0 ? longField : "y").append('\n');
+        }
+        CSVReader reader = new CSVReaderBuilder(new StringReader(input.toString()))
+                .withFieldAsNull(CSVReaderNullFieldIndicator.EMPTY_SEPARATORS)
+                .build();
+        CsvTable table = reader.readAllCompact();
+        assertEquals(10000, table.getRowCount());
+        for (int i = 0; i < 10000; i++) {
+            assertArrayEquals(
+                    new String[]{Integer.toString(i), null, "", i % 1000 == 0 ? longField : "y"},
+                    table.getRow(i));
+        }
+    }
+}
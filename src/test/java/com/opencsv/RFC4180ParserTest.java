@@ -2,6 +2,7 @@ package com.opencsv;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
 
@@ -33,4 +34,40 @@ public class RFC4180ParserTest {
 
         assertEquals(parse1, stringBuilder.toString());
     }
+
+    @Test
+    public void parseToLineWithRegularExpressionCharactersAsSeparatorAndQuote() {
+        RFC4180Parser specialParser = builder.withSeparator('|').withQuoteChar('.').build();
+        String[] values = {"a|b", "c.d", "e\nf", "g"};
+        assertEquals(".a|b.|.c..d.|.e\nf.|g", specialParser.parseToLine(values, false));
+    }
+
+    @Test
+    public void parseToLineCallsOverriddenHooks() throws IOException {
+        RFC4180Parser converting = new RFC4180Parser() {
+            @Override
+            protected String convertToCsvValue(String value, boolean applyQuotesToAll) {
+                return super.convertToCsvValue(value, applyQuotesToAll).toUpperCase();
+            }
+        };
+        String[] values = {"a \"b\"", "c,d"};
+        String expected = "\"A \"\"B\"\"\",\"C,D\"";
+        assertEquals(expected, converting.parseToLine(values, false));
+        StringBuilder sb = new StringBuilder();
+        converting.parseToLine(values, false, sb);
+        assertEquals(expected, sb.toString());
+
+        RFC4180Parser surrounding = new RFC4180Parser() {
+            @Override
+            protected boolean isSurroundWithQuotes(String value, boolean forceSurround) {
+                return forceSurround || value.startsWith("q");
+            }
+        };
+        values = new String[]{"quoted", "plain", "sep,arated", "with \"quote\""};
+        expected = "\"quoted\",plain,sep,arated,\"with \"\"quote\"\"\"";
+        assertEquals(expected, surrounding.parseToLine(values, false));
+        sb = new StringBuilder();
+        surrounding.parseToLine(values, false, sb);
+        assertEquals(expected, sb.toString());
+    }
 }
@@ -0,0 +1,289 @@
+package com.opencsv;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.text.NumberFormat;
+import java.util.Locale;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
+
+public class ResultSetExporterTest {
+
+    private static final String[] NAMES = {"bool", "big", "dec", "dbl", "flt", "int", "date", "time", "ts",
+            "nvarchar", "varchar", "clob", "nclob", "other"};
+    private static final int[] TYPES = {Types.BOOLEAN, Types.BIGINT, Types.DECIMAL, Types.DOUBLE, Types.FLOAT,
+            Types.INTEGER, Types.DATE, Types.TIME, Types.TIMESTAMP, Types.NVARCHAR, Types.VARCHAR, Types.CLOB,
+            Types.NCLOB, Types.JAVA_OBJECT};
+
+    private static Locale systemLocale;
+
+    @BeforeAll
+    public static void storeSystemLocale() {
+        systemLocale = Locale.getDefault();
+    }
+
+    @BeforeEach
+    public void setSystemLocaleToValueNotGerman() {
+        Locale.setDefault(Locale.US);
+    }
+
+    @AfterEach
+    public void setSystemLocaleBackToDefault() {
+        Locale.setDefault(systemLocale);
+    }
+
+    /** A result set with the same row a given number of times. */
+    private static ResultSet repeatedRow(String[] values, int rows) throws SQLException {
+        ResultSetMetaData metaData = MockResultSetMetaDataBuilder.buildMetaData(NAMES, TYPES);
+        ResultSet resultSet = spy(MockResultSetBuilder.buildResultSet(metaData, values, TYPES));
+        Boolean[] next = new Boolean[rows];
+        for (int i = 0; i < rows; i++) {
+            next[i] = i < rows - 1;
+        }
+        doReturn(rows > 0, (Object[]) next).when(resultSet).next();
+        return resultSet;
+    }
+
+    private static ResultSet numberedRows(int rows, int fetchSize) throws SQLException {
+        return numberedRows(rows, fetchSize, new AtomicInteger());
+    }
+
+    /** A result set with a running number, a text and a timestamp in each row. */
+    private static ResultSet numberedRows(int rows, int fetchSize, AtomicInteger row) throws SQLException {
+        ResultSet resultSet = mock(ResultSet.class, withSettings().stubOnly());
+        ResultSetMetaData metaData = MockResultSetMetaDataBuilder.buildMetaData(
+                new String[]{"number", "text", "ts"}, new int[]{Types.INTEGER, Types.VARCHAR, Types.TIMESTAMP});
+        when(resultSet.getMetaData()).thenReturn(metaData);
+        when(resultSet.getFetchSize()).thenReturn(fetchSize);
+        row.set(-1);
+        when(resultSet.next()).thenAnswer(invocation -> row.incrementAndGet() < rows);
+        when(resultSet.getInt(anyInt())).thenAnswer(invocation -> row.get());
+        when(resultSet.getString(anyInt())).thenAnswer(invocation -> " row " + row.get() + " ");
+        when(resultSet.getTimestamp(anyInt())).thenAnswer(invocation -> new Timestamp(row.get() * 1000L));
+        return resultSet;
+    }
+
+    private static String writeAll(ResultSet resultSet, ResultSetHelperService helper, boolean includeColumnNames,
+                                   boolean trim, boolean applyQuotesToAll) throws SQLException, IOException {
+        StringWriter output = new StringWriter();
+        ICSVWriter writer = new CSVWriterBuilder(output).build();
+        writer.setResultService(helper);
+        writer.writeAll(resultSet, includeColumnNames, trim, applyQuotesToAll);
+        writer.flush();
+        return output.toString();
+    }
+
+    private static void assertSameAsWriteAll(String[] values, ResultSetHelperService helper)
+            throws SQLException, IOException {
+        for (boolean includeColumnNames : new boolean[]{true, false}) {
+            for (boolean trim : new boolean[]{true, false}) {
+                String expected = writeAll(repeatedRow(values, 5), helper, includeColumnNames, trim, false);
+
+                StringWriter output = new StringWriter();
+                ICSVWriter writer = new CSVWriterBuilder(output).build();
+                int lines = new ResultSetExporterBuilder(writer)
+                        .withResultSetHelper(helper)
+                        .withFormattingThreads(2)
+                        .withBatchSize(2)
+                        .build()
+                        .export(repeatedRow(values, 5), includeColumnNames, trim, false);
+                writer.flush();
+                assertEquals(includeColumnNames ? 6 : 5, lines);
+                assertEquals(expected, output.toString());
+            }
+        }
+    }
+
+    @Test
+    public void testAllTypesAreFormattedAsByWriteAll() throws SQLException, IOException {
+        String[] values = {"true", "1234567890123", "1234.5678", "3.25", "1.5", "12345", "1583366400000",
+                "1583366400000", "1583366400123", " nvarchar ", " varchar ", "clob, with \"quotes\"", "nclob",
+                "object"};
+        assertSameAsWriteAll(values, new ResultSetHelperService());
+
+        ResultSetHelperService helper = new ResultSetHelperService();
+        helper.setDateFormat("yyyy/MM/dd");
+        helper.setDateTimeFormat("yyyy/MM/dd HH:mm:ss.SSS");
+        helper.setIntegerFormat(NumberFormat.getIntegerInstance(Locale.GERMANY));
+        helper.setFloatingPointFormat(NumberFormat.getNumberInstance(Locale.GERMANY));
+        assertSameAsWriteAll(values, helper);
+    }
+
+    @Test
+    public void testOverriddenDateHandlerIsUsed() throws SQLException, IOException {
+        String[] values = {"true", "1", "2.5", "3.25", "1.5", "12345", "1583366400000", "1583366400000",
+                "1583366400123", "n", "v", "c", "nc", "o"};
+        ResultSetHelperService helper = new ResultSetHelperService() {
+            @Override
+            protected String handleDate(ResultSet rs, int colIndex, String dateFormatString) throws SQLException {
+                return "day " + rs.getDate(colIndex).getTime() / 86400000L;
+            }
+        };
+        assertSameAsWriteAll(values, helper);
+        assertTrue(writeAll(repeatedRow(values, 1), helper, false, false, false).contains("day 18326"));
+    }
+
+    @Test
+    public void testNullsAreFormattedAsByWriteAll() throws SQLException, IOException {
+        String[] values = {null, null, null, "0", "0", null, null, null, null, null, null, null, null, null};
+        assertSameAsWriteAll(values, new ResultSetHelperService());
+    }
+
+    @Test
+    public void testRowsStayInOrder() throws SQLException, IOException {
+        int rows = 1003;
+        StringBuilder expected = new StringBuilder("\"number\",\"text\",\"ts\"\n");
+        ResultSetHelperService helper = new ResultSetHelperService();
+        helper.setDateTimeFormat("s");
+        for (int i = 0; i < rows; i++) {
+            expected.append('"').append(i).append("\",\"row ").append(i).append("\",\"")
+                    .append(new Timestamp(i * 1000L).toLocalDateTime().getSecond()).append("\"\n");
+        }
+
+        for (int batchSize : new int[]{0, 1, 7, 5000}) {
+            for (int threads : new int[]{1, 4}) {
+                StringWriter output = new StringWriter();
+                ICSVWriter writer = new CSVWriterBuilder(output).withBufferSize(100).build();
+                int lines = new ResultSetExporterBuilder(writer)
+                        .withResultSetHelper(helper)
+                        .withFormattingThreads(threads)
+                        .withBatchSize(batchSize)
+                        .withQueueDepth(2)
+                        .build()
+                        .export(numberedRows(rows, 100), true, true, true);
+                writer.flush();
+                assertFalse(writer.checkError());
+                assertEquals(rows + 1, lines);
+                assertEquals(expected.toString(), output.toString(),
+                        String.format("batch size %d, %d threads", batchSize, threads));
+            }
+        }
+    }
+
+    @Test
+    public void testBatchesFollowFetchSize() throws SQLException, IOException {
+        AtomicInteger largestBatch = new AtomicInteger();
+        ResultSetHelperService helper = new ResultSetHelperService() {
+            @Override
+            String[][] formatRawValues(Object[][] rows, int count, int[] types, boolean trim) {
+                largestBatch.accumulateAndGet(count, Math::max);
+                return super.formatRawValues(rows, count, types, trim);
+            }
+        };
+        ICSVWriter writer = new CSVWriterBuilder(new StringWriter()).build();
+        ResultSetExporter exporter = new ResultSetExporterBuilder(writer).withResultSetHelper(helper).build();
+
+        exporter.export(numberedRows(1000, 64), false, false, false);
+        assertEquals(64, largestBatch.get());
+
+        largestBatch.set(0);
+        exporter.export(numberedRows(2500, 0), false, false, false);
+        assertEquals(ResultSetExporter.DEFAULT_BATCH_SIZE, largestBatch.get());
+    }
+
+    @Test
+    public void testFormattingErrorIsThrown() throws SQLException {
+        ResultSetHelperService helper = new ResultSetHelperService() {
+            @Override
+            protected String handleTimestamp(Timestamp timestamp, String timestampFormatString) {
+                if (timestamp.getTime() == 5000L) {
+                    throw new IllegalStateException("cannot format");
+                }
+                return super.handleTimestamp(timestamp, timestampFormatString);
+            }
+        };
+        ICSVWriter writer = new CSVWriterBuilder(new StringWriter()).build();
+        AtomicInteger row = new AtomicInteger();
+        ResultSet resultSet = numberedRows(100000, 0, row);
+        ResultSetExporter exporter = new ResultSetExporterBuilder(writer)
+                .withResultSetHelper(helper)
+                .withBatchSize(3)
+                .build();
+        IllegalStateException e = assertThrows(IllegalStateException.class,
+                () -> exporter.export(resultSet, false, false, false));
+        assertEquals("cannot format", e.getMessage());
+        assertTrue(row.get() < 1000, "fetching stops soon after the error");
+    }
+
+    @Test
+    public void testFetchErrorIsThrown() throws SQLException {
+        ResultSet resultSet = numberedRows(100, 0);
+        when(resultSet.getString(anyInt())).thenThrow(new SQLException("connection lost"));
+        ICSVWriter writer = new CSVWriterBuilder(new StringWriter()).build();
+        SQLException e = assertThrows(SQLException.class,
+                () -> new ResultSetExporterBuilder(writer).build().export(resultSet, true, false, false));
+        assertEquals("connection lost", e.getMessage());
+    }
+
+    @Test
+    @Timeout(60)
+    public void testWriterThreadIsNotInterruptedAfterFetchError() throws SQLException {
+        CountDownLatch writing = new CountDownLatch(1);
+        AtomicBoolean interrupted = new AtomicBoolean();
+        Writer output = new Writer() {
+            @Override
+            public void write(char[] cbuf, int off, int len) {
+                writing.countDown();
+                try {
+                    Thread.sleep(300);
+                } catch (InterruptedException e) {
+                    interrupted.set(true);
+                }
+                if (Thread.currentThread().isInterrupted()) {
+                    interrupted.set(true);
+                }
+            }
+
+            @Override
+            public void flush() {
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+        AtomicInteger row = new AtomicInteger();
+        ResultSet resultSet = numberedRows(100, 0, row);
+        when(resultSet.getString(anyInt())).thenAnswer(invocation -> {
+            if (row.get() > 0) {
+                assertTrue(writing.await(10, TimeUnit.SECONDS));
+                throw new SQLException("connection lost");
+            }
+            return "first";
+        });
+        ICSVWriter writer = new CSVWriterBuilder(output).build();
+        ResultSetExporter exporter = new ResultSetExporterBuilder(writer).withBatchSize(1).build();
+        SQLException e = assertThrows(SQLException.class, () -> exporter.export(resultSet, false, false, false));
+        assertEquals("connection lost", e.getMessage());
+        assertFalse(interrupted.get());
+        assertFalse(Thread.currentThread().isInterrupted());
+    }
+
+    @Test
+    public void testIllegalConfiguration() {
+        ICSVWriter writer = new CSVWriterBuilder(new StringWriter()).build();
+        assertThrows(IllegalArgumentException.class, () -> new ResultSetExporterBuilder(null));
+        assertThrows(IllegalArgumentException.class, () -> new ResultSetExporterBuilder(writer).withResultSetHelper(null));
+        assertThrows(IllegalArgumentException.class, () -> new ResultSetExporterBuilder(writer).withFormattingThreads(0));
+        assertThrows(IllegalArgumentException.class, () -> new ResultSetExporterBuilder(writer).withBatchSize(-1));
+        assertThrows(IllegalArgumentException.class, () -> new ResultSetExporterBuilder(writer).withQueueDepth(0));
+    }
+}
@@ -27,8 +27,9 @@ import java.util.GregorianCalendar;
 import java.util.Locale;
 
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
-import static org.mockito.Mockito.mock;
-import static org.mockito.Mockito.when;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.*;
 
 public class ResultSetHelperServiceTest {
 
@@ -629,5 +630,61 @@ public class ResultSetHelperServiceTest {
       String[] columnValues = service.getColumnValues(resultSet);
       assertArrayEquals(expectedValues, columnValues);
    }
-   
+
+   @Test
+   public void metadataIsReadOncePerResultSet() throws SQLException, IOException {
+      String[] names = {"text", "number"};
+      int[] types = {Types.VARCHAR, Types.INTEGER};
+      ResultSetMetaData metaData = MockResultSetMetaDataBuilder.buildMetaData(names, types);
+      ResultSet resultSet = spy(MockResultSetBuilder.buildResultSet(metaData, new String[]{"abc", "42"}, types));
+
+      ResultSetHelperService service = new ResultSetHelperService();
+      for (int i = 0; i < 3; i++) {
+         assertArrayEquals(new String[]{"abc", "42"}, service.getColumnValues(resultSet));
+      }
+      verify(resultSet, times(1)).getMetaData();
+
+      ResultSet otherResultSet = spy(MockResultSetBuilder.buildResultSet(metaData, new String[]{"def", "7"}, types));
+      assertArrayEquals(new String[]{"def", "7"}, service.getColumnValues(otherResultSet));
+      verify(otherResultSet, times(1)).getMetaData();
+   }
+
+   @Test
+   public void rowArrayIsReused() throws SQLException, IOException {
+      String[] names = {"text", "number"};
+      int[] types = {Types.VARCHAR, Types.INTEGER};
+      ResultSetMetaData metaData = MockResultSetMetaDataBuilder.buildMetaData(names, types);
+      ResultSet resultSet = MockResultSetBuilder.buildResultSet(metaData, new String[]{" abc ", "42"}, types);
+
+      ResultSetHelperService service = new ResultSetHelperService();
+      String[] row = service.getColumnValues(resultSet, true, (String[]) null);
+      assertArrayEquals(new String[]{"abc", "42"}, row);
+      assertSame(row, service.getColumnValues(resultSet, true, row));
+      String[] tooShort = new String[1];
+      String[] newRow = service.getColumnValues(resultSet, false, tooShort);
+      assertNotSame(tooShort, newRow);
+      assertArrayEquals(new String[]{" abc ", "42"}, newRow);
+   }
+
+   @Test
+   public void dateFormatFollowsDefaultLocale() throws SQLException, IOException {
+      Locale systemLocale = Locale.getDefault();
+      try {
+         Date date = new Date(new GregorianCalendar(2020, Calendar.MARCH, 5).getTimeInMillis());
+         ResultSet resultSet = mock(ResultSet.class);
+         ResultSetMetaData metaData = MockResultSetMetaDataBuilder.buildMetaData(new String[]{"date"}, new int[]{Types.DATE});
+         when(resultSet.getMetaData()).thenReturn(metaData);
+         when(resultSet.getDate(1)).thenReturn(date);
+
+         ResultSetHelperService service = new ResultSetHelperService();
+         Locale.setDefault(Locale.US);
+         assertArrayEquals(new String[]{"05-Mar-2020"}, service.getColumnValues(resultSet));
+         Locale.setDefault(Locale.GERMANY);
+         assertArrayEquals(new String[]{new SimpleDateFormat("dd-MMM-yyyy", Locale.GERMANY).format(date)},
+               service.getColumnValues(resultSet));
+         assertArrayEquals(new String[]{"2020"}, service.getColumnValues(resultSet, false, "yyyy", "yyyy"));
+      } finally {
+         Locale.setDefault(systemLocale);
+      }
+   }
 }
@@ -0,0 +1,222 @@
+package com.opencsv;
+
+import com.opencsv.bean.StatefulBeanToCsvBuilder;
+import com.opencsv.bean.mocks.MinimalCsvBindByNameBeanForWriting;
+import com.opencsv.exceptions.CsvException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class RollingCSVWriterTest {
+
+    private static Locale systemLocale;
+
+    private final List<StringWriter> shards = Collections.synchronizedList(new ArrayList<>());
+
+    @BeforeAll
+    public static void storeSystemLocale() {
+        systemLocale = Locale.getDefault();
+    }
+
+    @BeforeEach
+    public void setSystemLocaleToValueNotGerman() {
+        Locale.setDefault(Locale.US);
+    }
+
+    @AfterEach
+    public void setSystemLocaleBackToDefault() {
+        Locale.setDefault(systemLocale);
+    }
+
+    private RollingCSVWriterBuilder builder() {
+        shards.clear();
+        return new RollingCSVWriterBuilder(shard -> {
+            assertEquals(shards.size(), shard);
+            StringWriter writer = new StringWriter();
+            shards.add(writer);
+            return writer;
+        }).withCSVWriterFactory(w -> new CSVWriterBuilder(w).withQuoteChar(ICSVWriter.NO_QUOTE_CHARACTER).build());
+    }
+
+    private List<String> shardContents() {
+        List<String> contents = new ArrayList<>();
+        for (StringWriter shard : shards) {
+            contents.add(shard.toString());
+        }
+        return contents;
+    }
+
+    private static void writeLines(ICSVWriter writer, int from, int to) {
+        for (int i = from; i < to; i++) {
+            writer.writeNext(new String[]{Integer.toString(i), "x"});
+        }
+    }
+
+    @Test
+    public void testRollByLines() throws IOException {
+        RollingCSVWriter writer = builder().withMaxLines(3).withHeader(true).build();
+        writer.writeNext(new String[]{"number", "letter"});
+        writeLines(writer, 0, 7);
+        writer.close();
+        assertEquals(3, writer.getShardCount());
+        assertEquals(Arrays.asList(
+                "number,letter\n0,x\n1,x\n2,x\n",
+                "number,letter\n3,x\n4,x\n5,x\n",
+                "number,letter\n6,x\n"), shardContents());
+        assertFalse(writer.checkError());
+    }
+
+    @Test
+    public void testRollByCharacters() throws IOException {
+        RollingCSVWriter writer = builder().withMaxCharacters(10).build();
+        writeLines(writer, 8, 14);
+        writer.close();
+        assertEquals(Arrays.asList("8,x\n9,x\n10,x\n", "11,x\n12,x\n", "13,x\n"), shardContents());
+    }
+
+    @Test
+    public void testNoLimit() throws IOException {
+        RollingCSVWriter writer = builder().build();
+        writeLines(writer, 0, 3);
+        writer.flush();
+        assertEquals(Collections.singletonList("0,x\n1,x\n2,x\n"), shardContents());
+        writer.close();
+        writer.close();
+        assertEquals(1, writer.getShardCount());
+    }
+
+    @Test
+    public void testOnlyHeader() throws IOException {
+        RollingCSVWriter writer = builder().withMaxLines(3).withHeader(true).build();
+        writer.writeNext(new String[]{"number", "letter"});
+        writer.close();
+        assertEquals(Collections.singletonList("number,letter\n"), shardContents());
+    }
+
+    @Test
+    public void testNothingWritten() throws IOException {
+        RollingCSVWriter writer = builder().withMaxLines(3).withHeader(true).build();
+        writer.close();
+        assertEquals(0, writer.getShardCount());
+        assertTrue(shards.isEmpty());
+    }
+
+    @Test
+    public void testWriteAfterClose() throws IOException {
+        RollingCSVWriter writer = builder().withMaxLines(3).withHeader(true).build();
+        writer.writeNext(new String[]{"number", "letter"});
+        writeLines(writer, 0, 3);
+        writer.close();
+        assertFalse(writer.checkError());
+
+        writeLines(writer, 3, 5);
+        assertEquals(1, writer.getShardCount());
+        assertEquals(Collections.singletonList("number,letter\n0,x\n1,x\n2,x\n"), shardContents());
+        assertTrue(writer.checkError());
+        assertEquals("The writer has already been closed.", writer.getException().getMessage());
+    }
+
+    @Test
+    public void testConcurrentShards() throws IOException {
+        RollingCSVWriter writer = builder().withMaxLines(1500).withHeader(true).withConcurrentShards(3).build();
+        writer.writeNext(new String[]{"number", "letter"});
+        writeLines(writer, 0, 10000);
+        writer.close();
+        assertFalse(writer.checkError());
+
+        List<Integer> numbers = new ArrayList<>();
+        for (String content : shardContents()) {
+            String[] lines = content.split("\n");
+            assertEquals("number,letter", lines[0]);
+            assertTrue(lines.length - 1 <= 1500);
+            int previous = -1;
+            for (int i = 1; i < lines.length; i++) {
+                int number = Integer.parseInt(lines[i].substring(0, lines[i].indexOf(',')));
+                assertTrue(number > previous, "lines within a shard are in order");
+                previous = number;
+                numbers.add(number);
+            }
+        }
+        Collections.sort(numbers);
+        assertEquals(10000, numbers.size());
+        for (int i = 0; i < numbers.size(); i++) {
+            assertEquals(i, numbers.get(i).intValue());
+        }
+    }
+
+    @Test
+    public void testRollByCharactersWithConcurrentShards() throws IOException {
+        RollingCSVWriter writer = builder().withMaxCharacters(1000).withHeader(true).withConcurrentShards(2).build();
+        writer.writeNext(new String[]{"number", "letter"}, false);
+        for (int i = 0; i < 5000; i++) {
+            writer.writeNext(new String[]{Integer.toString(1000000 + i), "x"}, false);
+        }
+        writer.close();
+        assertFalse(writer.checkError());
+
+        int lines = 0;
+        int notFull = 0;
+        List<String> contents = shardContents();
+        for (int i = 0; i < contents.size(); i++) {
+            String content = contents.get(i);
+            assertTrue(content.startsWith("number,letter\n"));
+            assertTrue(content.length() < 1010, "shard " + i + " has " + content.length() + " characters");
+            if (content.length() < 1000) {
+                notFull++;
+            }
+            lines += content.split("\n").length - 1;
+        }
+        assertEquals(5000, lines);
+        assertTrue(notFull <= 2, "only the shards open at the end are incomplete");
+    }
+
+    @Test
+    public void testOpenerFails() throws IOException {
+        RollingCSVWriter writer = new RollingCSVWriterBuilder(shard -> {
+            throw new IOException("cannot open " + shard);
+        }).build();
+        writer.writeNext(new String[]{"a"});
+        assertTrue(writer.checkError());
+        assertEquals("cannot open 0", writer.getException().getMessage());
+        writer.resetError();
+        assertFalse(writer.checkError());
+        writer.close();
+    }
+
+    @Test
+    public void testIllegalConfiguration() {
+        assertThrows(IllegalArgumentException.class, () -> new RollingCSVWriterBuilder(null));
+        assertThrows(IllegalArgumentException.class, () -> builder().withMaxLines(-1));
+        assertThrows(IllegalArgumentException.class, () -> builder().withMaxCharacters(-1));
+        assertThrows(IllegalArgumentException.class, () -> builder().withConcurrentShards(0));
+    }
+
+    @Test
+    public void testBeanHeaderIsRepeated() throws IOException, CsvException {
+        List<MinimalCsvBindByNameBeanForWriting> beans = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            MinimalCsvBindByNameBeanForWriting bean = new MinimalCsvBindByNameBeanForWriting();
+            bean.setA(i);
+            beans.add(bean);
+        }
+        RollingCSVWriter writer = builder().withMaxLines(2).withHeader(true).build();
+        new StatefulBeanToCsvBuilder<MinimalCsvBindByNameBeanForWriting>(writer).build().write(beans);
+        writer.close();
+
+        assertEquals(3, shards.size());
+        Set<String> firstLines = new HashSet<>();
+        for (String content : shardContents()) {
+            firstLines.add(content.substring(0, content.indexOf('\n')));
+        }
+        assertEquals(Collections.singleton("C,FINDA,FINDB"), firstLines);
+        assertEquals(2, shardContents().get(0).split("\n").length - 1);
+        assertEquals(1, shardContents().get(2).split("\n").length - 1);
+    }
+}
@@ -0,0 +1,116 @@
+package com.opencsv;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class Utf8CSVWriterTest {
+
+    private static List<String[]> randomLines() {
+        String alphabet = "abc ,\"\néß€😀😀𐀀";
+        Random random = new Random(7);
+        List<String[]> lines = new ArrayList<>();
+        for (int i = 0; i < 300; i++) {
+            String[] line = new String[random.nextInt(5)];
+            for (int j = 0; j < line.length; j++) {
+                StringBuilder sb = new StringBuilder();
+                int length = random.nextInt(5) == 0 ? random.nextInt(200) : random.nextInt(10);
+                for (int k = 0; k < length; k++) {
+                    sb.append(alphabet.charAt(random.nextInt(alphabet.length())));
+                }
+                line[j] = sb.toString();
+            }
+            lines.add(line);
+        }
+        return lines;
+    }
+
+    private static byte[] expected(List<String[]> lines) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        CSVWriter writer = new CSVWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        writer.writeAll(lines);
+        writer.close();
+        return out.toByteArray();
+    }
+
+    @Test
+    public void testOutputIsIdenticalToOutputStreamWriter() throws IOException {
+        List<String[]> lines = randomLines();
+        byte[] expected = expected(lines);
+        for (int bufferSize : new int[]{1, 3, 5, 64, BufferedCSVWriter.DEFAULT_BUFFER_SIZE}) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            Utf8CSVWriter writer = new Utf8CSVWriter(out, ICSVWriter.DEFAULT_SEPARATOR,
+                    ICSVWriter.DEFAULT_QUOTE_CHARACTER, ICSVWriter.DEFAULT_ESCAPE_CHARACTER,
+                    ICSVWriter.DEFAULT_LINE_END, bufferSize);
+            writer.writeAll(lines);
+            writer.close();
+            assertArrayEquals(expected, out.toByteArray(), "Buffer size " + bufferSize);
+
+            out = new ByteArrayOutputStream();
+            writer = new Utf8CSVWriter(Channels.newChannel(out), ICSVWriter.DEFAULT_SEPARATOR,
+                    ICSVWriter.DEFAULT_QUOTE_CHARACTER, ICSVWriter.DEFAULT_ESCAPE_CHARACTER,
+                    ICSVWriter.DEFAULT_LINE_END, bufferSize);
+            for (String[] line : lines) {
+                writer.writeNext(line);
+            }
+            writer.close();
+            assertArrayEquals(expected, out.toByteArray(), "Channel, buffer size " + bufferSize);
+        }
+    }
+
+    @Test
+    public void testUnpairedSurrogates() throws IOException {
+        String[][] lines = {{"a\ud800", "\udc00b", "\ud83d"}, {"\ude00", "\ud83d"}, {"\ud83d"}};
+        ByteArrayOutputStream expected = new ByteArrayOutputStream();
+        CSVWriter csvWriter = new CSVWriter(new OutputStreamWriter(expected, StandardCharsets.UTF_8),
+                ',', '"', '"', "");
+        for (String[] line : lines) {
+            csvWriter.writeNext(line, false);
+        }
+        csvWriter.close();
+
+        for (int bufferSize = 1; bufferSize < 12; bufferSize++) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            Utf8CSVWriter writer = new Utf8CSVWriter(out, ',', '"', '"', "", bufferSize);
+            for (String[] line : lines) {
+                writer.writeNext(line, false);
+                writer.flush();
+            }
+            writer.close();
+            assertEquals(expected.toString("UTF-8"), out.toString("UTF-8"), "Buffer size " + bufferSize);
+        }
+    }
+
+    @Test
+    public void testFlushWritesEverything() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ICSVWriter writer = new CSVWriterBuilder(out).build();
+        assertTrue(writer instanceof Utf8CSVWriter);
+        writer.writeNext(new String[]{"été", "x"}, false);
+        assertEquals(0, out.size());
+        writer.flush();
+        assertEquals("été,x\n", out.toString("UTF-8"));
+        assertFalse(writer.checkError());
+    }
+
+    @Test
+    public void testBuilderWithParser() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ICSVWriter writer = new CSVWriterBuilder(Channels.newChannel(out))
+                .withParser(new CSVParser())
+                .build();
+        assertTrue(writer instanceof CSVParserWriter);
+        writer.writeNext(new String[]{"€"});
+        writer.close();
+        assertEquals("\"€\"\n", out.toString("UTF-8"));
+    }
+}
@@ -0,0 +1,224 @@
+package com.opencsv;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class WriteAllParallelTest {
+
+    private static final int[] SIZES = {0, 1, 511, 512, 513, 20000};
+
+    private static List<String[]> randomLines(int count) {
+        String alphabet = "abc ,;\"'\\\n\ré€😀";
+        Random random = new Random(count);
+        List<String[]> lines = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            if (random.nextInt(100) == 0) {
+                lines.add(null);
+                continue;
+            }
+            String[] line = new String[random.nextInt(6)];
+            for (int j = 0; j < line.length; j++) {
+                if (random.nextInt(10) == 0) {
+                    continue;
+                }
+                StringBuilder sb = new StringBuilder();
+                int length = random.nextInt(30);
+                for (int k = 0; k < length; k++) {
+                    sb.append(alphabet.charAt(random.nextInt(alphabet.length())));
+                }
+                line[j] = sb.toString();
+            }
+            lines.add(line);
+        }
+        return lines;
+    }
+
+    private static void assertSameOutput(Function<Writer, ICSVWriter> factory) throws IOException {
+        for (int size : SIZES) {
+            List<String[]> lines = randomLines(size);
+            for (boolean quoteAll : new boolean[]{true, false}) {
+                StringWriter expected = new StringWriter();
+                ICSVWriter sequential = factory.apply(expected);
+                sequential.writeAll(lines, quoteAll);
+                sequential.flush();
+
+                StringWriter fromList = new StringWriter();
+                ICSVWriter writer = factory.apply(fromList);
+                writer.writeAllParallel(lines, quoteAll);
+                writer.flush();
+                assertFalse(writer.checkError());
+                assertEquals(expected.toString(), fromList.toString(), "list of " + size);
+
+                StringWriter fromStream = new StringWriter();
+                writer = factory.apply(fromStream);
+                writer.writeAllParallel(IntStream.range(0, size).parallel().mapToObj(lines::get), quoteAll);
+                writer.flush();
+                assertEquals(expected.toString(), fromStream.toString(), "stream of " + size);
+
+                StringWriter fromSpliterator = new StringWriter();
+                writer = factory.apply(fromSpliterator);
+                writer.writeAllParallel(lines.spliterator(), quoteAll);
+                writer.flush();
+                assertEquals(expected.toString(), fromSpliterator.toString(), "spliterator of " + size);
+            }
+        }
+    }
+
+    @Test
+    public void testCSVWriter() throws IOException {
+        assertSameOutput(w -> new CSVWriterBuilder(w).build());
+        assertSameOutput(w -> new CSVWriterBuilder(w)
+                .withSeparator(';')
+                .withQuoteChar(ICSVWriter.NO_QUOTE_CHARACTER)
+                .withEscapeChar('\\')
+                .withLineEnd(ICSVWriter.RFC4180_LINE_END)
+                .build());
+    }
+
+    @Test
+    public void testBufferedCSVWriter() throws IOException {
+        assertSameOutput(w -> new CSVWriterBuilder(w).withBufferSize(100).build());
+    }
+
+    @Test
+    public void testBufferedCSVWriterSubclassWithEncodingHooks() throws IOException {
+        assertSameOutput(w -> new BufferedCSVWriter(w, ',', '"', '"', "\n", 100) {
+            @Override
+            protected boolean stringContainsSpecialCharacters(String line) {
+                return true;
+            }
+
+            @Override
+            protected void processCharacter(Appendable appendable, char nextChar) throws IOException {
+                appendable.append('#');
+            }
+        });
+    }
+
+    @Test
+    public void testCSVWriterSubclassOverridingWriteNext() throws IOException {
+        assertSameOutput(w -> new CSVWriter(w, ',', '"', '"', "\n") {
+            @Override
+            protected void writeNext(String[] nextLine, boolean applyQuotesToAll, Appendable appendable) throws IOException {
+                writer.write('#');
+                super.writeNext(nextLine, applyQuotesToAll, appendable);
+            }
+        });
+
+        StringWriter output = new StringWriter();
+        ICSVWriter writer = new CSVWriter(output, ',', ICSVWriter.NO_QUOTE_CHARACTER, '"', "\n") {
+            @Override
+            protected void writeNext(String[] nextLine, boolean applyQuotesToAll, Appendable appendable) throws IOException {
+                writer.write('#');
+                super.writeNext(nextLine, applyQuotesToAll, appendable);
+            }
+        };
+        List<String[]> lines = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            lines.add(new String[]{Integer.toString(i)});
+        }
+        writer.writeAllParallel(lines, false);
+        writer.flush();
+        assertTrue(output.toString().startsWith("#0\n#1\n"));
+        assertTrue(output.toString().endsWith("#998\n#999\n"));
+    }
+
+    @Test
+    public void testCustomParserIsNotCalledConcurrently() throws IOException {
+        AtomicInteger active = new AtomicInteger();
+        AtomicInteger mostActive = new AtomicInteger();
+        Function<Writer, ICSVWriter> factory = w -> new CSVWriterBuilder(w).withParser(new CSVParser() {
+            @Override
+            public void parseToLine(String[] values, boolean applyQuotesToAll, Appendable appendable) throws IOException {
+                mostActive.accumulateAndGet(active.incrementAndGet(), Math::max);
+                try {
+                    super.parseToLine(values, applyQuotesToAll, appendable);
+                } finally {
+                    active.decrementAndGet();
+                }
+            }
+        }).build();
+        assertSameOutput(factory);
+        assertEquals(1, mostActive.get());
+    }
+
+    @Test
+    public void testCSVParserWriter() throws IOException {
+        assertSameOutput(w -> new CSVWriterBuilder(w).withParser(new CSVParser()).build());
+        assertSameOutput(w -> new CSVWriterBuilder(w).withParser(new RFC4180Parser()).build());
+    }
+
+    @Test
+    public void testUtf8CSVWriter() throws IOException {
+        List<String[]> lines = randomLines(5000);
+
+        ByteArrayOutputStream expected = new ByteArrayOutputStream();
+        ICSVWriter writer = new CSVWriterBuilder(new OutputStreamWriter(expected, StandardCharsets.UTF_8)).build();
+        writer.writeAll(lines, false);
+        writer.close();
+
+        ByteArrayOutputStream actual = new ByteArrayOutputStream();
+        writer = new CSVWriterBuilder(actual).build();
+        writer.writeAllParallel(lines.stream(), false);
+        writer.close();
+        assertArrayEquals(expected.toByteArray(), actual.toByteArray());
+    }
+
+    @Test
+    public void testWriterWithoutSeparateEncoding() throws IOException {
+        StringWriter output = new StringWriter();
+        AbstractCSVWriter writer = new AbstractCSVWriter(output, "\n") {
+            @Override
+            protected void writeNext(String[] nextLine, boolean applyQuotesToAll, Appendable appendable) throws IOException {
+                writer.write(String.join("|", nextLine) + lineEnd);
+            }
+        };
+        List<String[]> lines = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            lines.add(new String[]{Integer.toString(i), "x"});
+        }
+        writer.writeAllParallel(lines, true);
+        writer.flush();
+        StringBuilder expected = new StringBuilder();
+        for (int i = 0; i < 1000; i++) {
+            expected.append(i).append("|x\n");
+        }
+        assertEquals(expected.toString(), output.toString());
+    }
+
+    @Test
+    public void testErrorIsRecorded() {
+        Writer failing = new Writer() {
+            @Override
+            public void write(char[] cbuf, int off, int len) throws IOException {
+                throw new IOException("failed");
+            }
+
+            @Override
+            public void flush() {
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+        ICSVWriter writer = new CSVWriterBuilder(failing).build();
+        writer.writeAllParallel(randomLines(2000), true);
+        assertTrue(writer.checkError());
+        assertEquals("failed", writer.getException().getMessage());
+    }
+}
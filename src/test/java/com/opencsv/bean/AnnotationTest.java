@@ -28,7 +28,11 @@ import java.io.*;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.text.ParseException;
+import java.text.SimpleDateFormat;
 import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -1238,4 +1242,40 @@ public class AnnotationTest {
         assertNull(beanList.get(3).getTestEnum());
         assertNull(beanList.get(3).getTestCurrency());
     }
+
+    @Test
+    public void testConcurrentDateConversion() throws Exception {
+        ConverterDate converter = new ConverterDate(Date.class, null, null,
+                Locale.US, "yyyy-MM-dd HH:mm:ss", "dd.MM.yyyy HH:mm:ss", "ISO", "ISO");
+        SimpleDateFormat expectedRead = new SimpleDateFormat("yyyy-MM-dd HH:mm:ss");
+        SimpleDateFormat expectedWrite = new SimpleDateFormat("dd.MM.yyyy HH:mm:ss");
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<?>> results = new ArrayList<>();
+            for(int t = 0; t < 8; t++) {
+                final int offset = t;
+                results.add(executor.submit(() -> {
+                    for(int i = 0; i < 2000; i++) {
+                        String input = String.format("20%02d-%02d-%02d %02d:%02d:00",
+                                offset, i % 12 + 1, i % 28 + 1, i % 24, i % 60);
+                        Date d = (Date) converter.convertToRead(input);
+                        synchronized (expectedRead) {
+                            assertEquals(expectedRead.parse(input), d);
+                        }
+                        String output = converter.convertToWrite(d);
+                        synchronized (expectedWrite) {
+                            assertEquals(expectedWrite.format(d), output);
+                        }
+                    }
+                    return null;
+                }));
+            }
+            for(Future<?> f : results) {
+                f.get();
+            }
+        }
+        finally {
+            executor.shutdown();
+        }
+    }
 }
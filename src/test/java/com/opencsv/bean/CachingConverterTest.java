@@ -0,0 +1,132 @@
+package com.opencsv.bean;
+
+import com.opencsv.CSVReader;
+import com.opencsv.bean.mocks.TestEnum;
+import com.opencsv.bean.mocks.cache.CachedMock;
+import com.opencsv.bean.mocks.cache.CachedMutableType;
+import com.opencsv.exceptions.CsvBadConverterException;
+import com.opencsv.exceptions.CsvDataTypeMismatchException;
+import com.opencsv.exceptions.CsvException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.lang.reflect.Field;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CachingConverterTest {
+
+    private static Locale systemLocale;
+
+    @BeforeAll
+    public static void storeSystemLocale() {
+        systemLocale = Locale.getDefault();
+    }
+
+    @BeforeEach
+    public void setSystemLocaleToValueNotGerman() {
+        Locale.setDefault(Locale.US);
+    }
+
+    @AfterEach
+    public void setSystemLocaleBackToDefault() {
+        Locale.setDefault(systemLocale);
+    }
+
+    @Test
+    public void testCachedReading() throws IOException, CsvException, NoSuchFieldException {
+        HeaderColumnNameMappingStrategy<CachedMock> strategy = new HeaderColumnNameMappingStrategy<>();
+        strategy.setType(CachedMock.class);
+        strategy.captureHeader(new CSVReader(new StringReader("date,testEnum,id,numbers")));
+        String[] dates = {"2020-01-01", "2020-01-02", "2020-01-03"};
+        TestEnum[] enums = TestEnum.values();
+
+        for (int i = 0; i < 3000; i++) {
+            CachedMock bean = strategy.populateNewBean(new String[]{
+                    dates[i % 3], enums[i % 3].name(), "id" + i, "1 2 3"});
+            assertEquals(LocalDate.parse(dates[i % 3]), bean.getDate());
+            assertEquals(enums[i % 3], bean.getTestEnum());
+            assertEquals("id" + i, bean.getId());
+            assertEquals(Arrays.asList(1, 2, 3), bean.getNumbers());
+        }
+
+        Map<Field, CachingConverter> caches = strategy.getConversionCaches();
+        assertEquals(4, caches.size());
+
+        CachingConverter dateCache = caches.get(CachedMock.class.getDeclaredField("date"));
+        assertTrue(dateCache.isActive());
+        assertEquals(3, dateCache.getMissCount());
+        assertEquals(2997, dateCache.getHitCount());
+        assertEquals(3, dateCache.size());
+        assertTrue(dateCache.getConverter() instanceof ConverterDate);
+
+        // Only two of three values fit into the cache, but the hit rate is
+        // still good enough.
+        CachingConverter enumCache = caches.get(CachedMock.class.getDeclaredField("testEnum"));
+        assertTrue(enumCache.isActive());
+        assertEquals(2, enumCache.size());
+        assertEquals(1002, enumCache.getMissCount());
+        assertEquals(1998, enumCache.getHitCount());
+
+        // Every value is different, so the cache is switched off.
+        CachingConverter idCache = caches.get(CachedMock.class.getDeclaredField("id"));
+        assertFalse(idCache.isActive());
+        assertEquals(0, idCache.size());
+        assertEquals(2000, idCache.getMissCount());
+        assertEquals(0, idCache.getHitCount());
+
+        // Collections cache their elements.
+        CachingConverter numbersCache = caches.get(CachedMock.class.getDeclaredField("numbers"));
+        assertTrue(numbersCache.isActive());
+        assertEquals(3, numbersCache.getMissCount());
+        assertEquals(8997, numbersCache.getHitCount());
+    }
+
+    @Test
+    public void testCachedWriting() throws CsvException {
+        HeaderColumnNameMappingStrategy<CachedMock> strategy = new HeaderColumnNameMappingStrategy<>();
+        strategy.setType(CachedMock.class);
+        CachedMock bean = new CachedMock();
+        bean.setDate(LocalDate.of(2020, 1, 1));
+        bean.setTestEnum(TestEnum.Test2);
+        bean.setId("id");
+        bean.setNumbers(Arrays.asList(1, 2));
+        assertArrayEquals(new String[]{"DATE", "ID", "NUMBERS", "TESTENUM"}, strategy.generateHeader(bean));
+        assertArrayEquals(new String[]{"2020-01-01", "id", "1 2", "Test2"}, strategy.transmuteBean(bean));
+    }
+
+    @Test
+    public void testMutableTypeRejected() {
+        HeaderColumnNameMappingStrategy<CachedMutableType> strategy = new HeaderColumnNameMappingStrategy<>();
+        CsvBadConverterException e = assertThrows(CsvBadConverterException.class,
+                () -> strategy.setType(CachedMutableType.class));
+        assertEquals(CsvCache.class, e.getConverterClass());
+        assertNotNull(e.getMessage());
+    }
+
+    @Test
+    public void testFailuresAndEmptyValuesAreNotCached() throws CsvException {
+        CachingConverter converter = new CachingConverter(
+                new ConverterPrimitiveTypes(Integer.class, null, null, Locale.US), 10, 0.5);
+        for (int i = 0; i < 2; i++) {
+            assertThrows(CsvDataTypeMismatchException.class, () -> converter.convertToRead("x"));
+            assertNull(converter.convertToRead(""));
+            assertNull(converter.convertToRead(null));
+        }
+        assertEquals(0, converter.size());
+        assertEquals(0, converter.getHitCount());
+        assertEquals(4, converter.getMissCount());
+        assertEquals(42, converter.convertToRead("42"));
+        assertEquals(42, converter.convertToRead("42"));
+        assertEquals(1, converter.getHitCount());
+        assertEquals("42", converter.convertToWrite(42));
+    }
+}
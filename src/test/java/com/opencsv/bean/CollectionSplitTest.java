@@ -39,8 +39,11 @@ import java.io.FileReader;
 import java.io.IOException;
 import java.io.StringReader;
 import java.io.StringWriter;
+import java.lang.reflect.Field;
 import java.text.SimpleDateFormat;
 import java.util.*;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -765,4 +768,45 @@ public class CollectionSplitTest {
             assertNotNull(csve.getCause());
         }
     }
+
+    @Test
+    public void testLiteralDetection() {
+        assertEquals(",", BeanFieldSplit.literalOf(","));
+        assertEquals("|", BeanFieldSplit.literalOf("\\|"));
+        assertEquals("; ", BeanFieldSplit.literalOf("; "));
+        assertEquals("a.b", BeanFieldSplit.literalOf("a\\.b"));
+        assertNull(BeanFieldSplit.literalOf("\\s+"));
+        assertNull(BeanFieldSplit.literalOf("a|b"));
+        assertNull(BeanFieldSplit.literalOf(",+"));
+        assertNull(BeanFieldSplit.literalOf("\\t"));
+        assertNull(BeanFieldSplit.literalOf("\\1"));
+        assertNull(BeanFieldSplit.literalOf("\\"));
+    }
+
+    @Test
+    public void testFastSplittingMatchesPattern() throws NoSuchFieldException, CsvException {
+        Field field = AnnotatedMockBeanCollectionSplitByColumn.class.getDeclaredField("stringList");
+        String[] inputs = {"", " ", "a", "a,b", ",a", "a,", ",,", ",", "a,,b,,", "a||b|", "|",
+                " a  b\t\nc ", "\u000B\f\r", "a\u00A0b", "a, b, c", ", , ", "a.b.c", "(a)"};
+        for (String splitOn : new String[]{",", "\\|", "\\s+", ", ", "\\.", "\\(|\\)"}) {
+            for (String capture : new String[]{"", "(.*)", "\\((.*)\\)"}) {
+                BeanFieldSplit<Object, String> beanField = new BeanFieldSplit<>(
+                        AnnotatedMockBeanCollectionSplitByColumn.class, field, false, Locale.US,
+                        new ConverterPrimitiveTypes(String.class, null, null, Locale.US),
+                        splitOn, "|", Collection.class, String.class, capture, "");
+                Pattern pattern = Pattern.compile(splitOn);
+                Pattern capturePattern = capture.isEmpty() ? null : Pattern.compile(capture);
+                for (String input : inputs) {
+                    List<String> expected = new ArrayList<>();
+                    for (String s : pattern.split(input)) {
+                        Matcher m = capturePattern == null ? null : capturePattern.matcher(s);
+                        expected.add(m != null && m.matches() ? m.group(1) : s);
+                    }
+                    assertEquals(expected, beanField.convert(input), splitOn + " on [" + input + "]");
+                }
+                assertEquals(Collections.emptyList(), beanField.convert(null));
+                assertEquals("a|b|", beanField.convertToWrite(Arrays.asList("a", "b", null)));
+            }
+        }
+    }
 }
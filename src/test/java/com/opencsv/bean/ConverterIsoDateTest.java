@@ -0,0 +1,155 @@
+package com.opencsv.bean;
+
+import com.opencsv.exceptions.CsvDataTypeMismatchException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ConverterIsoDateTest {
+
+    private static final String DATE = "yyyy-MM-dd";
+    private static final String DATE_TIME = "yyyy-MM-dd'T'HH:mm:ss";
+    private static final String BASIC_DATE_TIME = "yyyyMMdd'T'HHmmss";
+
+    private static final String[] ODD_INPUTS = {
+            "", " ", "2020-01-01 ", " 2020-01-01", "2020-1-1", "+2020-01-01",
+            "2020/01/01", "20200101", "2020-01-01T00:00", "2020-01-01T00:00:00Z",
+            "20200101T000000", "2020-01-01T24:00:00", "0000-01-01", "0000-01-01T00:00:00",
+            "2020-02-29", "2019-02-29", "2019-02-29T12:00:00", "1900-02-29",
+            "1582-10-10", "1582-10-10T00:00:00", "2020-00-10", "2020-13-10",
+            "2020-12-32", "2020-12-00", "9999-12-31", "9999-12-31T23:59:59",
+            "٢٠٢٠-01-01", "abcd-ef-gh", "2020-01-01T12:60:00",
+            "2020-01-01T12:00:60", "20200101T126000", "20201301T000000"};
+
+    private static TimeZone systemTimeZone;
+
+    @BeforeAll
+    public static void storeSystemTimeZone() {
+        systemTimeZone = TimeZone.getDefault();
+    }
+
+    @AfterEach
+    public void setSystemTimeZoneBackToDefault() {
+        TimeZone.setDefault(systemTimeZone);
+    }
+
+    private static Stream<Arguments> conversions() {
+        List<Arguments> arguments = new ArrayList<>();
+        String[] formats = {DATE, DATE_TIME, BASIC_DATE_TIME};
+        String[] locales = {null, "de-DE", "th-TH", "ja-JP-u-ca-japanese", "ar-EG"};
+        String[] timeZones = {"UTC", "Europe/Berlin", "America/Sao_Paulo"};
+        for (String format : formats) {
+            for (String locale : locales) {
+                for (String timeZone : timeZones) {
+                    arguments.add(Arguments.of(format, Date.class, locale, timeZone));
+                }
+                arguments.add(Arguments.of(format, Timestamp.class, locale, "Europe/Berlin"));
+                arguments.add(Arguments.of(format, java.sql.Date.class, locale, "UTC"));
+                arguments.add(Arguments.of(format,
+                        DATE.equals(format) ? LocalDate.class : LocalDateTime.class,
+                        locale, "UTC"));
+            }
+        }
+        return arguments.stream();
+    }
+
+    @ParameterizedTest
+    @MethodSource("conversions")
+    public void fastPathMatchesConverterDate(String format, Class<?> type, String locale, String timeZone) throws CsvDataTypeMismatchException {
+        TimeZone.setDefault(TimeZone.getTimeZone(timeZone));
+        ConverterDate expected = new ConverterDate(type, locale, locale, Locale.US, format, format, "ISO", "ISO");
+        ConverterIsoDate actual = new ConverterIsoDate(type, locale, locale, Locale.US, format, format, "ISO", "ISO");
+
+        Random random = new Random(format.hashCode() + type.hashCode());
+        List<String> inputs = new ArrayList<>(Arrays.asList(ODD_INPUTS));
+        for (int i = 0; i < 2000; i++) {
+            int year = i % 2 == 0 ? 1900 + random.nextInt(200) : 1 + random.nextInt(9999);
+            inputs.add(render(format, year, random.nextInt(14), random.nextInt(33),
+                    random.nextInt(25), random.nextInt(61), random.nextInt(61)));
+        }
+        for (String input : inputs) {
+            Object read = readOrFailure(expected, input);
+            Object fastRead = readOrFailure(actual, input);
+            assertEquals(read, fastRead, input);
+            if (read != null && !(read instanceof Class)) {
+                assertEquals(read.getClass(), fastRead.getClass());
+                assertEquals(expected.convertToWrite(read), actual.convertToWrite(read), input);
+            }
+        }
+
+        // Values the fast path does not read, such as years beyond 9999 or
+        // before the common era
+        for (int i = 0; i < 2000; i++) {
+            long seconds = random.nextLong() % 400_000_000_000L;
+            Object value;
+            if (type == LocalDate.class) {
+                value = LocalDate.ofEpochDay(seconds / 86400);
+            } else if (type == LocalDateTime.class) {
+                value = LocalDateTime.ofEpochSecond(seconds, 0, java.time.ZoneOffset.UTC);
+            } else {
+                value = new Date(seconds * 1000);
+            }
+            assertEquals(expected.convertToWrite(value), actual.convertToWrite(value), value::toString);
+        }
+        assertNull(actual.convertToWrite(null));
+    }
+
+    private static String render(String format, int year, int month, int day, int hour, int minute, int second) {
+        switch (format) {
+            case DATE:
+                return String.format("%04d-%02d-%02d", year, month, day);
+            case DATE_TIME:
+                return String.format("%04d-%02d-%02dT%02d:%02d:%02d", year, month, day, hour, minute, second);
+            default:
+                return String.format("%04d%02d%02dT%02d%02d%02d", year, month, day, hour, minute, second);
+        }
+    }
+
+    @Test
+    public void differentReadAndWriteFormats() throws CsvDataTypeMismatchException {
+        ConverterIsoDate converter = new ConverterIsoDate(LocalDateTime.class, null, null,
+                Locale.US, DATE_TIME, "dd.MM.yyyy HH:mm", "ISO", "ISO");
+        LocalDateTime dateTime = (LocalDateTime) converter.convertToRead("2020-02-29T13:14:15");
+        assertEquals(LocalDateTime.of(2020, 2, 29, 13, 14, 15), dateTime);
+        assertEquals("29.02.2020 13:14", converter.convertToWrite(dateTime));
+
+        converter = new ConverterIsoDate(LocalDateTime.class, null, null,
+                Locale.US, "dd.MM.yyyy HH:mm", BASIC_DATE_TIME, "ISO", "ISO");
+        dateTime = (LocalDateTime) converter.convertToRead("29.02.2020 13:14");
+        assertEquals("20200229T131400", converter.convertToWrite(dateTime));
+    }
+
+    @Test
+    public void otherChronology() throws CsvDataTypeMismatchException {
+        ConverterDate expected = new ConverterDate(LocalDate.class, null, null,
+                Locale.US, DATE, DATE, "ThaiBuddhist", "ThaiBuddhist");
+        ConverterIsoDate actual = new ConverterIsoDate(LocalDate.class, null, null,
+                Locale.US, DATE, DATE, "ThaiBuddhist", "ThaiBuddhist");
+        assertEquals(readOrFailure(expected, "2563-01-15"), readOrFailure(actual, "2563-01-15"));
+        LocalDate date = LocalDate.of(2020, 1, 15);
+        assertEquals(expected.convertToWrite(date), actual.convertToWrite(date));
+    }
+
+    /**
+     * @return The result of the conversion, or the class of the exception
+     *   it throws
+     */
+    private static Object readOrFailure(ConverterDate converter, String input) {
+        try {
+            return converter.convertToRead(input);
+        } catch (CsvDataTypeMismatchException | RuntimeException e) {
+            return e.getClass();
+        }
+    }
+}
@@ -0,0 +1,141 @@
+package com.opencsv.bean;
+
+import com.opencsv.exceptions.CsvDataTypeMismatchException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.*;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ConverterPlainDecimalTest {
+
+    private static final String[] ODD_INPUTS = {
+            "", " ", "0", "-0", "0.0", "-0.00", "12", "12.00", "12.30", "00012.5",
+            ".5", "1.", "-.5", "+1", "1,000.00", "1.000,00", "1e3", " 1", "1 ", "--1",
+            "1.2.3", "NaN", "∞", "-", ".", "12a", "١٢",
+            "999999999999999999", "9999999999999999999", "-999999999999999999",
+            "9223372036854775807", "9223372036854775808", "-9223372036854775808",
+            "12345678901234567.8", "1234567890123456789.5", "0.123456789012345678",
+            "0.1000000000000000000000001", "1.7976931348623157", "128", "-129",
+            "32768", "2147483648", "4.9E-324", "0.000000000000000001"};
+
+    private static Locale systemLocale;
+
+    @BeforeAll
+    public static void storeSystemLocale() {
+        systemLocale = Locale.getDefault();
+    }
+
+    @BeforeEach
+    public void setSystemLocaleToValueNotGerman() {
+        Locale.setDefault(Locale.US);
+    }
+
+    @AfterEach
+    public void setSystemLocaleBackToDefault() {
+        Locale.setDefault(systemLocale);
+    }
+
+    private static Stream<Arguments> conversions() {
+        List<Arguments> arguments = new ArrayList<>();
+        Class<?>[] types = {byte.class, Byte.class, short.class, Short.class,
+                int.class, Integer.class, long.class, Long.class, float.class,
+                Float.class, double.class, Double.class, BigDecimal.class,
+                BigInteger.class};
+        for (Class<?> type : types) {
+            for (String locale : new String[]{null, "de-DE", "sv-SE", "ar-EG"}) {
+                for (String format : new String[]{"#0.00", "0.00"}) {
+                    arguments.add(Arguments.of(type, locale, format));
+                }
+            }
+        }
+        return arguments.stream();
+    }
+
+    @ParameterizedTest
+    @MethodSource("conversions")
+    public void fastPathMatchesConverterNumber(Class<?> type, String locale, String format) throws CsvDataTypeMismatchException {
+        ConverterNumber expected = new ConverterNumber(type, locale, locale, Locale.US, format, format);
+        ConverterPlainDecimal actual = new ConverterPlainDecimal(type, locale, locale, Locale.US, format, format);
+
+        Random random = new Random(type.hashCode());
+        List<String> inputs = new ArrayList<>(Arrays.asList(ODD_INPUTS));
+        for (int i = 0; i < 3000; i++) {
+            switch (i % 3) {
+                case 0:
+                    inputs.add(String.format(Locale.US, "%.2f", (random.nextDouble() - 0.5) * 200000));
+                    break;
+                case 1:
+                    inputs.add(Long.toString(random.nextLong() % 1000000));
+                    break;
+                default:
+                    inputs.add(new BigDecimal(random.nextGaussian() * 1e6).setScale(random.nextInt(8), BigDecimal.ROUND_DOWN).toPlainString());
+            }
+        }
+        for (String input : inputs) {
+            Object read = readOrFailure(expected, input);
+            Object fastRead = readOrFailure(actual, input);
+            assertEquals(read, fastRead, input);
+            if (read != null && !(read instanceof Class)) {
+                assertEquals(read.getClass(), fastRead.getClass(), input);
+                assertEquals(expected.convertToWrite(read), actual.convertToWrite(read), input);
+            }
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource("conversions")
+    public void writingMatchesConverterNumber(Class<?> type, String locale, String format) {
+        ConverterNumber expected = new ConverterNumber(type, locale, locale, Locale.US, format, format);
+        ConverterPlainDecimal actual = new ConverterPlainDecimal(type, locale, locale, Locale.US, format, format);
+
+        Random random = new Random(type.hashCode());
+        List<Object> values = new ArrayList<>(Arrays.asList(
+                0, -1, Long.MIN_VALUE, Long.MAX_VALUE, (byte) -128, (short) 7,
+                0.0, -0.0, 0.005, 0.015, 0.125, 0.135, -0.001, -0.005, 1e13, -1e13,
+                9999999999999.99, 1e20, Double.NaN, Double.NEGATIVE_INFINITY,
+                Double.MIN_VALUE, 0.1f, -2.5f, Float.MAX_VALUE,
+                new BigDecimal("-0.001"), new BigDecimal("-0.005"), new BigDecimal("0.005"),
+                new BigDecimal("0.015"), new BigDecimal("1E+5"), new BigDecimal("123.456"),
+                BigInteger.valueOf(-5), new BigInteger("-12345678901234567890123")));
+        for (int i = 0; i < 20000; i++) {
+            switch (i % 4) {
+                case 0:
+                    values.add(Math.round((random.nextDouble() - 0.5) * 1e8) / 100.0);
+                    break;
+                case 1:
+                    values.add((random.nextDouble() - 0.5) * Math.pow(10, random.nextInt(30) - 10));
+                    break;
+                case 2:
+                    values.add((float) (Math.round((random.nextDouble() - 0.5) * 1e6) / 100.0));
+                    break;
+                default:
+                    values.add(new BigDecimal(random.nextGaussian() * 1e4).setScale(random.nextInt(6), BigDecimal.ROUND_DOWN));
+            }
+        }
+        for (Object value : values) {
+            assertEquals(expected.convertToWrite(value), actual.convertToWrite(value), value::toString);
+        }
+        assertNull(actual.convertToWrite(null));
+    }
+
+    /**
+     * @return The result of the conversion, or the class of the exception
+     *   it throws
+     */
+    private static Object readOrFailure(ConverterNumber converter, String input) {
+        try {
+            return converter.convertToRead(input);
+        } catch (CsvDataTypeMismatchException | RuntimeException e) {
+            return e.getClass();
+        }
+    }
+}
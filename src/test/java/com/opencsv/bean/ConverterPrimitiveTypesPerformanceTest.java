@@ -0,0 +1,81 @@
+package com.opencsv.bean;
+
+import com.opencsv.exceptions.CsvDataTypeMismatchException;
+import org.apache.commons.beanutils.ConvertUtilsBean;
+import org.apache.commons.lang3.time.StopWatch;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.*;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class ConverterPrimitiveTypesPerformanceTest {
+    private static final String SEPARATOR_LINE = "===============================================================================";
+    private static final int[] THREAD_COUNTS = {1, 2, 4, 8, 16};
+    private static final int CONVERSIONS_PER_THREAD = 1_000_000;
+
+    /** One conversion of a string, as either implementation performs it. */
+    @FunctionalInterface
+    private interface Conversion {
+        Object convert(String value) throws CsvDataTypeMismatchException;
+    }
+
+    @Test
+    public void testScaling() throws InterruptedException, ExecutionException {
+        ConvertUtilsBean beanUtils = new ConvertUtilsBean();
+        beanUtils.register(true, false, 0);
+        Conversion synchronizedBeanUtils = value -> {
+            synchronized (beanUtils) {
+                return beanUtils.convert(value, Integer.TYPE);
+            }
+        };
+        ConverterPrimitiveTypes converter = new ConverterPrimitiveTypes(Integer.TYPE, null, null, Locale.US);
+        Conversion direct = converter::convertToRead;
+
+        // Warm up
+        measure("synchronized commons-beanutils", synchronizedBeanUtils, 4, false);
+        measure("ConverterPrimitiveTypes", direct, 4, false);
+
+        System.out.println(SEPARATOR_LINE);
+        System.out.println("     Conversion to int, " + CONVERSIONS_PER_THREAD + " conversions per thread.");
+        System.out.println(SEPARATOR_LINE);
+        for(int threads : THREAD_COUNTS) {
+            measure("synchronized commons-beanutils", synchronizedBeanUtils, threads, true);
+            measure("ConverterPrimitiveTypes", direct, threads, true);
+        }
+    }
+
+    private void measure(String name, Conversion conversion, int threads, boolean displayData) throws InterruptedException, ExecutionException {
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Long>> results = new ArrayList<>(threads);
+        for(int t = 0; t < threads; t++) {
+            results.add(executor.submit(() -> {
+                start.await();
+                long sum = 0;
+                for(int i = 0; i < CONVERSIONS_PER_THREAD; i++) {
+                    sum += (Integer) conversion.convert(Integer.toString(i & 0xFFFF));
+                }
+                return sum;
+            }));
+        }
+        StopWatch watch = StopWatch.createStarted();
+        start.countDown();
+        long expected = -1;
+        for(Future<Long> f : results) {
+            long sum = f.get();
+            if(expected != -1) {
+                assertEquals(expected, sum);
+            }
+            expected = sum;
+        }
+        watch.stop();
+        executor.shutdown();
+        if(displayData) {
+            System.out.println("Time taken with " + name + ", " + threads + " thread(s): " + watch);
+        }
+    }
+}
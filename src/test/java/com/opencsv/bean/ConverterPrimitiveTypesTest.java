@@ -0,0 +1,130 @@
+package com.opencsv.bean;
+
+import com.opencsv.exceptions.CsvDataTypeMismatchException;
+import org.apache.commons.beanutils.ConversionException;
+import org.apache.commons.beanutils.ConvertUtilsBean;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Date;
+import java.util.Locale;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ConverterPrimitiveTypesTest {
+
+    private static final String[] INPUTS = {
+            "12", " 12 ", "+12", "-0", "\t7\t", "12.0", "1e3", "0x10", "12f",
+            "abc", "yes", "YES", "On", "off", "N", "1", "0", "true ", "TrUe",
+            "NaN", "Infinity", "99999999999", "1,000", "1.5e400", " 12",
+            "١٢", "ab", "-128", "128", "32768", "9223372036854775808"};
+
+    private static Locale systemLocale;
+
+    @BeforeAll
+    public static void storeSystemLocale() {
+        systemLocale = Locale.getDefault();
+    }
+
+    @BeforeEach
+    public void setSystemLocaleToValueNotGerman() {
+        Locale.setDefault(Locale.US);
+    }
+
+    @AfterEach
+    public void setSystemLocaleBackToDefault() {
+        Locale.setDefault(systemLocale);
+    }
+
+    @ParameterizedTest
+    @ValueSource(classes = {
+            int.class, Integer.class, long.class, Long.class, short.class,
+            Short.class, byte.class, Byte.class, float.class, Float.class,
+            double.class, Double.class, boolean.class, Boolean.class,
+            char.class, Character.class, String.class, BigDecimal.class,
+            BigInteger.class})
+    public void readingMatchesBeanUtils(Class<?> type) {
+        ConvertUtilsBean beanUtils = new ConvertUtilsBean();
+        beanUtils.register(true, false, 0);
+        ConverterPrimitiveTypes converter = new ConverterPrimitiveTypes(type, null, null, Locale.US);
+        for(String input : INPUTS) {
+            Object expected;
+            try {
+                expected = beanUtils.convert(input, type);
+            }
+            catch(ConversionException e) {
+                CsvDataTypeMismatchException csve = assertThrows(
+                        CsvDataTypeMismatchException.class,
+                        () -> converter.convertToRead(input),
+                        () -> type + " accepted " + input);
+                assertEquals(input, csve.getSourceObject());
+                assertEquals(type, csve.getDestinationClass());
+                assertTrue(csve.getCause() instanceof ConversionException);
+                continue;
+            }
+            try {
+                assertEquals(expected, converter.convertToRead(input), () -> type + " " + input);
+            }
+            catch(CsvDataTypeMismatchException e) {
+                fail(type + " rejected " + input);
+            }
+        }
+    }
+
+    @Test
+    public void writingMatchesBeanUtils() throws CsvDataTypeMismatchException {
+        ConvertUtilsBean beanUtils = new ConvertUtilsBean();
+        beanUtils.register(true, false, 0);
+        ConverterPrimitiveTypes converter = new ConverterPrimitiveTypes(Object.class, null, null, Locale.US);
+        Object[] values = {1, 1L, (short) 1, (byte) 1, 1.5f, 1e10, 1e-5, 0.1,
+                Float.NaN, Double.NEGATIVE_INFINITY, true, 'c', "s",
+                new BigDecimal("1E+3"), new BigDecimal("100.00"),
+                BigInteger.TEN, new Date(0)};
+        for(Object value : values) {
+            assertEquals(beanUtils.convert(value), converter.convertToWrite(value));
+        }
+        assertNull(converter.convertToWrite(null));
+    }
+
+    @Test
+    public void blankInputIsNull() throws CsvDataTypeMismatchException {
+        assertNull(new ConverterPrimitiveTypes(int.class, null, null, Locale.US).convertToRead(" "));
+        assertNull(new ConverterPrimitiveTypes(int.class, null, null, Locale.US).convertToRead(null));
+        assertEquals(" ", new ConverterPrimitiveTypes(String.class, null, null, Locale.US).convertToRead(" "));
+    }
+
+    @Test
+    public void setTypeChangesConversion() throws CsvDataTypeMismatchException {
+        ConverterPrimitiveTypes converter = new ConverterPrimitiveTypes(int.class, null, null, Locale.US);
+        converter.setType(Long.class);
+        assertEquals(99999999999L, converter.convertToRead("99999999999"));
+    }
+
+    @Test
+    public void localeConversionIsConsistentAcrossThreads() throws Exception {
+        ConverterPrimitiveTypes converter = new ConverterPrimitiveTypes(double.class, "de-DE", "de-DE", Locale.US);
+        assertEquals(1234.5, converter.convertToRead("1.234,5"));
+        assertEquals("1.234,5", converter.convertToWrite(1234.5));
+
+        Object[] results = new Object[2];
+        Thread t = new Thread(() -> {
+            try {
+                results[0] = converter.convertToRead("1.234,5");
+                results[1] = converter.convertToWrite(1234.5);
+            }
+            catch(CsvDataTypeMismatchException e) {
+                results[0] = e;
+            }
+        });
+        t.start();
+        t.join();
+        assertEquals(1234.5, results[0]);
+        assertEquals("1.234,5", results[1]);
+    }
+}
@@ -0,0 +1,113 @@
+package com.opencsv.bean;
+
+import com.opencsv.CSVReader;
+import com.opencsv.bean.mocks.creator.FactoryBean;
+import com.opencsv.bean.mocks.creator.ImmutableBean;
+import com.opencsv.bean.mocks.creator.InvalidCreatorBean;
+import com.opencsv.bean.mocks.creator.JoinCreatorBean;
+import com.opencsv.exceptions.*;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Locale;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CsvConstructorTest {
+
+    private static Locale systemLocale;
+
+    @BeforeAll
+    public static void storeSystemLocale() {
+        systemLocale = Locale.getDefault();
+    }
+
+    @BeforeEach
+    public void setSystemLocaleToValueNotGerman() {
+        Locale.setDefault(Locale.US);
+    }
+
+    @AfterEach
+    public void setSystemLocaleBackToDefault() {
+        Locale.setDefault(systemLocale);
+    }
+
+    @Test
+    public void testConstructor() throws CsvException {
+        List<ImmutableBean> beans = new CsvToBeanBuilder<ImmutableBean>(new StringReader(
+                "comment,date,name,amount\nfirst comment,2020-02-29,first,12\n,,second,\n"))
+                .withType(ImmutableBean.class)
+                .build().parse();
+        assertEquals(2, beans.size());
+        ImmutableBean bean = beans.get(0);
+        assertEquals("first", bean.getName());
+        assertEquals(12, bean.getAmount());
+        assertEquals(LocalDate.of(2020, 2, 29), bean.getDate());
+        assertEquals("first comment", bean.getComment());
+        bean = beans.get(1);
+        assertEquals("second", bean.getName());
+        assertEquals(0, bean.getAmount());
+        assertNull(bean.getDate());
+
+        // Writing is not affected
+        StringWriter writer = new StringWriter();
+        new StatefulBeanToCsvBuilder<ImmutableBean>(writer).build().write(beans.get(0));
+        assertEquals("\"AMOUNT\",\"COMMENT\",\"DATE\",\"NAME\"\n\"12\",\"first comment\",\"2020-02-29\",\"first\"\n",
+                writer.toString());
+    }
+
+    @Test
+    public void testMissingColumnAndErrors() throws IOException, CsvException {
+        HeaderColumnNameMappingStrategy<ImmutableBean> strategy = new HeaderColumnNameMappingStrategy<>();
+        strategy.setType(ImmutableBean.class);
+        strategy.captureHeader(new CSVReader(new StringReader("name,comment")));
+        ImmutableBean bean = strategy.populateNewBean(new String[]{"first", "c"});
+        assertEquals("first", bean.getName());
+        assertEquals(0, bean.getAmount());
+        assertNull(bean.getDate());
+        assertEquals("c", bean.getComment());
+
+        strategy.captureHeader(new CSVReader(new StringReader("name,amount,date")));
+        assertThrows(CsvRequiredFieldEmptyException.class,
+                () -> strategy.populateNewBean(new String[]{"", "1", "2020-01-01"}));
+        CsvChainedException e = assertThrows(CsvChainedException.class,
+                () -> strategy.populateNewBean(new String[]{"", "x", "2020-01-01"}));
+        assertEquals(2, e.getExceptionChain().size());
+    }
+
+    @Test
+    public void testStaticFactory() throws CsvException {
+        List<FactoryBean> beans = new CsvToBeanBuilder<FactoryBean>(new StringReader("7,1.5\n8,\n"))
+                .withType(FactoryBean.class)
+                .build().parse();
+        assertEquals(7L, beans.get(0).getId());
+        assertEquals(1.5, beans.get(0).getValue());
+        assertEquals(8L, beans.get(1).getId());
+        assertEquals(0.0, beans.get(1).getValue());
+    }
+
+    @Test
+    public void testInvalidParameterType() {
+        HeaderColumnNameMappingStrategy<InvalidCreatorBean> strategy = new HeaderColumnNameMappingStrategy<>();
+        CsvBadConverterException e = assertThrows(CsvBadConverterException.class,
+                () -> strategy.setType(InvalidCreatorBean.class));
+        assertEquals(CsvConstructor.class, e.getConverterClass());
+    }
+
+    @Test
+    public void testJoinedFieldAsParameter() throws IOException, CsvException {
+        HeaderColumnNameMappingStrategy<JoinCreatorBean> strategy = new HeaderColumnNameMappingStrategy<>();
+        strategy.setType(JoinCreatorBean.class);
+        strategy.captureHeader(new CSVReader(new StringReader("score1,score2")));
+        CsvBadConverterException e = assertThrows(CsvBadConverterException.class,
+                () -> strategy.populateNewBean(new String[]{"1", "2"}));
+        assertEquals(CsvConstructor.class, e.getConverterClass());
+    }
+}
@@ -6,6 +6,7 @@ import org.junit.jupiter.api.Test;
 
 import java.io.StringReader;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -135,4 +136,54 @@ public class CsvToBeanFilterTest {
       assertEquals("wash dishes", list.get(1).getName(), "The second item has the wrong name.");
       assertEquals("alpha", list.get(1).getState(), "The second item has the wrong state.");
    }
+
+   @Test
+   public void testColumnFilterByName() {
+      MappingStrategy<Feature> strategy = new HeaderColumnNameMappingStrategy<>();
+      strategy.setType(Feature.class);
+      List<Feature> list = new CsvToBeanBuilder<Feature>(new StringReader(TEST_STRING))
+              .withMappingStrategy(strategy)
+              .withFilter(ColumnFilter.column("state").in("beta", "alpha")
+                      .and(ColumnFilter.column("USER_COUNT").matches("\\d{2,}")))
+              .build().parse();
+      assertEquals(1, list.size());
+      assertEquals("calc age", list.get(0).getName());
+   }
+
+   @Test
+   public void testColumnFilterWithIteratorParsing() {
+      MappingStrategy<Feature> strategy = new HeaderColumnNameMappingStrategy<>();
+      strategy.setType(Feature.class);
+      CsvToBean<Feature> ctb = new CsvToBeanBuilder<Feature>(new StringReader(TEST_STRING))
+              .withMappingStrategy(strategy)
+              .withFilter(ColumnFilter.column("STATE").equalTo("production").negate()
+                      .or(ColumnFilter.column(0).startsWith("hello")))
+              .build();
+      List<String> names = new ArrayList<>();
+      for(Feature f : ctb) { names.add(f.getName()); }
+      assertEquals(Arrays.asList("hello world", "calc age", "wash dishes"), names);
+   }
+
+   @Test
+   public void testColumnFilterByPosition() {
+      ColumnFilter filter = ColumnFilter.column(3).isBlank().and(ColumnFilter.column(1).equalToIgnoreCase("BETA"));
+      assertTrue(filter.allowLine(new String[]{"calc age", "beta", "74"}));
+      assertFalse(filter.allowLine(new String[]{"calc age", "alpha", "74"}));
+      assertFalse(filter.allowLine(new String[]{"calc age", "beta", "74", "x"}));
+      assertTrue(filter.compile(null).allowLine(new String[]{"calc age", "Beta"}));
+   }
+
+   @Test
+   public void testColumnFilterUnknownName() {
+      ColumnFilter filter = ColumnFilter.column("nonexistent").equalTo("x");
+      assertThrows(IllegalArgumentException.class, () -> filter.allowLine(new String[]{"x"}));
+      assertThrows(IllegalArgumentException.class, () -> filter.compile(new String[]{"a", "b"}));
+      MappingStrategy<Feature> strategy = new HeaderColumnNameMappingStrategy<>();
+      strategy.setType(Feature.class);
+      CsvToBean<Feature> ctb = new CsvToBeanBuilder<Feature>(new StringReader(TEST_STRING))
+              .withMappingStrategy(strategy)
+              .withFilter(filter)
+              .build();
+      assertThrows(IllegalArgumentException.class, ctb::parse);
+   }
 }
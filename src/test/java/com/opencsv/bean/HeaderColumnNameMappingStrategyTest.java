@@ -151,4 +151,15 @@ public class HeaderColumnNameMappingStrategyTest {
       strat = new HeaderColumnNameMappingStrategy<>();
         Assertions.assertThrows(IllegalStateException.class, () -> strat.generateHeader(new MockBean()));
    }
+
+    @Test
+    public void transmuteBeanFollowsNewlyCapturedHeader() throws Exception {
+        MockBean bean = new MockBean("kyle", "id", "abc123456", 123, 1.0);
+        strat.setType(MockBean.class);
+        strat.captureHeader(new CSVReader(new StringReader("name,orderNumber,num")));
+        assertArrayEquals(new String[]{"kyle", "abc123456", "123"}, strat.transmuteBean(bean));
+
+        strat.captureHeader(new CSVReader(new StringReader("num,unknown,name")));
+        assertArrayEquals(new String[]{"123", "", "kyle"}, strat.transmuteBean(bean));
+    }
 }
@@ -0,0 +1,131 @@
+package com.opencsv.bean;
+
+import com.opencsv.CSVReader;
+import com.opencsv.bean.mocks.ErrorLineMappingStrategy;
+import com.opencsv.bean.mocks.lazy.LazyMock;
+import com.opencsv.bean.mocks.lazy.LazyMockBean;
+import com.opencsv.exceptions.*;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Locale;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class LazyBeanMappingStrategyTest {
+
+    private static Locale systemLocale;
+
+    @BeforeAll
+    public static void storeSystemLocale() {
+        systemLocale = Locale.getDefault();
+    }
+
+    @BeforeEach
+    public void setSystemLocaleToValueNotGerman() {
+        Locale.setDefault(Locale.US);
+    }
+
+    @AfterEach
+    public void setSystemLocaleBackToDefault() {
+        Locale.setDefault(systemLocale);
+    }
+
+    private static LazyBeanMappingStrategy<LazyMock> createStrategy(String header, boolean eager) throws IOException, CsvRequiredFieldEmptyException {
+        HeaderColumnNameMappingStrategy<LazyMock> strategy = new HeaderColumnNameMappingStrategy<>();
+        strategy.setType(LazyMockBean.class);
+        LazyBeanMappingStrategy<LazyMock> lazy = new LazyBeanMappingStrategy<>(LazyMock.class, strategy, eager);
+        lazy.captureHeader(new CSVReader(new StringReader(header)));
+        return lazy;
+    }
+
+    @Test
+    public void testOnlyAccessedColumnsAreConverted() {
+        List<LazyMock> beans = new CsvToBeanBuilder<LazyMock>(new StringReader(
+                "name,count,date,active\nfirst,not a number,2020-02-29,true\n"))
+                .withType(LazyMockBean.class)
+                .withLazyConversion(LazyMock.class, false)
+                .build().parse();
+        assertEquals(1, beans.size());
+        LazyMock bean = beans.get(0);
+        assertFalse(bean instanceof LazyMockBean);
+        assertEquals("first", bean.getName());
+        assertEquals(LocalDate.of(2020, 2, 29), bean.getDate());
+        assertTrue(bean.isActive());
+
+        CsvRuntimeException e = assertThrows(CsvRuntimeException.class, bean::getCount);
+        assertTrue(e.getCause() instanceof CsvDataTypeMismatchException);
+        assertEquals("The value of column 1 (count) could not be converted when it was accessed.", e.getMessage());
+    }
+
+    @Test
+    public void testMaterializationAndWriting() throws CsvException, IOException {
+        LazyBeanMappingStrategy<LazyMock> strategy = createStrategy("name,count,date,active", false);
+        LazyMock bean = strategy.populateNewBean(new String[]{"first", "12", "2020-02-29", "false"});
+
+        LazyMockBean expected = new LazyMockBean();
+        expected.setName("first");
+        expected.setCount(12);
+        expected.setDate(LocalDate.of(2020, 2, 29));
+        assertEquals(bean, expected);
+        assertEquals(expected.hashCode(), bean.hashCode());
+        assertEquals(bean, strategy.populateNewBean(new String[]{"first", "12", "2020-02-29", "false"}));
+        assertSame(LazyMockBean.class, LazyBeanMappingStrategy.materialize(bean).getClass());
+        assertSame(expected, LazyBeanMappingStrategy.materialize(expected));
+
+        // Setters convert everything first, so the value is not overwritten later
+        LazyMock other = strategy.populateNewBean(new String[]{"second", "1", "2021-01-01", "true"});
+        other.setCount(5);
+        assertEquals(5, other.getCount());
+        assertArrayEquals(new String[]{"second", "5", "2021-01-01", "true"}, strategy.transmuteBean(other));
+    }
+
+    @Test
+    public void testRequiredFieldCheckedOnAccess() throws CsvException, IOException {
+        LazyBeanMappingStrategy<LazyMock> strategy = createStrategy("name,count", false);
+        LazyMock bean = strategy.populateNewBean(new String[]{"", "1"});
+        assertEquals(1, bean.getCount());
+        CsvRuntimeException e = assertThrows(CsvRuntimeException.class, bean::getName);
+        assertTrue(e.getCause() instanceof CsvRequiredFieldEmptyException);
+    }
+
+    @Test
+    public void testRequiredFieldCheckedEagerly() throws IOException, CsvRequiredFieldEmptyException {
+        LazyBeanMappingStrategy<LazyMock> strategy = createStrategy("name,count", true);
+        assertThrows(CsvRequiredFieldEmptyException.class,
+                () -> strategy.populateNewBean(new String[]{" ", "not a number"}));
+
+        CsvToBean<LazyMock> csvToBean = new CsvToBeanBuilder<LazyMock>(new StringReader("name,count\n,1\nsecond,2\n"))
+                .withType(LazyMockBean.class)
+                .withLazyConversion(LazyMock.class, true)
+                .withThrowExceptions(false)
+                .build();
+        List<LazyMock> beans = csvToBean.parse();
+        assertEquals(1, beans.size());
+        assertEquals("second", beans.get(0).getName());
+        assertEquals(1, csvToBean.getCapturedExceptions().size());
+        assertTrue(csvToBean.getCapturedExceptions().get(0) instanceof CsvRequiredFieldEmptyException);
+        assertEquals(2, csvToBean.getCapturedExceptions().get(0).getLineNumber());
+    }
+
+    @Test
+    public void testTypeMustBeInterface() {
+        HeaderColumnNameMappingStrategy<LazyMockBean> strategy = new HeaderColumnNameMappingStrategy<>();
+        assertThrows(IllegalArgumentException.class,
+                () -> new LazyBeanMappingStrategy<>(LazyMockBean.class, strategy, false));
+    }
+
+    @Test
+    public void testStrategyMustBeAbstractMappingStrategy() {
+        CsvToBeanBuilder<LazyMock> builder = new CsvToBeanBuilder<LazyMock>(new StringReader("name\nfirst\n"))
+                .withMappingStrategy(new ErrorLineMappingStrategy<>())
+                .withLazyConversion(LazyMock.class, false);
+        assertThrows(IllegalStateException.class, builder::build);
+    }
+}
@@ -31,8 +31,12 @@ import java.io.StringReader;
 import java.io.StringWriter;
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Locale;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -411,4 +415,31 @@ public class NumberTest {
         assertEquals(";\n",
                 w.toString());
     }
+
+    @Test
+    public void testConcurrentConversion() throws Exception {
+        ConverterNumber converter = new ConverterNumber(
+                Double.class, null, null, Locale.US, "#,##0.00", "#,##0.00");
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<?>> results = new ArrayList<>();
+            for(int t = 0; t < 8; t++) {
+                results.add(executor.submit(() -> {
+                    for(int i = 0; i < 10000; i++) {
+                        double d = i + 0.25;
+                        String s = converter.convertToWrite(d);
+                        assertEquals(String.format(Locale.US, "%,.2f", d), s);
+                        assertEquals(d, converter.convertToRead(s));
+                    }
+                    return null;
+                }));
+            }
+            for(Future<?> f : results) {
+                f.get();
+            }
+        }
+        finally {
+            executor.shutdown();
+        }
+    }
 }
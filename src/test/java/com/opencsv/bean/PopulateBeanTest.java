@@ -0,0 +1,130 @@
+package com.opencsv.bean;
+
+import com.opencsv.CSVReader;
+import com.opencsv.bean.mocks.MockBean;
+import com.opencsv.bean.mocks.reuse.ReusedBean;
+import com.opencsv.bean.mocks.reuse.ReusedDetail;
+import com.opencsv.exceptions.CsvDataTypeMismatchException;
+import com.opencsv.exceptions.CsvException;
+import com.opencsv.exceptions.CsvRequiredFieldEmptyException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PopulateBeanTest {
+
+    private static Locale systemLocale;
+
+    @BeforeAll
+    public static void storeSystemLocale() {
+        systemLocale = Locale.getDefault();
+    }
+
+    @BeforeEach
+    public void setSystemLocaleToValueNotGerman() {
+        Locale.setDefault(Locale.US);
+    }
+
+    @AfterEach
+    public void setSystemLocaleBackToDefault() {
+        Locale.setDefault(systemLocale);
+    }
+
+    private static HeaderColumnNameMappingStrategy<ReusedBean> createStrategy(String header) throws IOException, CsvRequiredFieldEmptyException {
+        HeaderColumnNameMappingStrategy<ReusedBean> strategy = new HeaderColumnNameMappingStrategy<>();
+        strategy.setType(ReusedBean.class);
+        strategy.captureHeader(new CSVReader(new StringReader(header)));
+        return strategy;
+    }
+
+    @Test
+    public void testValuesOfPreviousLineAreReset() throws IOException, CsvException {
+        HeaderColumnNameMappingStrategy<ReusedBean> strategy = createStrategy("name,amount,score1,score2,flag");
+        ReusedBean bean = new ReusedBean();
+        strategy.populateBean(bean, new String[]{"first", "3", "1", "2", "true"});
+        assertEquals("first", bean.getName());
+        assertEquals(3, bean.getAmount());
+        assertEquals(Collections.singletonList(1), new ArrayList<>(bean.getScores().get("score1")));
+        assertEquals(Collections.singletonList(2), new ArrayList<>(bean.getScores().get("score2")));
+        assertTrue(bean.getDetail().getFlag());
+        ReusedDetail detail = bean.getDetail();
+        Object scores = bean.getScores();
+
+        strategy.populateBean(bean, new String[]{"", "", "", "4", ""});
+        assertEquals("", bean.getName());
+        assertEquals(0, bean.getAmount());
+        assertSame(scores, bean.getScores());
+        assertFalse(bean.getScores().containsValue(1));
+        assertEquals(Collections.singletonList(4), new ArrayList<>(bean.getScores().get("score2")));
+        assertSame(detail, bean.getDetail());
+        assertNull(bean.getDetail().getFlag());
+        assertEquals("untouched", bean.getUnbound());
+    }
+
+    @Test
+    public void testFieldsNotInInputAreKept() throws IOException, CsvException {
+        HeaderColumnNameMappingStrategy<ReusedBean> strategy = createStrategy("amount");
+        ReusedBean bean = new ReusedBean();
+        bean.setName("kept");
+        strategy.populateBean(bean, new String[]{"7"});
+        assertEquals("kept", bean.getName());
+        assertEquals(7, bean.getAmount());
+        assertNotNull(bean.getDetail());
+    }
+
+    @Test
+    public void testTargetOfWrongType() throws IOException, CsvRequiredFieldEmptyException {
+        HeaderColumnNameMappingStrategy<ReusedBean> strategy = createStrategy("amount");
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        MappingStrategy<Object> raw = (MappingStrategy) strategy;
+        assertThrows(IllegalArgumentException.class, () -> raw.populateBean(new MockBean(), new String[]{"1"}));
+        assertThrows(IllegalArgumentException.class, () -> strategy.populateBean(null, new String[]{"1"}));
+    }
+
+    @Test
+    public void testForEachInto() {
+        CsvToBean<ReusedBean> csvToBean = new CsvToBeanBuilder<ReusedBean>(new StringReader(
+                "name,amount\nfirst,1\nskipped,100\nsecond,x\nthird,3\n"))
+                .withType(ReusedBean.class)
+                .withFilter(line -> !"skipped".equals(line[0]))
+                .withVerifier(b -> !"third".equals(b.getName()))
+                .withThrowExceptions(false)
+                .build();
+        AtomicInteger supplied = new AtomicInteger();
+        List<String> names = new ArrayList<>();
+        Set<ReusedBean> beans = Collections.newSetFromMap(new IdentityHashMap<>());
+        int[] sum = {0};
+        csvToBean.forEachInto(() -> {
+            supplied.incrementAndGet();
+            return new ReusedBean();
+        }, b -> {
+            beans.add(b);
+            names.add(b.getName());
+            sum[0] += b.getAmount();
+        });
+        assertEquals(1, supplied.get());
+        assertEquals(1, beans.size());
+        assertEquals(Collections.singletonList("first"), names);
+        assertEquals(1, sum[0]);
+        assertEquals(1, csvToBean.getCapturedExceptions().size());
+        CsvException e = csvToBean.getCapturedExceptions().get(0);
+        assertTrue(e instanceof CsvDataTypeMismatchException);
+        assertEquals(4, e.getLineNumber());
+    }
+
+    @Test
+    public void testForEachIntoThrows() {
+        CsvToBean<ReusedBean> csvToBean = new CsvToBeanBuilder<ReusedBean>(new StringReader("name,amount\nfirst,x\n"))
+                .withType(ReusedBean.class)
+                .build();
+        assertThrows(RuntimeException.class, () -> csvToBean.forEachInto(ReusedBean::new, b -> fail()));
+    }
+}
@@ -283,6 +283,26 @@ public class RecursionTest {
         checkReadingResults(beans);
     }
 
+    @Test
+    public void testReadingMultipleLinesCreatesSeparateBeanTrees() {
+        List<RecursionMockLevelZero> beans =
+                new CsvToBeanBuilder<RecursionMockLevelZero>(new StringReader(DATA + "20,21,d,5.0,false,64\n"))
+                        .withType(RecursionMockLevelZero.class)
+                        .withOrderedResults(true)
+                        .build().parse();
+        assertEquals(2, beans.size());
+        checkReadingResults(beans.subList(0, 1));
+        RecursionMockLevelTwo first = beans.get(0).getLevelOne().getLevelTwo();
+        RecursionMockLevelTwo second = beans.get(1).getLevelOne().getLevelTwo();
+        assertNotSame(first, second);
+        assertNotSame(first.procureTheThirdLevelPointZero(), second.procureTheThirdLevelPointZero());
+        assertEquals("21", beans.get(1).getLevelOne().getStringLevelOne());
+        assertEquals('d', second.getCharLevelTwo());
+        assertEquals(5.0f, second.procureTheThirdLevelPointZero().getFloatLevelThree());
+        assertFalse(second.getLevelThreePointOne().isBooleanLevelThree());
+        assertEquals((short)64, second.getLevelThreePointTwo().getShortLevelThree());
+    }
+
     @Test
     public void testEmbeddedBeanNoNullaryConstructor() {
         try {
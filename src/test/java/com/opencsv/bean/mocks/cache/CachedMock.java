@@ -0,0 +1,59 @@
+package com.opencsv.bean.mocks.cache;
+
+import com.opencsv.bean.*;
+import com.opencsv.bean.mocks.TestEnum;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public class CachedMock {
+
+    @CsvBindByName
+    @CsvCache
+    @CsvDate("yyyy-MM-dd")
+    private LocalDate date;
+
+    @CsvBindByName
+    @CsvCache(maximumSize = 2)
+    private TestEnum testEnum;
+
+    @CsvBindByName
+    @CsvCache
+    private String id;
+
+    @CsvBindAndSplitByName(elementType = Integer.class, splitOn = " ")
+    @CsvCache
+    private List<Integer> numbers;
+
+    public LocalDate getDate() {
+        return date;
+    }
+
+    public void setDate(LocalDate date) {
+        this.date = date;
+    }
+
+    public TestEnum getTestEnum() {
+        return testEnum;
+    }
+
+    public void setTestEnum(TestEnum testEnum) {
+        this.testEnum = testEnum;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public void setId(String id) {
+        this.id = id;
+    }
+
+    public List<Integer> getNumbers() {
+        return numbers;
+    }
+
+    public void setNumbers(List<Integer> numbers) {
+        this.numbers = numbers;
+    }
+}
@@ -0,0 +1,23 @@
+package com.opencsv.bean.mocks.cache;
+
+import com.opencsv.bean.CsvBindByName;
+import com.opencsv.bean.CsvCache;
+import com.opencsv.bean.CsvDate;
+
+import java.util.Date;
+
+public class CachedMutableType {
+
+    @CsvBindByName
+    @CsvCache
+    @CsvDate("yyyy-MM-dd")
+    private Date date;
+
+    public Date getDate() {
+        return date;
+    }
+
+    public void setDate(Date date) {
+        this.date = date;
+    }
+}
@@ -0,0 +1,31 @@
+package com.opencsv.bean.mocks.creator;
+
+import com.opencsv.bean.CsvBindByPosition;
+import com.opencsv.bean.CsvConstructor;
+
+public final class FactoryBean {
+
+    @CsvBindByPosition(position = 0)
+    private final Long id;
+
+    @CsvBindByPosition(position = 1)
+    private final double value;
+
+    private FactoryBean(Long id, double value) {
+        this.id = id;
+        this.value = value;
+    }
+
+    @CsvConstructor({"value", "id"})
+    static FactoryBean of(double value, long id) {
+        return new FactoryBean(id, value);
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public double getValue() {
+        return value;
+    }
+}
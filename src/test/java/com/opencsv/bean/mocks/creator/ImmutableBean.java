@@ -0,0 +1,50 @@
+package com.opencsv.bean.mocks.creator;
+
+import com.opencsv.bean.CsvBindByName;
+import com.opencsv.bean.CsvConstructor;
+import com.opencsv.bean.CsvDate;
+
+import java.time.LocalDate;
+
+public class ImmutableBean {
+
+    @CsvBindByName(required = true)
+    private final String name;
+
+    @CsvBindByName
+    private final int amount;
+
+    @CsvBindByName
+    @CsvDate("yyyy-MM-dd")
+    private final LocalDate date;
+
+    @CsvBindByName
+    private String comment;
+
+    @CsvConstructor({"name", "amount", "date"})
+    public ImmutableBean(String name, int amount, LocalDate date) {
+        this.name = name;
+        this.amount = amount;
+        this.date = date;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getAmount() {
+        return amount;
+    }
+
+    public LocalDate getDate() {
+        return date;
+    }
+
+    public String getComment() {
+        return comment;
+    }
+
+    public void setComment(String comment) {
+        this.comment = comment;
+    }
+}
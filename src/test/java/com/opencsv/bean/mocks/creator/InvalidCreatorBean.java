@@ -0,0 +1,19 @@
+package com.opencsv.bean.mocks.creator;
+
+import com.opencsv.bean.CsvBindByName;
+import com.opencsv.bean.CsvConstructor;
+
+public class InvalidCreatorBean {
+
+    @CsvBindByName
+    private final String name;
+
+    @CsvConstructor({"name"})
+    public InvalidCreatorBean(int name) {
+        this.name = Integer.toString(name);
+    }
+
+    public String getName() {
+        return name;
+    }
+}
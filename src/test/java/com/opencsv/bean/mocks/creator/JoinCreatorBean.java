@@ -0,0 +1,20 @@
+package com.opencsv.bean.mocks.creator;
+
+import com.opencsv.bean.CsvBindAndJoinByName;
+import com.opencsv.bean.CsvConstructor;
+import org.apache.commons.collections4.MultiValuedMap;
+
+public class JoinCreatorBean {
+
+    @CsvBindAndJoinByName(column = "score.*", elementType = Integer.class)
+    private final MultiValuedMap<String, Integer> scores;
+
+    @CsvConstructor({"scores"})
+    public JoinCreatorBean(MultiValuedMap<String, Integer> scores) {
+        this.scores = scores;
+    }
+
+    public MultiValuedMap<String, Integer> getScores() {
+        return scores;
+    }
+}
@@ -0,0 +1,16 @@
+package com.opencsv.bean.mocks.lazy;
+
+import java.time.LocalDate;
+
+public interface LazyMock {
+
+    String getName();
+
+    int getCount();
+
+    LocalDate getDate();
+
+    boolean isActive();
+
+    void setCount(int count);
+}
@@ -0,0 +1,74 @@
+package com.opencsv.bean.mocks.lazy;
+
+import com.opencsv.bean.CsvBindByName;
+import com.opencsv.bean.CsvDate;
+
+import java.time.LocalDate;
+import java.util.Objects;
+
+public class LazyMockBean implements LazyMock {
+
+    @CsvBindByName(required = true)
+    private String name;
+
+    @CsvBindByName
+    private int count;
+
+    @CsvBindByName
+    @CsvDate("yyyy-MM-dd")
+    private LocalDate date;
+
+    @CsvBindByName
+    private boolean active;
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    @Override
+    public int getCount() {
+        return count;
+    }
+
+    @Override
+    public void setCount(int count) {
+        this.count = count;
+    }
+
+    @Override
+    public LocalDate getDate() {
+        return date;
+    }
+
+    public void setDate(LocalDate date) {
+        this.date = date;
+    }
+
+    @Override
+    public boolean isActive() {
+        return active;
+    }
+
+    public void setActive(boolean active) {
+        this.active = active;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        LazyMockBean that = (LazyMockBean) o;
+        return count == that.count && active == that.active
+                && Objects.equals(name, that.name) && Objects.equals(date, that.date);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(name, count, date, active);
+    }
+}
@@ -0,0 +1,63 @@
+package com.opencsv.bean.mocks.reuse;
+
+import com.opencsv.bean.CsvBindAndJoinByName;
+import com.opencsv.bean.CsvBindByName;
+import com.opencsv.bean.CsvRecurse;
+import org.apache.commons.collections4.MultiValuedMap;
+
+public class ReusedBean {
+
+    @CsvBindByName
+    private String name;
+
+    @CsvBindByName
+    private int amount;
+
+    @CsvBindAndJoinByName(column = "score.*", elementType = Integer.class)
+    private MultiValuedMap<String, Integer> scores;
+
+    @CsvRecurse
+    private ReusedDetail detail;
+
+    private String unbound = "untouched";
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public int getAmount() {
+        return amount;
+    }
+
+    public void setAmount(int amount) {
+        this.amount = amount;
+    }
+
+    public MultiValuedMap<String, Integer> getScores() {
+        return scores;
+    }
+
+    public void setScores(MultiValuedMap<String, Integer> scores) {
+        this.scores = scores;
+    }
+
+    public ReusedDetail getDetail() {
+        return detail;
+    }
+
+    public void setDetail(ReusedDetail detail) {
+        this.detail = detail;
+    }
+
+    public String getUnbound() {
+        return unbound;
+    }
+
+    public void setUnbound(String unbound) {
+        this.unbound = unbound;
+    }
+}
@@ -0,0 +1,17 @@
+package com.opencsv.bean.mocks.reuse;
+
+import com.opencsv.bean.CsvBindByName;
+
+public class ReusedDetail {
+
+    @CsvBindByName
+    private Boolean flag;
+
+    public Boolean getFlag() {
+        return flag;
+    }
+
+    public void setFlag(Boolean flag) {
+        this.flag = flag;
+    }
+}